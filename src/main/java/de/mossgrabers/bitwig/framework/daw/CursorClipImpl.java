@@ -8,11 +8,12 @@ import de.mossgrabers.bitwig.framework.daw.data.Util;
 import de.mossgrabers.framework.controller.color.ColorEx;
 import de.mossgrabers.framework.controller.valuechanger.IValueChanger;
 import de.mossgrabers.framework.daw.IHost;
+import de.mossgrabers.framework.daw.clip.DefaultStepInfo;
 import de.mossgrabers.framework.daw.clip.INoteClip;
 import de.mossgrabers.framework.daw.clip.IStepInfo;
 import de.mossgrabers.framework.daw.clip.NoteOccurrenceType;
 import de.mossgrabers.framework.daw.clip.NotePosition;
-import de.mossgrabers.framework.daw.clip.StepState;
+import de.mossgrabers.framework.daw.clip.StepOccupancy;
 import de.mossgrabers.framework.daw.constants.Resolution;
 import de.mossgrabers.framework.daw.constants.TransportConstants;
 import de.mossgrabers.framework.daw.data.empty.EmptyStepInfo;
@@ -26,7 +27,11 @@ import com.bitwig.extension.controller.api.SettableColorValue;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 
 /**
@@ -36,16 +41,44 @@ import java.util.List;
  */
 public class CursorClipImpl implements INoteClip
 {
-    private final IHost              host;
-    private final IValueChanger      valueChanger;
-    private final int                numSteps;
-    private final int                numRows;
-
-    private final IStepInfo [] [] [] launcherData;
-    private final PinnableCursorClip launcherClip;
-    private int                      editPage  = 0;
-    private double                   stepLength;
-    private final List<NotePosition> editSteps = new ArrayList<> ();
+    private static final int                 CHANGED_MUTE                  = 1;
+    private static final int                 CHANGED_DURATION              = 1 << 1;
+    private static final int                 CHANGED_VELOCITY              = 1 << 2;
+    private static final int                 CHANGED_VELOCITY_SPREAD       = 1 << 3;
+    private static final int                 CHANGED_RELEASE_VELOCITY      = 1 << 4;
+    private static final int                 CHANGED_PRESSURE              = 1 << 5;
+    private static final int                 CHANGED_TIMBRE                = 1 << 6;
+    private static final int                 CHANGED_PAN                   = 1 << 7;
+    private static final int                 CHANGED_TRANSPOSE             = 1 << 8;
+    private static final int                 CHANGED_GAIN                  = 1 << 9;
+    private static final int                 CHANGED_CHANCE_ENABLED        = 1 << 10;
+    private static final int                 CHANGED_CHANCE                = 1 << 11;
+    private static final int                 CHANGED_OCCURRENCE_ENABLED    = 1 << 12;
+    private static final int                 CHANGED_OCCURRENCE            = 1 << 13;
+    private static final int                 CHANGED_RECURRENCE_ENABLED    = 1 << 14;
+    private static final int                 CHANGED_RECURRENCE            = 1 << 15;
+    private static final int                 CHANGED_REPEAT_ENABLED        = 1 << 16;
+    private static final int                 CHANGED_REPEAT_COUNT          = 1 << 17;
+    private static final int                 CHANGED_REPEAT_CURVE          = 1 << 18;
+    private static final int                 CHANGED_REPEAT_VELOCITY_CURVE = 1 << 19;
+    private static final int                 CHANGED_REPEAT_VELOCITY_END   = 1 << 20;
+
+    private static final int                 FLUSH_DELAY                   = 20;
+    private static final int                 EDIT_FLUSH_DELAY              = 100;
+
+    private final IHost                      host;
+    private final IValueChanger              valueChanger;
+    private final int                        numSteps;
+    private final int                        numRows;
+
+    private final IStepInfo [] [] []         launcherData;
+    private final StepOccupancy              launcherOccupancy;
+    private final PinnableCursorClip         launcherClip;
+    private int                              editPage                      = 0;
+    private double                           stepLength;
+    private final Set<NotePosition>          editSteps                     = new HashSet<> ();
+    private final Map<NotePosition, Integer> pendingChanges                = new LinkedHashMap<> ();
+    private boolean                          isFlushScheduled;
 
 
     /**
@@ -67,6 +100,7 @@ public class CursorClipImpl implements INoteClip
         this.stepLength = 1.0 / 4.0; // 16th
 
         this.launcherData = new IStepInfo [16] [this.numSteps] [];
+        this.launcherOccupancy = new StepOccupancy (this.numSteps, this.numRows);
 
         // TODO Bugfix required: https://github.com/teotigraphix/Framework4Bitwig/issues/140
         this.launcherClip = cursorTrack.createLauncherCursorClip (this.numSteps, this.numRows);
@@ -484,8 +518,8 @@ public class CursorClipImpl implements INoteClip
     {
         final StepInfoImpl stepInfo = this.getUpdateableStep (notePosition);
         stepInfo.setMuted (isMuted);
-        if (this.editSteps.isEmpty ())
-            this.getNoteStep (notePosition).setIsMuted (isMuted);
+        this.updateStepOccupancy (notePosition, stepInfo);
+        this.markChanged (notePosition, CHANGED_MUTE);
     }
 
 
@@ -507,8 +541,7 @@ public class CursorClipImpl implements INoteClip
         final double d = Math.max (0, duration);
         final StepInfoImpl stepInfo = this.getUpdateableStep (notePosition);
         stepInfo.setDuration (d);
-        if (this.editSteps.isEmpty ())
-            this.getNoteStep (notePosition).setDuration (d);
+        this.markChanged (notePosition, CHANGED_DURATION);
     }
 
 
@@ -530,8 +563,7 @@ public class CursorClipImpl implements INoteClip
         final double v = Math.min (1.0, Math.max (0, velocity));
         final StepInfoImpl stepInfo = this.getUpdateableStep (notePosition);
         stepInfo.setVelocity (v);
-        if (this.editSteps.isEmpty ())
-            this.getNoteStep (notePosition).setVelocity (v);
+        this.markChanged (notePosition, CHANGED_VELOCITY);
     }
 
 
@@ -552,8 +584,7 @@ public class CursorClipImpl implements INoteClip
         final double v = Math.min (1.0, Math.max (0, velocitySpread));
         final StepInfoImpl stepInfo = this.getUpdateableStep (notePosition);
         stepInfo.setVelocitySpread (v);
-        if (this.editSteps.isEmpty ())
-            this.getNoteStep (notePosition).setVelocitySpread (v);
+        this.markChanged (notePosition, CHANGED_VELOCITY_SPREAD);
     }
 
 
@@ -574,8 +605,7 @@ public class CursorClipImpl implements INoteClip
         final double rv = Math.min (1.0, Math.max (0, releaseVelocity));
         final StepInfoImpl stepInfo = this.getUpdateableStep (notePosition);
         stepInfo.setReleaseVelocity (rv);
-        if (this.editSteps.isEmpty ())
-            this.getNoteStep (notePosition).setReleaseVelocity (rv);
+        this.markChanged (notePosition, CHANGED_RELEASE_VELOCITY);
     }
 
 
@@ -596,8 +626,7 @@ public class CursorClipImpl implements INoteClip
         final double p = Math.min (1.0, Math.max (0, pressure));
         final StepInfoImpl stepInfo = this.getUpdateableStep (notePosition);
         stepInfo.setPressure (p);
-        if (this.editSteps.isEmpty ())
-            this.getNoteStep (notePosition).setPressure (p);
+        this.markChanged (notePosition, CHANGED_PRESSURE);
     }
 
 
@@ -618,8 +647,7 @@ public class CursorClipImpl implements INoteClip
         final double t = Math.min (1.0, Math.max (-1.0, timbre));
         final StepInfoImpl stepInfo = this.getUpdateableStep (notePosition);
         stepInfo.setTimbre (t);
-        if (this.editSteps.isEmpty ())
-            this.getNoteStep (notePosition).setTimbre (t);
+        this.markChanged (notePosition, CHANGED_TIMBRE);
     }
 
 
@@ -640,8 +668,7 @@ public class CursorClipImpl implements INoteClip
         final double p = Math.min (1.0, Math.max (-1.0, pan));
         final StepInfoImpl stepInfo = this.getUpdateableStep (notePosition);
         stepInfo.setPan (p);
-        if (this.editSteps.isEmpty ())
-            this.getNoteStep (notePosition).setPan (p);
+        this.markChanged (notePosition, CHANGED_PAN);
     }
 
 
@@ -662,8 +689,7 @@ public class CursorClipImpl implements INoteClip
         final double t = Math.min (24.0, Math.max (-24.0, transpose));
         final StepInfoImpl stepInfo = this.getUpdateableStep (notePosition);
         stepInfo.setTranspose (t);
-        if (this.editSteps.isEmpty ())
-            this.getNoteStep (notePosition).setTranspose (t);
+        this.markChanged (notePosition, CHANGED_TRANSPOSE);
     }
 
 
@@ -684,8 +710,7 @@ public class CursorClipImpl implements INoteClip
         final double g = Math.min (1.0, Math.max (0, gain));
         final StepInfoImpl stepInfo = this.getUpdateableStep (notePosition);
         stepInfo.setGain (g);
-        if (this.editSteps.isEmpty ())
-            this.getNoteStep (notePosition).setGain (g);
+        this.markChanged (notePosition, CHANGED_GAIN);
     }
 
 
@@ -695,8 +720,7 @@ public class CursorClipImpl implements INoteClip
     {
         final StepInfoImpl stepInfo = this.getUpdateableStep (notePosition);
         stepInfo.setIsChanceEnabled (isEnabled);
-        if (this.editSteps.isEmpty ())
-            this.getNoteStep (notePosition).setIsChanceEnabled (isEnabled);
+        this.markChanged (notePosition, CHANGED_CHANCE_ENABLED);
     }
 
 
@@ -717,8 +741,7 @@ public class CursorClipImpl implements INoteClip
         final double c = Math.min (1.0, Math.max (0, chance));
         final StepInfoImpl stepInfo = this.getUpdateableStep (notePosition);
         stepInfo.setChance (c);
-        if (this.editSteps.isEmpty ())
-            this.getNoteStep (notePosition).setChance (c);
+        this.markChanged (notePosition, CHANGED_CHANCE);
     }
 
 
@@ -728,8 +751,7 @@ public class CursorClipImpl implements INoteClip
     {
         final StepInfoImpl stepInfo = this.getUpdateableStep (notePosition);
         stepInfo.setIsOccurrenceEnabled (isEnabled);
-        if (this.editSteps.isEmpty ())
-            this.getNoteStep (notePosition).setIsOccurrenceEnabled (isEnabled);
+        this.markChanged (notePosition, CHANGED_OCCURRENCE_ENABLED);
     }
 
 
@@ -744,8 +766,7 @@ public class CursorClipImpl implements INoteClip
         final int newIndex = Math.max (0, Math.min (types.size () - 1, typeIndex + (increase ? 1 : -1)));
         final NoteOccurrenceType newType = types.get (newIndex);
         stepInfo.setOccurrence (newType);
-        if (this.editSteps.isEmpty ())
-            this.getNoteStep (notePosition).setOccurrence (NoteOccurrence.valueOf (newType.name ()));
+        this.markChanged (notePosition, CHANGED_OCCURRENCE);
     }
 
 
@@ -755,8 +776,7 @@ public class CursorClipImpl implements INoteClip
     {
         final StepInfoImpl stepInfo = this.getUpdateableStep (notePosition);
         stepInfo.setOccurrence (occurrence);
-        if (this.editSteps.isEmpty ())
-            this.getNoteStep (notePosition).setOccurrence (NoteOccurrence.valueOf (occurrence.name ()));
+        this.markChanged (notePosition, CHANGED_OCCURRENCE);
     }
 
 
@@ -766,8 +786,7 @@ public class CursorClipImpl implements INoteClip
     {
         final StepInfoImpl stepInfo = this.getUpdateableStep (notePosition);
         stepInfo.setIsRecurrenceEnabled (isEnabled);
-        if (this.editSteps.isEmpty ())
-            this.getNoteStep (notePosition).setIsRecurrenceEnabled (isEnabled);
+        this.markChanged (notePosition, CHANGED_RECURRENCE_ENABLED);
     }
 
 
@@ -788,11 +807,7 @@ public class CursorClipImpl implements INoteClip
         final int rl = Math.min (8, Math.max (1, recurrenceLength));
         final StepInfoImpl stepInfo = this.getUpdateableStep (notePosition);
         stepInfo.setRecurrenceLength (rl);
-        if (this.editSteps.isEmpty ())
-        {
-            final NoteStep noteStep = this.getNoteStep (notePosition);
-            noteStep.setRecurrence (rl, noteStep.recurrenceMask ());
-        }
+        this.markChanged (notePosition, CHANGED_RECURRENCE);
     }
 
 
@@ -802,11 +817,7 @@ public class CursorClipImpl implements INoteClip
     {
         final StepInfoImpl stepInfo = this.getUpdateableStep (notePosition);
         stepInfo.setRecurrenceMask (mask);
-        if (this.editSteps.isEmpty ())
-        {
-            final NoteStep noteStep = this.getNoteStep (notePosition);
-            noteStep.setRecurrence (noteStep.recurrenceLength (), mask);
-        }
+        this.markChanged (notePosition, CHANGED_RECURRENCE);
     }
 
 
@@ -816,8 +827,7 @@ public class CursorClipImpl implements INoteClip
     {
         final StepInfoImpl stepInfo = this.getUpdateableStep (notePosition);
         stepInfo.setIsRepeatEnabled (isEnabled);
-        if (this.editSteps.isEmpty ())
-            this.getNoteStep (notePosition).setIsRepeatEnabled (isEnabled);
+        this.markChanged (notePosition, CHANGED_REPEAT_ENABLED);
     }
 
 
@@ -838,8 +848,7 @@ public class CursorClipImpl implements INoteClip
         final int v = Math.min (127, Math.max (-127, value));
         final StepInfoImpl stepInfo = this.getUpdateableStep (notePosition);
         stepInfo.setRepeatCount (v);
-        if (this.editSteps.isEmpty ())
-            this.getNoteStep (notePosition).setRepeatCount (v);
+        this.markChanged (notePosition, CHANGED_REPEAT_COUNT);
     }
 
 
@@ -860,8 +869,7 @@ public class CursorClipImpl implements INoteClip
         final double v = Math.min (1.0, Math.max (-1.0, value));
         final StepInfoImpl stepInfo = this.getUpdateableStep (notePosition);
         stepInfo.setRepeatCurve (v);
-        if (this.editSteps.isEmpty ())
-            this.getNoteStep (notePosition).setRepeatCurve (v);
+        this.markChanged (notePosition, CHANGED_REPEAT_CURVE);
     }
 
 
@@ -882,8 +890,7 @@ public class CursorClipImpl implements INoteClip
         final double vc = Math.min (1.0, Math.max (-1.0, velocityCurve));
         final StepInfoImpl stepInfo = this.getUpdateableStep (notePosition);
         stepInfo.setRepeatVelocityCurve (vc);
-        if (this.editSteps.isEmpty ())
-            this.getNoteStep (notePosition).setRepeatVelocityCurve (vc);
+        this.markChanged (notePosition, CHANGED_REPEAT_VELOCITY_CURVE);
     }
 
 
@@ -904,8 +911,7 @@ public class CursorClipImpl implements INoteClip
         final double ve = Math.min (1.0, Math.max (-1.0, velocityEnd));
         final StepInfoImpl stepInfo = this.getUpdateableStep (notePosition);
         stepInfo.setRepeatVelocityEnd (ve);
-        if (this.editSteps.isEmpty ())
-            this.getNoteStep (notePosition).setRepeatVelocityEnd (ve);
+        this.markChanged (notePosition, CHANGED_REPEAT_VELOCITY_END);
     }
 
 
@@ -929,13 +935,7 @@ public class CursorClipImpl implements INoteClip
     @Override
     public boolean hasRowData (final int channel, final int row)
     {
-        final IStepInfo [] [] [] data = this.getStepInfos ();
-        for (int step = 0; step < this.numSteps; step++)
-        {
-            if (data[channel] != null && data[channel][step] != null && data[channel][step][row] != null && data[channel][step][row].getState () != StepState.OFF)
-                return true;
-        }
-        return false;
+        return this.getStepOccupancy ().hasRowData (channel, row);
     }
 
 
@@ -943,14 +943,7 @@ public class CursorClipImpl implements INoteClip
     @Override
     public int getLowestRowWithData ()
     {
-        int min = 128;
-        for (int channel = 0; channel < 16; channel++)
-        {
-            final int lower = this.getLowestRowWithData (channel);
-            if (lower >= 0 && lower < min)
-                min = lower;
-        }
-        return min == 128 ? -1 : min;
+        return this.getStepOccupancy ().getLowestRow (-1);
     }
 
 
@@ -958,14 +951,7 @@ public class CursorClipImpl implements INoteClip
     @Override
     public int getHighestRowWithData ()
     {
-        int max = -1;
-        for (int channel = 0; channel < 16; channel++)
-        {
-            final int upper = this.getHighestRowWithData (channel);
-            if (upper >= 0 && upper > max)
-                max = upper;
-        }
-        return max;
+        return this.getStepOccupancy ().getHighestRow (-1);
     }
 
 
@@ -973,10 +959,7 @@ public class CursorClipImpl implements INoteClip
     @Override
     public int getLowestRowWithData (final int channel)
     {
-        for (int row = 0; row < this.numRows; row++)
-            if (this.hasRowData (channel, row))
-                return row;
-        return -1;
+        return this.getStepOccupancy ().getLowestRow (channel);
     }
 
 
@@ -984,10 +967,7 @@ public class CursorClipImpl implements INoteClip
     @Override
     public int getHighestRowWithData (final int channel)
     {
-        for (int row = this.numRows - 1; row >= 0; row--)
-            if (this.hasRowData (channel, row))
-                return row;
-        return -1;
+        return this.getStepOccupancy ().getHighestRow (channel);
     }
 
 
@@ -995,13 +975,35 @@ public class CursorClipImpl implements INoteClip
     @Override
     public int getHighestRow (final int channel, final int step)
     {
-        for (int row = this.numRows - 1; row >= 0; row--)
-        {
-            final IStepInfo [] [] [] data = this.getStepInfos ();
-            if (data[channel] != null && data[channel][step] != null && data[channel][step][row] != null && data[channel][step][row].getState () != StepState.OFF)
-                return row;
-        }
-        return -1;
+        return this.getStepOccupancy ().getHighestRow (channel, step);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public IStepInfo getStepSummary (final int channel, final int step)
+    {
+        final StepOccupancy stepOccupancy = this.getStepOccupancy ();
+        final DefaultStepInfo summary = new DefaultStepInfo ();
+        summary.setState (stepOccupancy.getStepState (channel, step));
+        summary.setMuted (stepOccupancy.isStepMuted (channel, step));
+        return summary;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public int getNextStepWithData (final int channel, final int row, final int step, final int length)
+    {
+        return this.getStepOccupancy ().getNextStep (channel, row, step, length);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public int getPreviousStepWithData (final int channel, final int row, final int step, final int length)
+    {
+        return this.getStepOccupancy ().getPreviousStep (channel, row, step, length);
     }
 
 
@@ -1102,9 +1104,8 @@ public class CursorClipImpl implements INoteClip
         // Is there a previous edit, which is not stopped yet?
         this.stopEdit ();
 
-        this.editSteps.addAll (editSteps);
-        for (final NotePosition step: this.editSteps)
-            this.delayedUpdate (step);
+        for (final NotePosition editStep: editSteps)
+            this.editSteps.add (new NotePosition (editStep));
     }
 
 
@@ -1112,59 +1113,103 @@ public class CursorClipImpl implements INoteClip
     @Override
     public void stopEdit ()
     {
-        for (final NotePosition editStep: this.editSteps)
-            this.sendClipData (editStep);
         this.editSteps.clear ();
+        this.flushChanges ();
     }
 
 
-    private void delayedUpdate (final NotePosition editStep)
+    /**
+     * Mark an attribute of a step as changed. The changes of all steps are sent together to
+     * Bitwig with the next flush. Therefore, several changes of the same attribute (e.g. from an
+     * encoder) result in only one update. While editing the flush is delayed further to prevent
+     * round-trip errors.
+     *
+     * @param notePosition The position of the note
+     * @param change The flag of the changed attribute
+     */
+    private void markChanged (final NotePosition notePosition, final int change)
     {
-        if (this.editSteps.isEmpty ())
+        this.pendingChanges.merge (new NotePosition (notePosition), Integer.valueOf (change), (oldChanges, newChanges) -> Integer.valueOf (oldChanges.intValue () | newChanges.intValue ()));
+
+        if (this.isFlushScheduled)
             return;
-        this.sendClipData (editStep);
-        this.host.scheduleTask ( () -> this.delayedUpdate (new NotePosition (editStep.getChannel (), editStep.getStep (), editStep.getNote ())), 100);
+        this.isFlushScheduled = true;
+        this.host.scheduleTask ( () -> {
+            this.isFlushScheduled = false;
+            this.flushChanges ();
+        }, this.editSteps.isEmpty () ? FLUSH_DELAY : EDIT_FLUSH_DELAY);
     }
 
 
     /**
-     * Update the locally changed step data in Bitwig.
+     * Send all pending changes to Bitwig.
+     */
+    private void flushChanges ()
+    {
+        if (this.pendingChanges.isEmpty ())
+            return;
+        final List<Map.Entry<NotePosition, Integer>> changes = new ArrayList<> (this.pendingChanges.entrySet ());
+        this.pendingChanges.clear ();
+        for (final Map.Entry<NotePosition, Integer> entry: changes)
+            this.sendClipData (entry.getKey (), entry.getValue ().intValue ());
+    }
+
+
+    /**
+     * Update the locally changed attributes of a step in Bitwig.
      *
      * @param notePosition The position of the note
+     * @param changes The flags of the changed attributes
      */
-    private void sendClipData (final NotePosition notePosition)
+    private void sendClipData (final NotePosition notePosition, final int changes)
     {
         final NoteStep noteInfo = this.getNoteStep (notePosition);
         if (noteInfo == null)
             return;
 
         final IStepInfo stepInfo = this.getStep (notePosition);
-        noteInfo.setIsMuted (stepInfo.isMuted ());
-        noteInfo.setDuration (stepInfo.getDuration ());
-        noteInfo.setVelocity (stepInfo.getVelocity ());
-        noteInfo.setVelocitySpread (stepInfo.getVelocitySpread ());
-        noteInfo.setReleaseVelocity (stepInfo.getReleaseVelocity ());
-        noteInfo.setPressure (stepInfo.getPressure ());
-        noteInfo.setTimbre (stepInfo.getTimbre ());
-        noteInfo.setPan (stepInfo.getPan ());
-        noteInfo.setTranspose (stepInfo.getTranspose ());
-        noteInfo.setGain (stepInfo.getGain ());
-
-        noteInfo.setIsChanceEnabled (stepInfo.isChanceEnabled ());
-        noteInfo.setChance (stepInfo.getChance ());
-
-        noteInfo.setIsOccurrenceEnabled (stepInfo.isOccurrenceEnabled ());
-        noteInfo.setOccurrence (NoteOccurrence.valueOf (stepInfo.getOccurrence ().name ()));
-
-        noteInfo.setIsRecurrenceEnabled (stepInfo.isRecurrenceEnabled ());
-        final int recurrenceLength = Math.max (1, stepInfo.getRecurrenceLength ());
-        noteInfo.setRecurrence (recurrenceLength, stepInfo.getRecurrenceMask ());
-
-        noteInfo.setIsRepeatEnabled (stepInfo.isRepeatEnabled ());
-        noteInfo.setRepeatCount (stepInfo.getRepeatCount ());
-        noteInfo.setRepeatCurve (stepInfo.getRepeatCurve ());
-        noteInfo.setRepeatVelocityCurve (stepInfo.getRepeatVelocityCurve ());
-        noteInfo.setRepeatVelocityEnd (stepInfo.getRepeatVelocityEnd ());
+        if ((changes & CHANGED_MUTE) != 0)
+            noteInfo.setIsMuted (stepInfo.isMuted ());
+        if ((changes & CHANGED_DURATION) != 0)
+            noteInfo.setDuration (stepInfo.getDuration ());
+        if ((changes & CHANGED_VELOCITY) != 0)
+            noteInfo.setVelocity (stepInfo.getVelocity ());
+        if ((changes & CHANGED_VELOCITY_SPREAD) != 0)
+            noteInfo.setVelocitySpread (stepInfo.getVelocitySpread ());
+        if ((changes & CHANGED_RELEASE_VELOCITY) != 0)
+            noteInfo.setReleaseVelocity (stepInfo.getReleaseVelocity ());
+        if ((changes & CHANGED_PRESSURE) != 0)
+            noteInfo.setPressure (stepInfo.getPressure ());
+        if ((changes & CHANGED_TIMBRE) != 0)
+            noteInfo.setTimbre (stepInfo.getTimbre ());
+        if ((changes & CHANGED_PAN) != 0)
+            noteInfo.setPan (stepInfo.getPan ());
+        if ((changes & CHANGED_TRANSPOSE) != 0)
+            noteInfo.setTranspose (stepInfo.getTranspose ());
+        if ((changes & CHANGED_GAIN) != 0)
+            noteInfo.setGain (stepInfo.getGain ());
+        if ((changes & CHANGED_CHANCE_ENABLED) != 0)
+            noteInfo.setIsChanceEnabled (stepInfo.isChanceEnabled ());
+        if ((changes & CHANGED_CHANCE) != 0)
+            noteInfo.setChance (stepInfo.getChance ());
+        if ((changes & CHANGED_OCCURRENCE_ENABLED) != 0)
+            noteInfo.setIsOccurrenceEnabled (stepInfo.isOccurrenceEnabled ());
+        if ((changes & CHANGED_OCCURRENCE) != 0)
+            noteInfo.setOccurrence (NoteOccurrence.valueOf (stepInfo.getOccurrence ().name ()));
+        if ((changes & CHANGED_RECURRENCE_ENABLED) != 0)
+            noteInfo.setIsRecurrenceEnabled (stepInfo.isRecurrenceEnabled ());
+        if ((changes & CHANGED_RECURRENCE) != 0)
+            noteInfo.setRecurrence (Math.max (1, stepInfo.getRecurrenceLength ()), stepInfo.getRecurrenceMask ());
+        if ((changes & CHANGED_REPEAT_ENABLED) != 0)
+            noteInfo.setIsRepeatEnabled (stepInfo.isRepeatEnabled ());
+        if ((changes & CHANGED_REPEAT_COUNT) != 0)
+            noteInfo.setRepeatCount (stepInfo.getRepeatCount ());
+        if ((changes & CHANGED_REPEAT_CURVE) != 0)
+            noteInfo.setRepeatCurve (stepInfo.getRepeatCurve ());
+        if ((changes & CHANGED_REPEAT_VELOCITY_CURVE) != 0)
+            noteInfo.setRepeatVelocityCurve (stepInfo.getRepeatVelocityCurve ());
+        if ((changes & CHANGED_REPEAT_VELOCITY_END) != 0)
+            noteInfo.setRepeatVelocityEnd (stepInfo.getRepeatVelocityEnd ());
     }
 
 
@@ -1179,14 +1224,26 @@ public class CursorClipImpl implements INoteClip
         final int step = noteStep.x ();
         final int note = noteStep.y ();
 
-        for (final NotePosition editStep: this.editSteps)
-        {
-            // Is the note among the currently edited ones?
-            if (editStep.getChannel () == channel && editStep.getStep () == step && editStep.getNote () == note)
-                return;
-        }
+        // Is the note among the currently edited ones or are there changes which are not sent yet?
+        final NotePosition notePosition = new NotePosition (channel, step, note);
+        if (this.editSteps.contains (notePosition) || this.pendingChanges.containsKey (notePosition))
+            return;
 
-        this.getUpdateableStep (new NotePosition (channel, step, note)).updateData (noteStep);
+        final StepInfoImpl stepInfo = this.getUpdateableStep (notePosition);
+        stepInfo.updateData (noteStep);
+        this.updateStepOccupancy (notePosition, stepInfo);
+    }
+
+
+    /**
+     * Update the summary of the notes with the data of a step.
+     *
+     * @param notePosition The position of the note
+     * @param stepInfo The data of the note
+     */
+    private void updateStepOccupancy (final NotePosition notePosition, final IStepInfo stepInfo)
+    {
+        this.getStepOccupancy ().set (notePosition.getChannel (), notePosition.getStep (), notePosition.getNote (), stepInfo.getState (), stepInfo.isMuted ());
     }
 
 
@@ -1262,4 +1319,16 @@ public class CursorClipImpl implements INoteClip
         // Note: Keep this in a function in case the issue with arranger clips gets ever fixed
         return this.launcherData;
     }
+
+
+    /**
+     * Get the launcher or arranger index of the rows which contain notes. Depending on which is
+     * active.
+     *
+     * @return The index
+     */
+    private StepOccupancy getStepOccupancy ()
+    {
+        return this.launcherOccupancy;
+    }
 }
\ No newline at end of file
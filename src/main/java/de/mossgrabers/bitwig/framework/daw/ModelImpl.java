@@ -281,7 +281,13 @@ public class ModelImpl extends AbstractModel
     @Override
     public INoteClip getNoteClip (final int cols, final int rows)
     {
-        return this.cursorClips.computeIfAbsent (cols + "-" + rows, k -> new CursorClipImpl (this.host, this.bwCursorTrack, this.valueChanger, cols, rows));
+        INoteClip clip = this.findNoteClip (cols, rows);
+        if (clip == null)
+        {
+            clip = new CursorClipImpl (this.host, this.bwCursorTrack, this.valueChanger, cols, rows);
+            this.addNoteClip (cols, rows, clip);
+        }
+        return clip;
     }
 
 
@@ -311,9 +317,9 @@ public class ModelImpl extends AbstractModel
     @Override
     public INoteClip getCursorClip ()
     {
-        if (this.cursorClips.isEmpty ())
+        if (this.cursorClips.length == 0)
             throw new FrameworkException ("No cursor clip created!");
-        return this.cursorClips.values ().iterator ().next ();
+        return this.cursorClips[0];
     }
 
 
@@ -86,6 +86,22 @@ public class EqualizerDeviceImpl extends SpecificDeviceImpl implements IEqualize
     }
 
 
+    /** {@inheritDoc} */
+    @Override
+    public void enableObservers (final boolean enable)
+    {
+        super.enableObservers (enable);
+
+        for (int i = 0; i < NUMBER_OF_BANDS; i++)
+        {
+            this.types.get (i).enableObservers (enable);
+            this.frequencies.get (i).enableObservers (enable);
+            this.gains.get (i).enableObservers (enable);
+            this.qs.get (i).enableObservers (enable);
+        }
+    }
+
+
     /** {@inheritDoc} */
     @Override
     public int getBandCount ()
@@ -5,6 +5,7 @@
 package de.mossgrabers.bitwig.framework.daw.data;
 
 import de.mossgrabers.framework.controller.valuechanger.IValueChanger;
+import de.mossgrabers.framework.observer.IValueObserver;
 import de.mossgrabers.framework.parameter.AbstractParameterImpl;
 
 import com.bitwig.extension.controller.api.DoubleValue;
@@ -119,6 +120,16 @@ public class RangedValueImpl extends AbstractParameterImpl
     }
 
 
+    /** {@inheritDoc} */
+    @Override
+    public boolean addValueObserver (final IValueObserver<Integer> observer)
+    {
+        // Note: changes of the target value (see setTargetInfo) are not reported
+        this.rangedValue.addValueObserver (value -> observer.update (Integer.valueOf (this.valueChanger.fromNormalizedValue (value))));
+        return true;
+    }
+
+
     /** {@inheritDoc} */
     @Override
     public void setValue (final IValueChanger valueChanger, final int value)
@@ -6,6 +6,7 @@ package de.mossgrabers.bitwig.framework.graphics;
 
 import de.mossgrabers.framework.controller.color.ColorEx;
 import de.mossgrabers.framework.graphics.Align;
+import de.mossgrabers.framework.graphics.IBounds;
 import de.mossgrabers.framework.graphics.IGraphicsContext;
 import de.mossgrabers.framework.graphics.IImage;
 import de.mossgrabers.framework.utils.StringUtils;
@@ -15,6 +16,8 @@ import com.bitwig.extension.api.graphics.GraphicsOutput;
 import com.bitwig.extension.api.graphics.GraphicsOutput.AntialiasMode;
 import com.bitwig.extension.api.graphics.Image;
 
+import java.util.List;
+
 
 /**
  * Implementation for the graphics context.
@@ -281,6 +284,24 @@ public class GraphicsContextImpl implements IGraphicsContext
     }
 
 
+    /** {@inheritDoc} */
+    @Override
+    public void setClip (final List<IBounds> areas)
+    {
+        for (final IBounds area: areas)
+            this.gc.rectangle (area.left (), area.top (), area.width (), area.height ());
+        this.gc.clip ();
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void resetClip ()
+    {
+        this.gc.resetClip ();
+    }
+
+
     protected void setColor (final ColorEx color)
     {
         this.gc.setColor (color.getRed (), color.getGreen (), color.getBlue ());
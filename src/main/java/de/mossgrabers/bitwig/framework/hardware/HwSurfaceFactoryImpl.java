@@ -19,6 +19,7 @@ import de.mossgrabers.framework.controller.hardware.IHwPianoKeyboard;
 import de.mossgrabers.framework.controller.hardware.IHwRelativeKnob;
 import de.mossgrabers.framework.controller.hardware.IHwSurfaceFactory;
 import de.mossgrabers.framework.controller.hardware.IHwTextDisplay;
+import de.mossgrabers.framework.controller.hardware.LongPressTimer;
 import de.mossgrabers.framework.controller.valuechanger.RelativeEncoding;
 import de.mossgrabers.framework.graphics.IBitmap;
 import de.mossgrabers.framework.utils.OperatingSystem;
@@ -69,11 +70,11 @@ public class HwSurfaceFactoryImpl implements IHwSurfaceFactory
 
     /** {@inheritDoc} */
     @Override
-    public IHwButton createButton (final int surfaceID, final ButtonID buttonID, final String label)
+    public IHwButton createButton (final int surfaceID, final ButtonID buttonID, final String label, final LongPressTimer longPressTimer)
     {
         final String id = createID (surfaceID, buttonID.name ());
         final HardwareButton hwButton = this.hardwareSurface.createHardwareButton (id);
-        return new HwButtonImpl (this.host, hwButton, label);
+        return new HwButtonImpl (this.host, hwButton, label, longPressTimer);
     }
 
 
@@ -85,8 +86,24 @@ public class HwSurfaceFactoryImpl implements IHwSurfaceFactory
         final String id = createID (surfaceID, outputID == null ? "LIGHT" + this.lightCounter : outputID.name ());
 
         final MultiStateHardwareLight hardwareLight = this.hardwareSurface.createMultiStateHardwareLight (id);
-        final Supplier<InternalHardwareLightState> valueSupplier = () -> new RawColorLightState (supplier.get ());
+        final LightStateCache<RawColorLightState> cache = new LightStateCache<> ();
+        final Supplier<InternalHardwareLightState> valueSupplier = () -> {
+            final ColorEx color = supplier.get ();
+            final int key = color.encode ();
+            RawColorLightState state = cache.get (key);
+            if (state == null)
+            {
+                state = new RawColorLightState (color);
+                cache.put (key, state);
+            }
+            return state;
+        };
         final Consumer<InternalHardwareLightState> hardwareUpdater = state -> {
+            if (state instanceof final RawColorLightState rawState)
+            {
+                sendValueConsumer.accept (rawState.getColorState ());
+                return;
+            }
             final HardwareLightVisualState visualState = state == null ? null : state.getVisualState ();
             final Color c = visualState == null ? Color.blackColor () : visualState.getColor ();
             sendValueConsumer.accept (new ColorEx (c.getRed (), c.getGreen (), c.getBlue ()));
@@ -104,7 +121,17 @@ public class HwSurfaceFactoryImpl implements IHwSurfaceFactory
 
         final MultiStateHardwareLight hardwareLight = this.hardwareSurface.createMultiStateHardwareLight (id);
 
-        final Supplier<InternalHardwareLightState> valueSupplier = () -> new EncodedColorLightState (supplier.getAsInt (), stateToColorFunction);
+        final LightStateCache<EncodedColorLightState> cache = new LightStateCache<> ();
+        final Supplier<InternalHardwareLightState> valueSupplier = () -> {
+            final int encodedColorState = supplier.getAsInt ();
+            EncodedColorLightState state = cache.get (encodedColorState);
+            if (state == null)
+            {
+                state = new EncodedColorLightState (encodedColorState, stateToColorFunction);
+                cache.put (encodedColorState, state);
+            }
+            return state;
+        };
         final Consumer<InternalHardwareLightState> hardwareUpdater = state -> {
             final HardwareLightVisualState visualState = state == null ? null : state.getVisualState ();
             final int encodedColorState = visualState == null ? 0 : supplier.getAsInt ();
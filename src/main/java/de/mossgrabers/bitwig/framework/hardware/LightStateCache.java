@@ -0,0 +1,120 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2023
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.bitwig.framework.hardware;
+
+import com.bitwig.extension.controller.api.InternalHardwareLightState;
+
+import java.util.Arrays;
+
+
+/**
+ * Caches the states of a light by their integer encoding. Since the state of a light is polled on
+ * each flush but rarely changes, this prevents the creation of new state objects in the steady
+ * state. The number of cached states is limited, if the limit is reached the cache is cleared.
+ * Must only be used by the thread which polls the light.
+ *
+ * @param <T> The type of the light state
+ *
+ * @author Jürgen Moßgraber
+ */
+class LightStateCache<T extends InternalHardwareLightState>
+{
+    private static final int MAX_STATES = 256;
+
+    private int []           keys       = new int [8];
+    private Object []        states     = new Object [8];
+    private int              size;
+    private int              lastKey;
+    private T                lastState;
+
+
+    /**
+     * Get a cached state.
+     *
+     * @param key The encoded state
+     * @return The cached state or null if there is none for the key
+     */
+    @SuppressWarnings("unchecked")
+    public T get (final int key)
+    {
+        if (this.lastState != null && this.lastKey == key)
+            return this.lastState;
+
+        final int mask = this.keys.length - 1;
+        for (int i = hash (key) & mask; this.states[i] != null; i = i + 1 & mask)
+        {
+            if (this.keys[i] == key)
+            {
+                this.lastKey = key;
+                this.lastState = (T) this.states[i];
+                return this.lastState;
+            }
+        }
+        return null;
+    }
+
+
+    /**
+     * Add a state to the cache.
+     *
+     * @param key The encoded state
+     * @param state The state
+     */
+    public void put (final int key, final T state)
+    {
+        if (this.size >= MAX_STATES)
+        {
+            Arrays.fill (this.states, null);
+            this.size = 0;
+        }
+        else if (2 * (this.size + 1) > this.keys.length)
+            this.grow ();
+
+        this.insert (key, state);
+        this.lastKey = key;
+        this.lastState = state;
+    }
+
+
+    private void insert (final int key, final Object state)
+    {
+        final int mask = this.keys.length - 1;
+        int i = hash (key) & mask;
+        while (this.states[i] != null)
+        {
+            if (this.keys[i] == key)
+            {
+                this.states[i] = state;
+                return;
+            }
+            i = i + 1 & mask;
+        }
+        this.keys[i] = key;
+        this.states[i] = state;
+        this.size++;
+    }
+
+
+    private void grow ()
+    {
+        final int [] oldKeys = this.keys;
+        final Object [] oldStates = this.states;
+        this.keys = new int [2 * oldKeys.length];
+        this.states = new Object [2 * oldStates.length];
+        this.size = 0;
+        for (int i = 0; i < oldKeys.length; i++)
+        {
+            if (oldStates[i] != null)
+                this.insert (oldKeys[i], oldStates[i]);
+        }
+    }
+
+
+    private static int hash (final int key)
+    {
+        final int h = key * 0x9E3779B9;
+        return h ^ h >>> 16;
+    }
+}
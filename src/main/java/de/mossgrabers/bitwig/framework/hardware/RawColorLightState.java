@@ -12,13 +12,15 @@ import com.bitwig.extension.controller.api.InternalHardwareLightState;
 
 
 /**
- * Creates visual states from raw colors.
+ * Creates visual states from raw colors. The visual state is only calculated once, therefore
+ * instances should be re-used for the same color.
  *
  * @author Jürgen Moßgraber
  */
 public class RawColorLightState extends InternalHardwareLightState
 {
-    private final ColorEx colorState;
+    private final ColorEx            colorState;
+    private HardwareLightVisualState visualState;
 
 
     /**
@@ -35,6 +37,25 @@ public class RawColorLightState extends InternalHardwareLightState
     /** {@inheritDoc}} */
     @Override
     public HardwareLightVisualState getVisualState ()
+    {
+        if (this.visualState == null)
+            this.visualState = this.createVisualState ();
+        return this.visualState;
+    }
+
+
+    /**
+     * Get the color of the state.
+     *
+     * @return The color
+     */
+    public ColorEx getColorState ()
+    {
+        return this.colorState;
+    }
+
+
+    private HardwareLightVisualState createVisualState ()
     {
         final Color color = Color.fromRGB (this.colorState.getRed (), this.colorState.getGreen (), this.colorState.getBlue ());
         final ColorEx contrastColorEx = ColorEx.calcContrastColor (this.colorState);
@@ -4,33 +4,75 @@
 
 package de.mossgrabers.bitwig.framework.osc;
 
+import de.mossgrabers.framework.daw.IHost;
 import de.mossgrabers.framework.osc.IOpenSoundControlClient;
 import de.mossgrabers.framework.osc.IOpenSoundControlMessage;
+import de.mossgrabers.framework.osc.OpenSoundControlSize;
 
 import com.bitwig.extension.api.opensoundcontrol.OscConnection;
 
 import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 
 /**
- * Implementation of an OSC server connection (the client).
+ * Implementation of an OSC server connection (the client). Bundles are split into packets which
+ * do not exceed the maximum packet size. The packets are sent paced by a token bucket to not
+ * overrun slower clients (e.g. Open Stage Control). If there are not enough tokens left, the
+ * remaining messages are queued and sent later from a scheduled task, therefore sending never
+ * blocks the calling thread. The queued messages keep the order in which they were sent. If a
+ * value is sent for an address which still has a queued value from an earlier flush, the queued
+ * value is replaced at its position instead of adding the message again. The first and the last
+ * message of a bundle (which frame it, e.g. '/update 1' and '/update 0') and messages without
+ * values (events) are never replaced. Therefore, the queue does not grow with the number of flushes
+ * even if more data is produced than the send rate allows. Messages are only removed from the
+ * queue after they were sent successfully.
  *
  * @author Jürgen Moßgraber
  */
 public class OpenSoundControlClientImpl implements IOpenSoundControlClient
 {
-    private final OscConnection connection;
+    private final IHost                          host;
+    private final OscConnection                  connection;
+    private final int                            maxPacketSize;
+    private final double                         bytesPerMillisecond;
+    private final double                         maxTokens;
+
+    private final Deque<PendingMessage>          pendingMessages = new ArrayDeque<> ();
+    private final Map<String, PendingMessage>    pendingValues   = new HashMap<> ();
+    private final List<IOpenSoundControlMessage> packetMessages  = new ArrayList<> ();
+    private final Runnable                       drainTask       = this::drainPendingMessages;
+    private double                               tokens;
+    private long                                 lastRefill;
+    private int                                  flushCounter;
+    private boolean                              isDrainScheduled;
+    private boolean                              isClosed;
 
 
     /**
      * Constructor.
      *
+     * @param host The host
      * @param connection The OSC connection
+     * @param maxPacketSize The maximum size of a packet (bundle) in bytes, a single message which
+     *            is larger is still sent
+     * @param bytesPerSecond The maximum number of bytes to send per second
      */
-    public OpenSoundControlClientImpl (final OscConnection connection)
+    public OpenSoundControlClientImpl (final IHost host, final OscConnection connection, final int maxPacketSize, final int bytesPerSecond)
     {
+        this.host = host;
         this.connection = connection;
+        this.maxPacketSize = maxPacketSize;
+        this.bytesPerMillisecond = bytesPerSecond / 1000.0;
+        // Allow a burst of 100ms but at least 1 packet
+        this.maxTokens = Math.max (maxPacketSize, bytesPerSecond / 10.0);
+        this.tokens = this.maxTokens;
+        this.lastRefill = System.currentTimeMillis ();
     }
 
 
@@ -38,9 +80,27 @@ public class OpenSoundControlClientImpl implements IOpenSoundControlClient
     @Override
     public void sendMessage (final IOpenSoundControlMessage message) throws IOException
     {
-        final String address = message.getAddress ();
-        final Object [] values = message.getValues ();
-        this.connection.sendMessage (address, values);
+        synchronized (this.pendingMessages)
+        {
+            if (this.isClosed)
+                return;
+
+            this.flushCounter++;
+            final List<IOpenSoundControlMessage> messages = List.of (message);
+            final int size = OpenSoundControlSize.getMessageSize (message.getAddress (), message.getValues ());
+            try
+            {
+                if (this.trySendPacket (messages, size, false))
+                    return;
+            }
+            catch (final IOException ex)
+            {
+                this.queueMessages (messages, 0);
+                throw ex;
+            }
+            this.queueMessages (messages, 0);
+            this.sendPendingMessages ();
+        }
     }
 
 
@@ -48,33 +108,222 @@ public class OpenSoundControlClientImpl implements IOpenSoundControlClient
     @Override
     public void sendBundle (final List<IOpenSoundControlMessage> messages) throws IOException
     {
-        int pos = 0;
-        this.connection.startBundle ();
-        for (final IOpenSoundControlMessage message: messages)
+        synchronized (this.pendingMessages)
         {
-            this.sendMessage (message);
-            pos++;
-            // We cannot get the exact size of the message due to the API, so let's try to stay
-            // below 64K, which is the maximum of an UDP message
-            if (pos > 100)
-            {
-                pos = 0;
-                this.connection.endBundle ();
+            if (this.isClosed || messages.isEmpty ())
+                return;
+
+            this.flushCounter++;
 
-                // Ugly hack, but we need to slow down a bit otherwise clients like Open Stage
-                // Control cannot keep up...
-                try
+            // Send the packets directly until one needs to wait, the rest is queued
+            int start = 0;
+            try
+            {
+                int size = OpenSoundControlSize.BUNDLE_HEADER_SIZE;
+                int end = 0;
+                while (end < messages.size ())
                 {
-                    Thread.sleep (10);
+                    final int elementSize = OpenSoundControlSize.getBundleElementSize (messages.get (end));
+                    if (end > start && size + elementSize > this.maxPacketSize)
+                    {
+                        if (!this.trySendPacket (messages.subList (start, end), size, true))
+                            break;
+                        start = end;
+                        size = OpenSoundControlSize.BUNDLE_HEADER_SIZE;
+                    }
+                    size += elementSize;
+                    end++;
                 }
-                catch (final InterruptedException ex)
+                if (end == messages.size () && this.trySendPacket (messages.subList (start, end), size, true))
+                    return;
+            }
+            catch (final IOException ex)
+            {
+                this.queueMessages (messages, start);
+                throw ex;
+            }
+            this.queueMessages (messages, start);
+            this.sendPendingMessages ();
+        }
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void close ()
+    {
+        synchronized (this.pendingMessages)
+        {
+            this.isClosed = true;
+            this.pendingMessages.clear ();
+            this.pendingValues.clear ();
+        }
+    }
+
+
+    /**
+     * Send a packet directly if there are no queued messages and enough tokens.
+     *
+     * @param packet The messages of the packet
+     * @param size The size of the packet in bytes
+     * @param isBundle True to send the messages as a bundle
+     * @return True if the packet was sent, false if its messages need to be queued
+     * @throws IOException Could not send the packet
+     */
+    private boolean trySendPacket (final List<IOpenSoundControlMessage> packet, final int size, final boolean isBundle) throws IOException
+    {
+        if (!this.pendingMessages.isEmpty ())
+            return false;
+
+        this.refillTokens ();
+
+        // Packets which are larger than the bucket are sent when it is full
+        final double required = Math.min (size, this.maxTokens);
+        if (this.tokens < required)
+            return false;
+
+        this.tokens -= required;
+        this.sendPacket (packet, isBundle);
+        return true;
+    }
+
+
+    /**
+     * Add the messages of a flush to the end of the queue. If a value is still queued for the
+     * address of a message from an earlier flush, it is replaced instead. The first and last
+     * message of the flush and messages without values are always added.
+     *
+     * @param messages All messages of the flush
+     * @param start The index of the first message to add
+     */
+    private void queueMessages (final List<IOpenSoundControlMessage> messages, final int start)
+    {
+        final int last = messages.size () - 1;
+        for (int i = start; i <= last; i++)
+        {
+            final IOpenSoundControlMessage message = messages.get (i);
+            final Object [] values = message.getValues ();
+            final boolean isValue = i > 0 && i < last && values != null && values.length > 0;
+            if (isValue)
+            {
+                final PendingMessage pending = this.pendingValues.get (message.getAddress ());
+                if (pending != null && pending.flush != this.flushCounter)
                 {
-                    Thread.currentThread ().interrupt ();
+                    pending.message = message;
+                    continue;
                 }
+            }
+
+            final PendingMessage pending = new PendingMessage (message, this.flushCounter);
+            this.pendingMessages.add (pending);
+            if (isValue)
+                this.pendingValues.put (message.getAddress (), pending);
+        }
+    }
 
-                this.connection.startBundle ();
+
+    /**
+     * Send the queued messages as bundles as long as there are enough tokens. If messages are
+     * left, schedule to send them when enough tokens are available.
+     *
+     * @throws IOException Could not send a bundle, its messages stay queued
+     */
+    private void sendPendingMessages () throws IOException
+    {
+        this.refillTokens ();
+
+        while (!this.pendingMessages.isEmpty ())
+        {
+            this.packetMessages.clear ();
+            int size = OpenSoundControlSize.BUNDLE_HEADER_SIZE;
+            for (final PendingMessage pending: this.pendingMessages)
+            {
+                final int elementSize = OpenSoundControlSize.getBundleElementSize (pending.message);
+                if (!this.packetMessages.isEmpty () && size + elementSize > this.maxPacketSize)
+                    break;
+                this.packetMessages.add (pending.message);
+                size += elementSize;
+            }
+
+            // Packets which are larger than the bucket are sent when it is full
+            final double required = Math.min (size, this.maxTokens);
+            if (this.tokens < required)
+            {
+                this.scheduleDrain ((long) Math.ceil ((required - this.tokens) / this.bytesPerMillisecond));
+                return;
+            }
+
+            this.tokens -= required;
+            this.sendPacket (this.packetMessages, true);
+            for (int i = 0; i < this.packetMessages.size (); i++)
+            {
+                final PendingMessage pending = this.pendingMessages.removeFirst ();
+                this.pendingValues.remove (pending.message.getAddress (), pending);
             }
         }
-        this.connection.endBundle ();
+    }
+
+
+    private void refillTokens ()
+    {
+        final long now = System.currentTimeMillis ();
+        this.tokens = Math.min (this.maxTokens, this.tokens + (now - this.lastRefill) * this.bytesPerMillisecond);
+        this.lastRefill = now;
+    }
+
+
+    private void scheduleDrain (final long delay)
+    {
+        if (this.isDrainScheduled)
+            return;
+        this.isDrainScheduled = true;
+        this.host.scheduleTask (this.drainTask, Math.max (1, delay));
+    }
+
+
+    private void drainPendingMessages ()
+    {
+        synchronized (this.pendingMessages)
+        {
+            this.isDrainScheduled = false;
+            if (this.isClosed)
+                return;
+            try
+            {
+                this.sendPendingMessages ();
+            }
+            catch (final IOException ex)
+            {
+                this.host.error ("Could not send UDP message.", ex);
+            }
+        }
+    }
+
+
+    private void sendPacket (final List<IOpenSoundControlMessage> messages, final boolean isBundle) throws IOException
+    {
+        if (isBundle)
+            this.connection.startBundle ();
+        for (final IOpenSoundControlMessage message: messages)
+            this.connection.sendMessage (message.getAddress (), message.getValues ());
+        if (isBundle)
+            this.connection.endBundle ();
+    }
+
+
+    /**
+     * A queued message. The message is replaced if a newer value for its address is sent.
+     */
+    private static class PendingMessage
+    {
+        private IOpenSoundControlMessage message;
+        private final int                flush;
+
+
+        PendingMessage (final IOpenSoundControlMessage message, final int flush)
+        {
+            this.message = message;
+            this.flush = flush;
+        }
     }
 }
@@ -27,6 +27,7 @@ public class HidDeviceImpl implements IHidDevice
 {
     private HidDevice hidDevice;
     private boolean   isOpen;
+    private byte []   macOutputBuffer = new byte [0];
 
 
     /**
@@ -75,20 +76,29 @@ public class HidDeviceImpl implements IHidDevice
         if (!this.isOpen)
             return -1;
         final byte [] data = toBuffer (memoryBlock);
+        return this.sendOutputReport (reportID, data, data.length);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public synchronized int sendOutputReport (final byte reportID, final byte [] data, final int length)
+    {
+        if (!this.isOpen)
+            return -1;
 
         // purehid documentation says otherwise but MAC also needs the report ID in
         // data[0], therefore add it
-        byte [] d = data;
-        int l = data.length;
         if (OperatingSystem.isMacOS ())
         {
-            l++;
-            d = new byte [l];
-            d[0] = reportID;
-            System.arraycopy (data, 0, d, 1, data.length);
+            if (this.macOutputBuffer.length < length + 1)
+                this.macOutputBuffer = new byte [length + 1];
+            this.macOutputBuffer[0] = reportID;
+            System.arraycopy (data, 0, this.macOutputBuffer, 1, length);
+            return this.hidDevice.setOutputReport (reportID, this.macOutputBuffer, length + 1);
         }
 
-        return this.hidDevice.setOutputReport (reportID, d, d.length);
+        return this.hidDevice.setOutputReport (reportID, data, length);
     }
 
 
@@ -246,6 +246,7 @@ public class PushConfiguration extends AbstractConfiguration implements IGraphic
     private int             padSensitivity              = 5;
     private int             padGain                     = 5;
     private int             padDynamics                 = 5;
+    private boolean         logRenderStatistics         = false;
     private ColorEx         colorBackground             = DEFAULT_COLOR_BACKGROUND;
     private ColorEx         colorBorder                 = DEFAULT_COLOR_BORDER;
     private ColorEx         colorText                   = DEFAULT_COLOR_TEXT;
@@ -1006,6 +1007,14 @@ public class PushConfiguration extends AbstractConfiguration implements IGraphic
     }
 
 
+    /** {@inheritDoc} */
+    @Override
+    public boolean isRenderStatisticsLogEnabled ()
+    {
+        return this.logRenderStatistics;
+    }
+
+
     /**
      * Get the selected display mode for debugging.
      *
@@ -1336,5 +1345,7 @@ public class PushConfiguration extends AbstractConfiguration implements IGraphic
             return;
 
         settingsUI.getSignalSetting (" ", CATEGORY_DEBUG, "Display window").addSignalObserver (value -> this.notifyObservers (DEBUG_WINDOW));
+
+        settingsUI.getEnumSetting ("Log display statistics", CATEGORY_DEBUG, ON_OFF_OPTIONS, ON_OFF_OPTIONS[0]).addValueObserver (value -> this.logRenderStatistics = "On".equals (value));
     }
 }
@@ -671,7 +671,7 @@ public class PushColorManager extends ColorManager
                         color = PUSH2_COLOR2_BLACK;
                     else if (colorIndex == 8)
                         color = PUSH2_COLOR2_GREY_LO;
-                    return this.colorByIndex.get (Integer.valueOf (color));
+                    return this.getRegisteredColor (color);
 
                 default:
                     // Fall through
@@ -683,20 +683,20 @@ public class PushColorManager extends ColorManager
             switch (buttonID)
             {
                 case PLAY:
-                    return this.colorByIndex.get (Integer.valueOf (colorIndex == 1 ? PUSH2_COLOR2_GREY_LO : PUSH2_COLOR2_GREEN_HI));
+                    return this.getRegisteredColor (colorIndex == 1 ? PUSH2_COLOR2_GREY_LO : PUSH2_COLOR2_GREEN_HI);
                 case AUTOMATION, RECORD:
                     int col = PUSH2_COLOR2_AMBER;
                     if (colorIndex == 1)
                         col = PUSH2_COLOR2_GREY_LO;
                     else if (colorIndex == 4)
                         col = PUSH2_COLOR2_RED_HI;
-                    return this.colorByIndex.get (Integer.valueOf (col));
+                    return this.getRegisteredColor (col);
                 case MUTE:
-                    return this.colorByIndex.get (Integer.valueOf (colorIndex == 1 ? PUSH2_COLOR2_GREY_LO : PUSH2_COLOR2_AMBER_LO));
+                    return this.getRegisteredColor (colorIndex == 1 ? PUSH2_COLOR2_GREY_LO : PUSH2_COLOR2_AMBER_LO);
                 case SOLO:
-                    return this.colorByIndex.get (Integer.valueOf (colorIndex == 1 ? PUSH2_COLOR2_GREY_LO : PUSH2_COLOR2_YELLOW));
+                    return this.getRegisteredColor (colorIndex == 1 ? PUSH2_COLOR2_GREY_LO : PUSH2_COLOR2_YELLOW);
                 case STOP_CLIP:
-                    return this.colorByIndex.get (Integer.valueOf (colorIndex == 1 ? PUSH2_COLOR2_RED_LO : PUSH2_COLOR2_RED_HI));
+                    return this.getRegisteredColor (colorIndex == 1 ? PUSH2_COLOR2_RED_LO : PUSH2_COLOR2_RED_HI);
 
                 case NEW:
                 case DUPLICATE:
@@ -737,7 +737,7 @@ public class PushColorManager extends ColorManager
                         color = PUSH2_COLOR_BLACK;
                     else if (colorIndex == 1)
                         color = PUSH2_COLOR2_GREY_LO;
-                    return this.colorByIndex.get (Integer.valueOf (color));
+                    return this.getRegisteredColor (color);
 
                 default:
                     // Fall through
@@ -745,7 +745,7 @@ public class PushColorManager extends ColorManager
             }
         }
 
-        final ColorEx color = this.colorByIndex.get (Integer.valueOf (colorIndex));
+        final ColorEx color = this.getRegisteredColor (colorIndex);
         if (color == null)
             throw new ColorIndexException ("Color for index " + colorIndex + " is not registered!");
         return color;
@@ -12,6 +12,8 @@ import de.mossgrabers.framework.daw.IHost;
 import de.mossgrabers.framework.daw.midi.DeviceInquiry;
 import de.mossgrabers.framework.daw.midi.IMidiInput;
 import de.mossgrabers.framework.daw.midi.IMidiOutput;
+import de.mossgrabers.framework.daw.midi.SysexMessage;
+import de.mossgrabers.framework.daw.midi.SysexRouter;
 import de.mossgrabers.framework.utils.StringUtils;
 
 import java.util.List;
@@ -474,7 +476,7 @@ public class PushControlSurface extends AbstractControlSurface<PushConfiguration
         for (int i = 0; i < this.colorPalette.length; i++)
             this.colorPalette[i] = new PaletteEntry (PushColorManager.getPaletteColorRGB (i));
 
-        this.input.setSysexCallback (this::handleSysEx);
+        this.input.setSysexCallback (new SysexRouter (host, this::handleSysEx).addRoute (SYSEX_HEADER, this::handlePush2SysEx));
     }
 
 
@@ -802,34 +804,27 @@ public class PushControlSurface extends AbstractControlSurface<PushConfiguration
      *
      * @param data The data
      */
-    private void handleSysEx (final String data)
+    private void handleSysEx (final SysexMessage data)
     {
-        final int [] byteData = StringUtils.fromHexStr (data);
-        final DeviceInquiry deviceInquiry = new DeviceInquiry (byteData);
+        final DeviceInquiry deviceInquiry = new DeviceInquiry (data);
         if (deviceInquiry.isValid ())
-        {
             this.handleDeviceInquiryResponse (deviceInquiry);
-            return;
-        }
-
-        // Color palette entry message?
-        if (this.configuration.isPush2 () && isPush2Data (byteData) && PaletteEntry.isValid (byteData))
-            this.handleColorPaletteMessage (byteData);
     }
 
 
-    private static boolean isPush2Data (final int [] data)
+    /**
+     * Handle incoming system exclusive data which starts with the Push 2 header.
+     *
+     * @param data The data
+     */
+    private void handlePush2SysEx (final SysexMessage data)
     {
-        if (data.length + 1 < SYSEX_HEADER.length)
-            return false;
-
-        for (int i = 0; i < SYSEX_HEADER.length; i++)
-        {
-            if (SYSEX_HEADER[i] != data[i])
-                return false;
-        }
-
-        return data[data.length - 1] == 0xF7;
+        // Color palette entry message?
+        if (!this.configuration.isPush2 ())
+            return;
+        final int [] byteData = data.toArray ();
+        if (PaletteEntry.isValid (byteData))
+            this.handleColorPaletteMessage (byteData);
     }
 
 
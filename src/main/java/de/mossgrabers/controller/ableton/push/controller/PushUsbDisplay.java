@@ -7,14 +7,15 @@ package de.mossgrabers.controller.ableton.push.controller;
 import de.mossgrabers.framework.daw.IHost;
 import de.mossgrabers.framework.daw.IMemoryBlock;
 import de.mossgrabers.framework.graphics.IBitmap;
+import de.mossgrabers.framework.graphics.display.FramePacer;
 import de.mossgrabers.framework.usb.IUsbDevice;
 import de.mossgrabers.framework.usb.IUsbEndpoint;
 import de.mossgrabers.framework.usb.UsbException;
 
 import java.nio.ByteBuffer;
-import java.util.concurrent.Executors;
-import java.util.concurrent.ScheduledExecutorService;
-import java.util.concurrent.TimeUnit;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+import java.nio.ShortBuffer;
 
 
 /**
@@ -29,6 +30,9 @@ public class PushUsbDisplay
 
     private static final int               TIMEOUT          = 1000;
 
+    /** The maximum number of frames to send per second. */
+    private static final int               FRAMES_PER_SEC   = 60;
+
     private static final byte []           DISPLAY_HEADER   =
     {
         (byte) 0xef,
@@ -51,14 +55,19 @@ public class PushUsbDisplay
 
     private IUsbDevice                     usbDevice;
     private IUsbEndpoint                   usbEndpoint;
-    private final IHost                    host;
     private final IMemoryBlock             headerBlock;
-    private final IMemoryBlock             imageBlock;
-    private final byte []                  byteStore        = new byte [DATA_SZ];
+
+    // Double buffered image blocks: one can be encoded while the other one is transmitted
+    private final IMemoryBlock []          imageBlocks      = new IMemoryBlock [2];
+    private final ShortBuffer []           imageBuffers     = new ShortBuffer [2];
+    private int                            readyIndex       = -1;
+    private int                            sendingIndex     = -1;
+    private int []                         sourceRow        = new int [0];
+    private short []                       encodedRow       = new short [0];
 
     private final Object                   sendLock         = new Object ();
     private final Object                   bufferUpdateLock = new Object ();
-    private final ScheduledExecutorService sendExecutor     = Executors.newSingleThreadScheduledExecutor ();
+    private final FramePacer               framePacer;
 
 
     /**
@@ -68,7 +77,7 @@ public class PushUsbDisplay
      */
     public PushUsbDisplay (final IHost host)
     {
-        this.host = host;
+        this.framePacer = new FramePacer (host, "Push 2 display", FRAMES_PER_SEC, this::sendData);
 
         try
         {
@@ -84,7 +93,17 @@ public class PushUsbDisplay
 
         this.headerBlock = host.createMemoryBlock (DISPLAY_HEADER.length);
         this.headerBlock.createByteBuffer ().put (DISPLAY_HEADER);
-        this.imageBlock = host.createMemoryBlock (DATA_SZ);
+
+        for (int i = 0; i < this.imageBlocks.length; i++)
+        {
+            this.imageBlocks[i] = host.createMemoryBlock (DATA_SZ);
+            final ByteBuffer buffer = this.imageBlocks[i].createByteBuffer ();
+            // Make sure that the line padding is zero
+            for (int j = 0; j < DATA_SZ; j++)
+                buffer.put ((byte) 0);
+            buffer.clear ();
+            this.imageBuffers[i] = buffer.order (ByteOrder.LITTLE_ENDIAN).asShortBuffer ();
+        }
     }
 
 
@@ -95,69 +114,92 @@ public class PushUsbDisplay
      */
     public void send (final IBitmap image)
     {
-        // Copy to the buffer
+        // Encode directly into the image block which is not transmitted at the moment. The block
+        // is never touched by the sender during encoding since it is neither ready nor sending
+        final int index;
         synchronized (this.bufferUpdateLock)
         {
-            image.encode ( (imageBuffer, width, height) -> {
-
-                int counter = 0;
-                final int padding = (DATA_SZ - height * width * 2) / height;
-
-                for (int y = 0; y < height; y++)
-                {
-                    for (int x = 0; x < width; x++)
-                    {
-                        final int blue = imageBuffer.get ();
-                        final int green = imageBuffer.get ();
-                        final int red = imageBuffer.get ();
-                        imageBuffer.get (); // Drop unused Alpha
+            index = this.sendingIndex == 0 ? 1 : 0;
+            if (this.readyIndex == index)
+                this.readyIndex = -1;
+        }
 
-                        final int pixel = sPixelFromRGB (red, green, blue);
+        image.encode ( (imageBuffer, width, height) -> this.encode (imageBuffer, width, height, this.imageBuffers[index]));
 
-                        this.byteStore[counter] = (byte) (pixel & 0x00FF);
-                        this.byteStore[counter + 1] = (byte) ((pixel & 0xFF00) >> 8);
+        synchronized (this.bufferUpdateLock)
+        {
+            this.readyIndex = index;
+        }
 
-                        counter += 2;
-                    }
+        this.framePacer.submit ();
+    }
 
-                    for (int x = 0; x < padding; x++)
-                    {
-                        this.byteStore[counter] = (byte) 0x00;
-                        counter++;
-                    }
-                }
 
-                imageBuffer.rewind ();
-            });
+    /**
+     * Encodes the BGRA image data into RGB565 (with blue in the upper bits) and writes it into the
+     * given USB image buffer. Each line is padded to the line size expected by the device.
+     *
+     * @param imageBuffer The source image data
+     * @param width The width of the image
+     * @param height The height of the image
+     * @param target The buffer of the USB image block
+     */
+    private void encode (final ByteBuffer imageBuffer, final int width, final int height, final ShortBuffer target)
+    {
+        if (this.sourceRow.length != width)
+        {
+            this.sourceRow = new int [width];
+            this.encodedRow = new short [width];
         }
 
-        synchronized (this.sendLock)
+        final IntBuffer source = imageBuffer.order (ByteOrder.LITTLE_ENDIAN).asIntBuffer ();
+        final int padding = (DATA_SZ / 2 - height * width) / height;
+
+        target.clear ();
+        for (int y = 0; y < height; y++)
         {
-            if (!this.sendExecutor.isShutdown ())
-                this.sendExecutor.submit (this::sendData);
+            source.get (this.sourceRow);
+            for (int x = 0; x < width; x++)
+                this.encodedRow[x] = sPixelFromARGB (this.sourceRow[x]);
+            target.put (this.encodedRow);
+            target.position (target.position () + padding);
         }
+
+        imageBuffer.rewind ();
     }
 
 
     private void sendData ()
     {
-        // Copy the data from the buffer to the USB block
+        // Take over the latest encoded image block
+        final int index;
         synchronized (this.bufferUpdateLock)
         {
-            final ByteBuffer buffer = this.imageBlock.createByteBuffer ();
-            buffer.clear ();
-            for (int i = 0; i < DATA_SZ; i++)
-                buffer.put (this.byteStore[i]);
+            index = this.readyIndex;
+            if (index < 0)
+                return;
+            this.readyIndex = -1;
+            this.sendingIndex = index;
         }
 
         // Send the data
-        synchronized (this.sendLock)
+        try
         {
-            if (this.usbDevice == null || this.usbEndpoint == null)
-                return;
+            synchronized (this.sendLock)
+            {
+                if (this.usbDevice == null || this.usbEndpoint == null)
+                    return;
 
-            this.usbEndpoint.send (this.headerBlock, TIMEOUT);
-            this.usbEndpoint.send (this.imageBlock, TIMEOUT);
+                this.usbEndpoint.send (this.headerBlock, TIMEOUT);
+                this.usbEndpoint.send (this.imageBlocks[index], TIMEOUT);
+            }
+        }
+        finally
+        {
+            synchronized (this.bufferUpdateLock)
+            {
+                this.sendingIndex = -1;
+            }
         }
     }
 
@@ -167,22 +209,13 @@ public class PushUsbDisplay
      */
     public void shutdown ()
     {
+        // Transmits a still pending frame
+        this.framePacer.shutdown ();
+
         synchronized (this.sendLock)
         {
             this.usbDevice = null;
             this.usbEndpoint = null;
-
-            this.sendExecutor.shutdown ();
-            try
-            {
-                if (!this.sendExecutor.awaitTermination (5, TimeUnit.SECONDS))
-                    this.host.error ("USB Send executor did not end in 5 seconds.");
-            }
-            catch (final InterruptedException ex)
-            {
-                this.host.error ("USB Send executor interrupted.", ex);
-                Thread.currentThread ().interrupt ();
-            }
         }
     }
 
@@ -194,17 +227,30 @@ public class PushUsbDisplay
      */
     public boolean isShutdown ()
     {
-        return this.sendExecutor.isShutdown ();
+        return this.framePacer.isShutdown ();
+    }
+
+
+    /**
+     * Get the frame pacer, e.g. to access the statistics about sent and dropped frames.
+     *
+     * @return The frame pacer
+     */
+    public FramePacer getFramePacer ()
+    {
+        return this.framePacer;
     }
 
 
-    private static int sPixelFromRGB (final int red, final int green, final int blue)
+    /**
+     * Converts a pixel from (little endian) BGRA into a 16 bit pixel: 5 bits blue, 6 bits green and
+     * 5 bits red.
+     *
+     * @param argb The pixel with 8 bits per color
+     * @return The 16 bit pixel
+     */
+    private static short sPixelFromARGB (final int argb)
     {
-        int pixel = (blue & 0xF8) >> 3;
-        pixel <<= 6;
-        pixel += (green & 0xFC) >> 2;
-        pixel <<= 5;
-        pixel += (red & 0xF8) >> 3;
-        return pixel;
+        return (short) ((argb & 0xF8) << 8 | argb >> 5 & 0x07E0 | argb >> 19 & 0x1F);
     }
 }
@@ -62,6 +62,8 @@ public class GrooveMode extends BaseMode<IItem>
         }
 
         this.setParameterProvider (new FixedParameterProvider (this.params));
+
+        this.addObservedData (groove);
     }
 
 
@@ -228,8 +230,6 @@ public class GrooveMode extends BaseMode<IItem>
 
     private void setActive (final boolean enable)
     {
-        final IGroove groove = this.model.getGroove ();
-        groove.enableObservers (enable);
-        groove.setIndication (enable);
+        this.model.getGroove ().setIndication (enable);
     }
 }
\ No newline at end of file
@@ -49,6 +49,8 @@ public class MarkerMode extends BaseMode<IMarker>
     public MarkerMode (final PushControlSurface surface, final IModel model)
     {
         super ("Marker", surface, model, model.getMarkerBank ());
+
+        this.addObservedData (model.getMarkerBank ());
     }
 
 
@@ -53,6 +53,8 @@ public class DeviceBrowserMode extends BaseMode<IItem>
 
         this.selectionMode = SELECTION_OFF;
         this.filterColumn = -1;
+
+        this.addObservedBrowserData ();
     }
 
 
@@ -41,6 +41,8 @@ public class UserMode extends BaseMode<IParameter>
         super ("User Controls", surface, model, model.getUserParameterBank ());
 
         this.setParameterProvider (new BankParameterProvider (this.bank));
+
+        this.addObservedData (this.bank);
     }
 
 
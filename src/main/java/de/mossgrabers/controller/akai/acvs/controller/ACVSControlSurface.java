@@ -11,8 +11,9 @@ import de.mossgrabers.framework.controller.color.ColorManager;
 import de.mossgrabers.framework.daw.IHost;
 import de.mossgrabers.framework.daw.midi.IMidiInput;
 import de.mossgrabers.framework.daw.midi.IMidiOutput;
+import de.mossgrabers.framework.daw.midi.SysexMessage;
+import de.mossgrabers.framework.daw.midi.SysexRouter;
 import de.mossgrabers.framework.featuregroup.ModeManager;
-import de.mossgrabers.framework.utils.StringUtils;
 
 import java.util.Optional;
 
@@ -202,7 +203,7 @@ public class ACVSControlSurface extends AbstractControlSurface<ACVSConfiguration
 
         this.addTextDisplay (new ACVSDisplay (this.host, this.getOutput ()));
 
-        this.input.setSysexCallback (this::handleSysEx);
+        this.input.setSysexCallback (new SysexRouter (this.host, this::handleSysEx));
     }
 
 
@@ -239,17 +240,16 @@ public class ACVSControlSurface extends AbstractControlSurface<ACVSConfiguration
     /**
      * Handle incoming system exclusive data.
      *
-     * @param dataStr The data formatted as a string
+     * @param data The decoded data
      */
-    private void handleSysEx (final String dataStr)
+    private void handleSysEx (final SysexMessage data)
     {
-        final int [] data = StringUtils.fromHexStr (dataStr);
         final ACVSMidiOutput acvsMidiOutput = this.getOutput ();
 
         final Optional<ACVSMessage> messageOpt = acvsMidiOutput.getMessageContent (data);
         if (messageOpt.isEmpty ())
         {
-            this.host.error ("Unknown System Exclusive message: " + dataStr);
+            this.host.error ("Unknown System Exclusive message: " + data);
             return;
         }
 
@@ -280,12 +280,8 @@ public class ACVSControlSurface extends AbstractControlSurface<ACVSConfiguration
             case ACVSMidiOutput.MESSAGE_ID_TEXT:
                 if (this.textMessageHandler != null)
                 {
-                    final int [] content = acvsMessage.getContent ();
-                    final int itemID = content[0] << 8 + content[1];
-                    final StringBuilder sb = new StringBuilder ();
-                    for (int i = 4; i < content.length; i++)
-                        sb.append (Character.valueOf ((char) content[i]));
-                    this.textMessageHandler.handleTextMessage (itemID, sb.toString ());
+                    final int itemID = acvsMessage.getContent (0) << 8 + acvsMessage.getContent (1);
+                    this.textMessageHandler.handleTextMessage (itemID, acvsMessage.getContentText (4));
                 }
                 break;
 
@@ -5,18 +5,22 @@
 package de.mossgrabers.controller.akai.acvs.controller;
 
 import de.mossgrabers.controller.akai.acvs.ACVSDevice;
+import de.mossgrabers.framework.daw.midi.SysexMessage;
 
 
 /**
- * A system exclusive message received from an ACVS device.
+ * A system exclusive message received from an ACVS device. The content is not copied but read from
+ * the received message, therefore it is only valid while the message is handled.
  *
  * @author Jürgen Moßgraber
  */
 public class ACVSMessage
 {
-    private final ACVSDevice acvsDevice;
-    private final int        messageID;
-    private final int []     content;
+    private final ACVSDevice   acvsDevice;
+    private final int          messageID;
+    private final SysexMessage message;
+    private final int          contentStart;
+    private final int          contentLength;
 
 
     /**
@@ -24,13 +28,17 @@ public class ACVSMessage
      *
      * @param acvsDevice The ACVS device
      * @param messageID The ID of the message
-     * @param content The data content
+     * @param message The received system exclusive message which contains the content
+     * @param contentStart The position of the content in the message
+     * @param contentLength The number of content bytes
      */
-    public ACVSMessage (final ACVSDevice acvsDevice, final int messageID, final int [] content)
+    public ACVSMessage (final ACVSDevice acvsDevice, final int messageID, final SysexMessage message, final int contentStart, final int contentLength)
     {
         this.acvsDevice = acvsDevice;
         this.messageID = messageID;
-        this.content = content;
+        this.message = message;
+        this.contentStart = contentStart;
+        this.contentLength = contentLength;
     }
 
 
@@ -57,12 +65,38 @@ public class ACVSMessage
 
 
     /**
-     * Get the data content of the message.
+     * Get the number of bytes of the data content.
      *
-     * @return The content
+     * @return The number of bytes
      */
-    public int [] getContent ()
+    public int getContentLength ()
     {
-        return this.content;
+        return this.contentLength;
+    }
+
+
+    /**
+     * Get a byte of the data content of the message.
+     *
+     * @param index The index of the byte in the content
+     * @return The byte
+     */
+    public int getContent (final int index)
+    {
+        if (index < 0 || index >= this.contentLength)
+            throw new IndexOutOfBoundsException (index);
+        return this.message.get (this.contentStart + index);
+    }
+
+
+    /**
+     * Get a part of the data content of the message as ASCII text.
+     *
+     * @param index The index of the first character in the content
+     * @return The text up to the end of the content
+     */
+    public String getContentText (final int index)
+    {
+        return this.message.getText (this.contentStart + index, this.contentLength - index);
     }
 }
@@ -28,6 +28,8 @@ public class UserMode extends BaseMode<IParameter>
         super ("User", surface, model, APCControlSurface.LED_MODE_VOLUME, model.getUserParameterBank ());
 
         this.setParameterProvider (new BankParameterProvider (model.getUserParameterBank ()));
+
+        this.addObservedData (model.getUserParameterBank ());
     }
 
 
@@ -10,6 +10,7 @@ import de.mossgrabers.framework.daw.midi.IMidiOutput;
 import de.mossgrabers.framework.graphics.ChromaticGraphicsConfiguration;
 import de.mossgrabers.framework.graphics.DefaultGraphicsDimensions;
 import de.mossgrabers.framework.graphics.IBitmap;
+import de.mossgrabers.framework.graphics.display.FramePacer;
 
 import java.util.Arrays;
 
@@ -35,15 +36,18 @@ public class FireDisplay extends AbstractGraphicDisplay
       };
     // @formatter:on
 
-    private static final int       STRIPE_SIZE   = 147;
-    private static final int       PACKET_SIZE   = 4 + STRIPE_SIZE;
+    private static final int       STRIPE_SIZE    = 147;
+    private static final int       PACKET_SIZE    = 4 + STRIPE_SIZE;
+    private static final int       FRAMES_PER_SEC = 30;
 
     private final IMidiOutput      output;
-    private final int [] []        oledBitmap    = new int [8] [STRIPE_SIZE];
-    private final int [] []        oldOledBitmap = new int [8] [STRIPE_SIZE];
-    private final byte []          data          = new byte [12 + STRIPE_SIZE];
+    private final int [] []        oledBitmap     = new int [8] [STRIPE_SIZE];
+    private final int [] []        oldOledBitmap  = new int [8] [STRIPE_SIZE];
+    private final byte []          data           = new byte [12 + STRIPE_SIZE];
 
-    private long                   lastSend      = System.currentTimeMillis ();
+    private final FramePacer       framePacer;
+
+    private long                   lastSend       = System.currentTimeMillis ();
 
 
     /**
@@ -59,6 +63,7 @@ public class FireDisplay extends AbstractGraphicDisplay
         super (host, new ChromaticGraphicsConfiguration (), new DefaultGraphicsDimensions (128, 64, maxParameterValue), "Fire Display");
 
         this.output = output;
+        this.framePacer = new FramePacer (host, "Fire display", FRAMES_PER_SEC, this::sendData);
 
         this.data[0] = (byte) 0xF0;
         this.data[1] = 0x47; // AKAI
@@ -125,7 +130,36 @@ public class FireDisplay extends AbstractGraphicDisplay
                     }
                 }
             });
+        }
+
+        this.framePacer.submit ();
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void shutdown ()
+    {
+        this.framePacer.shutdown ();
+        super.shutdown ();
+    }
+
 
+    /**
+     * Get the frame pacer, e.g. to access the statistics about sent and dropped frames.
+     *
+     * @return The frame pacer
+     */
+    public FramePacer getFramePacer ()
+    {
+        return this.framePacer;
+    }
+
+
+    private void sendData ()
+    {
+        synchronized (this.data)
+        {
             // Convert to system exclusive and send to device
             for (int stripe = 0; stripe < 8; stripe++)
             {
@@ -150,4 +184,4 @@ public class FireDisplay extends AbstractGraphicDisplay
             }
         }
     }
-}
\ No newline at end of file
+}
\ No newline at end of file
@@ -39,6 +39,8 @@ public class BrowserMode extends AbstractParameterMode<FireControlSurface, FireC
         super ("Browser", surface, model, false);
 
         this.initTouchedStates (9);
+
+        this.addObservedBrowserData ();
     }
 
 
@@ -106,6 +106,7 @@ public class DrumXoXView extends AbstractDrumView<FireControlSurface, FireConfig
         this.buttonSelect = ButtonID.ALT;
 
         this.slotBank = this.model.getSlotBank (this.playColumns);
+        this.addObservedData (this.slotBank);
     }
 
 
@@ -15,6 +15,8 @@ import de.mossgrabers.framework.controller.hardware.BindType;
 import de.mossgrabers.framework.daw.IHost;
 import de.mossgrabers.framework.daw.midi.IMidiInput;
 import de.mossgrabers.framework.daw.midi.IMidiOutput;
+import de.mossgrabers.framework.daw.midi.SysexMessage;
+import de.mossgrabers.framework.daw.midi.SysexRouter;
 import de.mossgrabers.framework.featuregroup.IMode;
 import de.mossgrabers.framework.mode.Modes;
 import de.mossgrabers.framework.utils.FrameworkException;
@@ -155,7 +157,6 @@ public class ElectraOneControlSurface extends AbstractControlSurface<ElectraOneC
 
     private static final String        SET_GROUP_TITLE = "sgt(%s,\"%s\")";
 
-    private final List<int []>         sysexChunks     = new ArrayList<> ();
     private final IMidiInput           ctrlInput;
     private final IMidiOutput          ctrlOutput;
     private final ObjectMapper         mapper          = new ObjectMapper ();
@@ -187,7 +188,7 @@ public class ElectraOneControlSurface extends AbstractControlSurface<ElectraOneC
         this.ctrlInput = ctrlInput;
         this.ctrlOutput = ctrlOutput;
 
-        this.ctrlInput.setSysexCallback (this::handleSysEx);
+        this.ctrlInput.setSysexCallback (new SysexRouter (host).addRoute (SYSEX_HDR_INT, this::processSysEx));
     }
 
 
@@ -409,72 +410,16 @@ public class ElectraOneControlSurface extends AbstractControlSurface<ElectraOneC
 
 
     /**
-     * Handle incoming system exclusive data. Messages are split up in chunks of 1024 bytes! This
-     * method concatenates and stores the parts until the full message is received and then hands it
-     * to the processing.
+     * Handle incoming system exclusive data with the Electra One header. Messages are split up in
+     * chunks of 1024 bytes, which are already concatenated by the router.
      *
-     * @param dataStr The data
+     * @param data The data
      */
-    private void handleSysEx (final String dataStr)
+    private void processSysEx (final SysexMessage data)
     {
-        final int [] data = StringUtils.fromHexStr (dataStr);
+        final int subCmdID = data.get (SUB_CMD_START_POS);
 
-        int [] fullData = null;
-
-        synchronized (this.sysexChunks)
-        {
-            if (data[0] == 0xF0 && !this.sysexChunks.isEmpty ())
-            {
-                this.host.error ("Unsound sysex message without ending F7 received.");
-                this.sysexChunks.clear ();
-            }
-            this.sysexChunks.add (data);
-
-            if (data[data.length - 1] == 0xF7)
-            {
-                fullData = this.concatChunks ();
-                this.sysexChunks.clear ();
-            }
-        }
-
-        if (fullData != null)
-            this.processSysEx (fullData);
-    }
-
-
-    private int [] concatChunks ()
-    {
-        if (this.sysexChunks.size () == 1)
-            return this.sysexChunks.get (0);
-
-        // Determine the total length of the resulting array
-        int totalLength = 0;
-        for (final int [] array: this.sysexChunks)
-            totalLength += array.length;
-
-        // Create a new array to hold the concatenated arrays
-        final int [] result = new int [totalLength];
-
-        // Copy the arrays into the result array
-        int offset = 0;
-        for (final int [] array: this.sysexChunks)
-        {
-            System.arraycopy (array, 0, result, offset, array.length);
-            offset += array.length;
-        }
-
-        return result;
-    }
-
-
-    private void processSysEx (final int [] data)
-    {
-        if (Arrays.compareUnsigned (SYSEX_HDR_INT, 0, SYSEX_HDR_INT.length, data, 0, SYSEX_HDR_INT.length) != 0)
-            return;
-
-        final int subCmdID = data[SUB_CMD_START_POS];
-
-        switch (data[CMD_START_POS])
+        switch (data.get (CMD_START_POS))
         {
             case CMD_INFO:
                 this.handleSysexCommandsInfo (subCmdID, data);
@@ -502,20 +447,20 @@ public class ElectraOneControlSurface extends AbstractControlSurface<ElectraOneC
      * @param commandID The information command ID
      * @param data The information data
      */
-    private void handleSysexCommandsController (final int commandID, final int [] data)
+    private void handleSysexCommandsController (final int commandID, final SysexMessage data)
     {
         switch (commandID)
         {
             // Take the extension on-/offline depending on which template is selected
             case EVENT_PRESET_SWITCH:
-                this.handleOnlineStatus (data[SUB_CMD_START_POS + 1], data[SUB_CMD_START_POS + 2]);
+                this.handleOnlineStatus (data.get (SUB_CMD_START_POS + 1), data.get (SUB_CMD_START_POS + 2));
                 break;
 
             // Change modes if extension is online
             case EVENT_PAGE_SWITCH:
                 if (this.isOnline)
                 {
-                    final int page = data[SUB_CMD_START_POS + 1];
+                    final int page = data.get (SUB_CMD_START_POS + 1);
                     if (page >= 0 && page < MODES.size ())
                     {
                         final Modes mode = MODES.get (page);
@@ -526,15 +471,15 @@ public class ElectraOneControlSurface extends AbstractControlSurface<ElectraOneC
                 break;
 
             case EVENT_POT_TOUCH:
-                final int potID = data[SUB_CMD_START_POS + 1];
-                final int controlID = (data[SUB_CMD_START_POS + 3] << 7) + data[SUB_CMD_START_POS + 2];
+                final int potID = data.get (SUB_CMD_START_POS + 1);
+                final int controlID = (data.get (SUB_CMD_START_POS + 3) << 7) + data.get (SUB_CMD_START_POS + 2);
                 if (potID < 0 || potID >= 12)
                 {
                     this.host.error ("Touch event with knob ID outside of range: " + potID);
                     return;
                 }
 
-                this.knobStates[potID] = data[SUB_CMD_START_POS + 4];
+                this.knobStates[potID] = data.get (SUB_CMD_START_POS + 4);
 
                 final IMode active = this.modeManager.getActive ();
                 if (active instanceof final AbstractElectraOneMode electraMode)
@@ -650,7 +595,7 @@ public class ElectraOneControlSurface extends AbstractControlSurface<ElectraOneC
      * @param commandID The information command ID
      * @param data The information data
      */
-    private void handleSysexCommandsInfo (final int commandID, final int [] data)
+    private void handleSysexCommandsInfo (final int commandID, final SysexMessage data)
     {
         final JsonNode content = this.getContent (data);
         switch (commandID)
@@ -773,10 +718,10 @@ public class ElectraOneControlSurface extends AbstractControlSurface<ElectraOneC
      * @param data The data to log
      * @param contentStart The start of the text message to log
      */
-    private void logMessage (final int [] data, final int contentStart)
+    private void logMessage (final SysexMessage data, final int contentStart)
     {
         if (this.configuration.isLogToConsoleEnabled ())
-            this.host.println (new String (data, contentStart, data.length - contentStart - 1));
+            this.host.println (data.getText (contentStart, data.length () - contentStart - 1));
     }
 
 
@@ -786,9 +731,9 @@ public class ElectraOneControlSurface extends AbstractControlSurface<ElectraOneC
      * @param data The data of the information message
      * @return The root node of the JSON structure
      */
-    private JsonNode getContent (final int [] data)
+    private JsonNode getContent (final SysexMessage data)
     {
-        final String content = StringUtils.integerArrayToString (SUB_CMD_START_POS + 1, data.length - SUB_CMD_START_POS - 2, data);
+        final String content = data.getText (SUB_CMD_START_POS + 1, data.length () - SUB_CMD_START_POS - 2);
         try
         {
             return this.mapper.readValue (content, JsonNode.class);
@@ -67,6 +67,8 @@ public class EqualizerMode extends AbstractElectraOneMode
                 emptyProvider, new FixedParameterProvider (this.eqDevice.getTypeParameter (4), this.eqDevice.getFrequencyParameter (4), this.eqDevice.getGainParameter (4), this.eqDevice.getQParameter (4)), emptyProvider,
                 // Row 6
                 emptyProvider, new FixedParameterProvider (this.eqDevice.getTypeParameter (5), this.eqDevice.getFrequencyParameter (5), this.eqDevice.getGainParameter (5), this.eqDevice.getQParameter (5)), emptyProvider));
+
+        this.addObservedData (this.eqDevice);
     }
 
 
@@ -71,6 +71,8 @@ public class TransportMode extends AbstractElectraOneMode
                 new EmptyParameterProvider (1), new FixedParameterProvider (this.transport.getMetronomeVolumeParameter ()), new FixedParameterProvider (this.project.getCueVolumeParameter ()), new EmptyParameterProvider (3),
                 // Row 6
                 new EmptyParameterProvider (6)));
+
+        this.addObservedData (this.model.getMarkerBank ());
     }
 
 
@@ -21,7 +21,6 @@ import de.mossgrabers.framework.daw.midi.ArpeggiatorMode;
 import de.mossgrabers.framework.observer.IValueObserver;
 import de.mossgrabers.framework.scale.Scales;
 import de.mossgrabers.framework.utils.FileEx;
-import de.mossgrabers.framework.utils.Pair;
 
 import java.io.File;
 import java.io.FileReader;
@@ -258,6 +257,7 @@ public class GenericFlexiConfiguration extends AbstractConfiguration
 
     /** The number of command slots. */
     public static final int                          NUM_SLOTS                    = 300;
+    private static final int                         NUM_SLOT_TYPES               = 5;
 
     private IEnumSetting                             slotSelectionSetting;
     private IEnumSetting                             typeSetting;
@@ -282,6 +282,8 @@ public class GenericFlexiConfiguration extends AbstractConfiguration
     private String                                   filename;
     private final Object                             syncMapUpdate                = new Object ();
     private int []                                   keyMap;
+    private volatile int []                          slotIndex;
+    private volatile int                             slotRevision                 = 0;
     private int                                      selectedSlot                 = 0;
 
     private String                                   learnTypeValue               = null;
@@ -475,7 +477,10 @@ public class GenericFlexiConfiguration extends AbstractConfiguration
             this.getSelectedSlot ().setKnobMode (KnobMode.lookupByLabel (value));
             this.fixKnobMode ();
         });
-        this.sendValueSetting.addValueObserver (value -> this.getSelectedSlot ().setSendValue (AbstractConfiguration.lookupIndex (AbstractConfiguration.ON_OFF_OPTIONS, value) > 0));
+        this.sendValueSetting.addValueObserver (value -> {
+            this.getSelectedSlot ().setSendValue (AbstractConfiguration.lookupIndex (AbstractConfiguration.ON_OFF_OPTIONS, value) > 0);
+            this.slotsChanged ();
+        });
         this.sendValueWhenReceivedSetting.addValueObserver (value -> this.getSelectedSlot ().setSendValueWhenReceived (AbstractConfiguration.lookupIndex (AbstractConfiguration.ON_OFF_OPTIONS, value) > 0));
 
         ///////////////////////////////////////////////
@@ -567,6 +572,7 @@ public class GenericFlexiConfiguration extends AbstractConfiguration
         final FlexiCommand oldCommand = slot.getCommand ();
         final FlexiCommand newCommand = FlexiCommand.lookupByName (value);
         slot.setCommand (newCommand);
+        this.slotsChanged ();
 
         this.fixKnobMode ();
         this.notifyCommandObserver ();
@@ -623,7 +629,8 @@ public class GenericFlexiConfiguration extends AbstractConfiguration
 
 
     /**
-     * Get a matching configured slot command, if available.
+     * Get a matching configured slot command, if available. Uses an index over type, MIDI channel
+     * and number which is rebuilt after the slots have changed.
      *
      * @param type The type
      * @param number The number
@@ -632,29 +639,88 @@ public class GenericFlexiConfiguration extends AbstractConfiguration
      */
     public int getSlotCommand (final int type, final int number, final int midiChannel)
     {
-        for (int i = 0; i < this.commandSlots.length; i++)
+        if (type < 0 || type >= NUM_SLOT_TYPES || number < 0 || number >= 128 || midiChannel < 0 || midiChannel >= 16)
+            return this.findSlotCommand (type, number, midiChannel);
+
+        int [] index = this.slotIndex;
+        if (index == null)
+        {
+            index = this.createSlotIndex ();
+            this.slotIndex = index;
+        }
+        return index[getSlotIndexPosition (type, midiChannel, type == CommandSlot.TYPE_PITCH_BEND ? 0 : number)];
+    }
+
+
+    /**
+     * Get the revision of the slot configuration. It is increased each time the type, number, MIDI
+     * channel, command or the send value option of a slot changes.
+     *
+     * @return The revision
+     */
+    public int getSlotRevision ()
+    {
+        return this.slotRevision;
+    }
+
+
+    /**
+     * Drops the slot lookup table and increases the slot revision.
+     */
+    private void slotsChanged ()
+    {
+        this.slotIndex = null;
+        this.slotRevision++;
+    }
+
+
+    /**
+     * Creates the lookup table for the slots. If several slots match, the one with the lowest index
+     * wins, therefore the slots are processed in reverse order.
+     *
+     * @return The index
+     */
+    private int [] createSlotIndex ()
+    {
+        final int [] index = new int [NUM_SLOT_TYPES * 16 * 128];
+        Arrays.fill (index, -1);
+        for (int i = this.commandSlots.length - 1; i >= 0; i--)
         {
             final CommandSlot slot = this.commandSlots[i];
-            if (slot.getCommand () != FlexiCommand.OFF && slot.getType () == type && (type == CommandSlot.TYPE_PITCH_BEND || slot.getNumber () == number))
+            final int type = slot.getType ();
+            if (slot.getCommand () == FlexiCommand.OFF || type < 0 || type >= NUM_SLOT_TYPES)
+                continue;
+            final int number = type == CommandSlot.TYPE_PITCH_BEND ? 0 : slot.getNumber ();
+            if (number < 0 || number >= 128)
+                continue;
+            final int channel = slot.getMidiChannel ();
+            if (channel == 16)
             {
-                final int channel = slot.getMidiChannel ();
-                if (channel == midiChannel || channel == 16)
-                    return i;
+                for (int c = 0; c < 16; c++)
+                    index[getSlotIndexPosition (type, c, number)] = i;
             }
+            else if (channel >= 0 && channel < 16)
+                index[getSlotIndexPosition (type, channel, number)] = i;
         }
-        return -1;
+        return index;
+    }
+
+
+    private static int getSlotIndexPosition (final int type, final int midiChannel, final int number)
+    {
+        return (type * 16 + midiChannel) * 128 + number;
     }
 
 
     /**
-     * Get a matching configured slot, if available.
+     * Searches all slots for a matching configured slot command.
      *
      * @param type The type
      * @param number The number
      * @param midiChannel The MIDI channel
-     * @return The slot or empty if not found
+     * @return The slot index or -1 if not found
      */
-    public Optional<Pair<Integer, CommandSlot>> getSlot (final int type, final int number, final int midiChannel)
+    private int findSlotCommand (final int type, final int number, final int midiChannel)
     {
         for (int i = 0; i < this.commandSlots.length; i++)
         {
@@ -663,10 +729,10 @@ public class GenericFlexiConfiguration extends AbstractConfiguration
             {
                 final int channel = slot.getMidiChannel ();
                 if (channel == midiChannel || channel == 16)
-                    return Optional.of (new Pair<> (Integer.valueOf (i), slot));
+                    return i;
             }
         }
-        return Optional.empty ();
+        return -1;
     }
 
 
@@ -706,6 +772,7 @@ public class GenericFlexiConfiguration extends AbstractConfiguration
         {
             this.keyMap = null;
         }
+        this.slotsChanged ();
         this.notifyObservers (SLOT_CHANGE);
     }
 
@@ -965,18 +965,18 @@ public enum FlexiCommand
     ACTION_8(CommandCategory.ACTION, "Action: Execute Action 8", true);
 
 
+    private static final FlexiCommand []           VALUES = FlexiCommand.values ();
     private static final String []                 NAMES;
     private static final Map<String, FlexiCommand> NAME_COMMAND_MAP;
 
     static
     {
-        final FlexiCommand [] values = FlexiCommand.values ();
-        NAMES = new String [values.length];
-        NAME_COMMAND_MAP = new HashMap<> (values.length);
-        for (int i = 0; i < values.length; i++)
+        NAMES = new String [VALUES.length];
+        NAME_COMMAND_MAP = new HashMap<> (VALUES.length);
+        for (int i = 0; i < VALUES.length; i++)
         {
-            NAMES[i] = values[i].getName ();
-            NAME_COMMAND_MAP.put (NAMES[i], values[i]);
+            NAMES[i] = VALUES[i].getName ();
+            NAME_COMMAND_MAP.put (NAMES[i], VALUES[i]);
         }
     }
 
@@ -1053,4 +1053,18 @@ public enum FlexiCommand
     {
         return NAME_COMMAND_MAP.getOrDefault (name, FlexiCommand.OFF);
     }
+
+
+    /**
+     * Get the command which follows the given one in a group of commands, e.g. the volume of the
+     * 3rd track is get (TRACK_1_SET_VOLUME, 2).
+     *
+     * @param first The first command of the group
+     * @param offset The offset in the group
+     * @return The command
+     */
+    public static FlexiCommand get (final FlexiCommand first, final int offset)
+    {
+        return VALUES[first.ordinal () + offset];
+    }
 }
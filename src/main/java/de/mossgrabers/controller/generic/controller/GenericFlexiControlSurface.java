@@ -15,7 +15,7 @@ import de.mossgrabers.framework.daw.midi.IMidiInput;
 import de.mossgrabers.framework.daw.midi.IMidiOutput;
 import de.mossgrabers.framework.daw.midi.MidiConstants;
 import de.mossgrabers.framework.mode.Modes;
-import de.mossgrabers.framework.utils.Pair;
+import de.mossgrabers.framework.parameter.IParameter;
 import de.mossgrabers.framework.utils.StringUtils;
 import de.mossgrabers.nativefiledialogs.FileFilter;
 import de.mossgrabers.nativefiledialogs.NativeFileDialogs;
@@ -43,16 +43,24 @@ public class GenericFlexiControlSurface extends AbstractControlSurface<GenericFl
         new FileFilter ("All files", "*")
     };
 
-    private final int []                                  valueCache      = new int [GenericFlexiConfiguration.NUM_SLOTS];
-    private final Map<FlexiCommand, IFlexiCommandHandler> handlers        = new EnumMap<> (FlexiCommand.class);
+    private final int []                                  valueCache             = new int [GenericFlexiConfiguration.NUM_SLOTS];
+    private int []                                        sendValueSlots         = new int [0];
+    private int                                           sendValueSlotsRevision = -1;
+    private final int []                                  commandValues          = new int [FlexiCommand.values ().length];
+    private final int []                                  commandValuesFlush     = new int [FlexiCommand.values ().length];
+    private final boolean []                              observedCommands       = new boolean [FlexiCommand.values ().length];
+    private final int []                                  commandChanges         = new int [FlexiCommand.values ().length];
+    private final int []                                  slotChanges            = new int [GenericFlexiConfiguration.NUM_SLOTS];
+    private int                                           flushCounter           = 0;
+    private final Map<FlexiCommand, IFlexiCommandHandler> handlers               = new EnumMap<> (FlexiCommand.class);
     private NativeFileDialogs                             dialogs;
 
-    private long                                          lastReceived    = 0;
-    private int                                           lastCCReceived  = -1;
-    private final int []                                  lastCCValues    = new int [128];
+    private long                                          lastReceived           = 0;
+    private int                                           lastCCReceived         = -1;
+    private final int []                                  lastCCValues           = new int [128];
 
-    private boolean                                       isShiftPressed  = false;
-    private boolean                                       isUpdatingValue = false;
+    private boolean                                       isShiftPressed         = false;
+    private boolean                                       isUpdatingValue        = false;
 
 
     /**
@@ -97,17 +105,69 @@ public class GenericFlexiControlSurface extends AbstractControlSurface<GenericFl
     }
 
 
+    /**
+     * Observe the parameters which provide the value of a command. When flushing, the value of the
+     * command is then only retrieved for the slots which use it, if one of the parameters reported
+     * a change. Otherwise it is polled on each flush. Must be called during initialization.
+     *
+     * @param command The command
+     * @param parameters The parameters on which the value of the command depends
+     */
+    public void observeCommand (final FlexiCommand command, final IParameter... parameters)
+    {
+        final int ordinal = command.ordinal ();
+        boolean isObserved = true;
+        for (final IParameter parameter: parameters)
+            isObserved &= parameter.addValueObserver (value -> this.commandChanges[ordinal]++);
+        this.observedCommands[ordinal] = isObserved;
+    }
+
+
+    /**
+     * Mark the values of all commands as changed, e.g. if the parameters on which they depend were
+     * exchanged.
+     */
+    public void markAllCommandsChanged ()
+    {
+        for (int i = 0; i < this.commandChanges.length; i++)
+            this.commandChanges[i]++;
+    }
+
+
     /** {@inheritDoc} */
     @Override
     public void flush ()
     {
         final CommandSlot [] slots = this.configuration.getCommandSlots ();
+
+        // Only walk the slots which need to send their value, the list is updated if slots change
+        final int revision = this.configuration.getSlotRevision ();
+        if (revision != this.sendValueSlotsRevision)
+        {
+            this.sendValueSlots = collectSendValueSlots (slots);
+            this.sendValueSlotsRevision = revision;
+
+            // The command of a slot might have changed, retrieve all values again
+            for (final int index: this.sendValueSlots)
+                this.slotChanges[index] = this.commandChanges[slots[index].getCommand ().ordinal ()] - 1;
+        }
+
+        this.flushCounter++;
+        for (final int index: this.sendValueSlots)
+            this.flushValue (index, slots[index]);
+    }
+
+
+    private static int [] collectSendValueSlots (final CommandSlot [] slots)
+    {
+        final int [] indices = new int [slots.length];
+        int count = 0;
         for (int i = 0; i < slots.length; i++)
         {
-            final FlexiCommand command = slots[i].getCommand ();
-            if (command != FlexiCommand.OFF && slots[i].isSendValue ())
-                this.flushValue (i, slots[i]);
+            if (slots[i].getCommand () != FlexiCommand.OFF && slots[i].isSendValue ())
+                indices[count++] = i;
         }
+        return Arrays.copyOf (indices, count);
     }
 
 
@@ -117,7 +177,14 @@ public class GenericFlexiControlSurface extends AbstractControlSurface<GenericFl
         if (this.isUpdatingValue && !(command.isTrigger () && slot.isSendValueWhenReceived ()))
             return;
 
-        final int value = this.getCommandValue (command);
+        // Skip the slot if the value of its command is observed and did not change
+        final int ordinal = command.ordinal ();
+        final int changes = this.commandChanges[ordinal];
+        if (this.observedCommands[ordinal] && this.slotChanges[index] == changes)
+            return;
+        this.slotChanges[index] = changes;
+
+        final int value = this.getFlushedCommandValue (command);
         if (this.valueCache[index] == value)
             return;
 
@@ -126,6 +193,25 @@ public class GenericFlexiControlSurface extends AbstractControlSurface<GenericFl
     }
 
 
+    /**
+     * Get the current value of a command. The value is only retrieved once per flush, even if the
+     * command is assigned to several slots.
+     *
+     * @param command The command
+     * @return The value or -1
+     */
+    private int getFlushedCommandValue (final FlexiCommand command)
+    {
+        final int ordinal = command.ordinal ();
+        if (this.commandValuesFlush[ordinal] != this.flushCounter)
+        {
+            this.commandValues[ordinal] = this.getCommandValue (command);
+            this.commandValuesFlush[ordinal] = this.flushCounter;
+        }
+        return this.commandValues[ordinal];
+    }
+
+
     /** {@inheritDoc} */
     @Override
     public boolean isShiftPressed ()
@@ -234,45 +320,35 @@ public class GenericFlexiControlSurface extends AbstractControlSurface<GenericFl
         boolean isHighResValue = false;
 
         // Check for high resolution related setting
+        final CommandSlot [] slots = this.configuration.getCommandSlots ();
         if (data1 >= 0 && data1 < 32)
         {
-            final Optional<Pair<Integer, CommandSlot>> optional = this.configuration.getSlot (CommandSlot.TYPE_CC, data1, channel);
-            if (optional.isPresent ())
+            final int index = this.configuration.getSlotCommand (CommandSlot.TYPE_CC, data1, channel);
+            if (index >= 0 && slots[index].getResolution ())
             {
-                final Pair<Integer, CommandSlot> pair = optional.get ();
-                if (pair.getValue ().getResolution ())
-                {
-                    slotIndex = pair.getKey ().intValue ();
-                    value = data2 * 128 + this.lastCCValues[data1 + 32];
-                    isHighResValue = true;
-                }
+                slotIndex = index;
+                value = data2 * 128 + this.lastCCValues[data1 + 32];
+                isHighResValue = true;
             }
         }
         else if (data1 >= 32 && data1 < 64)
         {
             final int firstCC = data1 - 32;
-            final Optional<Pair<Integer, CommandSlot>> optional = this.configuration.getSlot (CommandSlot.TYPE_CC, firstCC, channel);
-            if (optional.isPresent ())
+            final int index = this.configuration.getSlotCommand (CommandSlot.TYPE_CC, firstCC, channel);
+            if (index >= 0 && slots[index].getResolution ())
             {
-                final Pair<Integer, CommandSlot> pair = optional.get ();
-                if (pair.getValue ().getResolution ())
-                {
-                    slotIndex = pair.getKey ().intValue ();
-                    value = this.lastCCValues[firstCC] * 128 + data2;
-                    isHighResValue = true;
-                }
+                slotIndex = index;
+                value = this.lastCCValues[firstCC] * 128 + data2;
+                isHighResValue = true;
             }
         }
 
         // No Hi-Res
         if (slotIndex == -1)
         {
-            final Optional<Pair<Integer, CommandSlot>> optional = this.configuration.getSlot (CommandSlot.TYPE_CC, data1, channel);
-            if (optional.isPresent ())
-            {
-                slotIndex = optional.get ().getKey ().intValue ();
+            slotIndex = this.configuration.getSlotCommand (CommandSlot.TYPE_CC, data1, channel);
+            if (slotIndex != -1)
                 value = data2;
-            }
         }
 
         this.handleCommand (slotIndex, MidiValue.get (value, isHighResValue));
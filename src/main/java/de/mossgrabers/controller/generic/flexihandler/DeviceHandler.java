@@ -37,6 +37,10 @@ public class DeviceHandler extends AbstractHandler
     public DeviceHandler (final IModel model, final GenericFlexiControlSurface surface, final GenericFlexiConfiguration configuration, final IValueChanger absoluteLowResValueChanger, final IValueChanger signedBitRelativeValueChanger, final IValueChanger offsetBinaryRelativeValueChanger)
     {
         super (model, surface, configuration, absoluteLowResValueChanger, signedBitRelativeValueChanger, offsetBinaryRelativeValueChanger);
+
+        final IParameterBank parameterBank = model.getCursorDevice ().getParameterBank ();
+        for (int i = 0; i < 8; i++)
+            surface.observeCommand (FlexiCommand.get (FlexiCommand.DEVICE_SET_PARAMETER_1, i), parameterBank.getItem (i));
     }
 
 
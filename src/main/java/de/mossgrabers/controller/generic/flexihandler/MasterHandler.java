@@ -38,6 +38,10 @@ public class MasterHandler extends AbstractHandler
     public MasterHandler (final IModel model, final GenericFlexiControlSurface surface, final GenericFlexiConfiguration configuration, final IValueChanger absoluteLowResValueChanger, final IValueChanger signedBitRelativeValueChanger, final IValueChanger offsetBinaryRelativeValueChanger)
     {
         super (model, surface, configuration, absoluteLowResValueChanger, signedBitRelativeValueChanger, offsetBinaryRelativeValueChanger);
+
+        final IMasterTrack masterTrack = model.getMasterTrack ();
+        surface.observeCommand (FlexiCommand.MASTER_SET_VOLUME, masterTrack.getVolumeParameter ());
+        surface.observeCommand (FlexiCommand.MASTER_SET_PANORAMA, masterTrack.getPanParameter ());
     }
 
 
@@ -23,6 +23,8 @@ import de.mossgrabers.framework.daw.resource.ChannelType;
 import de.mossgrabers.framework.parameter.IParameter;
 import de.mossgrabers.framework.utils.ButtonEvent;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
 
 
@@ -33,7 +35,19 @@ import java.util.Optional;
  */
 public class TrackHandler extends AbstractHandler
 {
-    private final TriggerCommand toggleTrackBankCommand;
+    private static final FlexiCommand [] SEND_COMMANDS =
+    {
+        FlexiCommand.TRACK_1_SET_SEND_1,
+        FlexiCommand.TRACK_1_SET_SEND_2,
+        FlexiCommand.TRACK_1_SET_SEND_3,
+        FlexiCommand.TRACK_1_SET_SEND_4,
+        FlexiCommand.TRACK_1_SET_SEND_5,
+        FlexiCommand.TRACK_1_SET_SEND_6,
+        FlexiCommand.TRACK_1_SET_SEND_7,
+        FlexiCommand.TRACK_1_SET_SEND_8
+    };
+
+    private final TriggerCommand         toggleTrackBankCommand;
 
 
     /**
@@ -51,6 +65,51 @@ public class TrackHandler extends AbstractHandler
         super (model, surface, configuration, absoluteLowResValueChanger, signedBitRelativeValueChanger, offsetBinaryRelativeValueChanger);
 
         this.toggleTrackBankCommand = new ToggleTrackBanksCommand<> (model, surface);
+
+        this.observeTrackParameters ();
+        // The values are taken from the other bank when the track banks are toggled
+        model.addTrackBankObserver (trackBank -> surface.markAllCommandsChanged ());
+    }
+
+
+    /**
+     * Observe the volume, panorama and send parameters of the tracks in the track and effect track
+     * bank, to only retrieve their values on changes.
+     */
+    private void observeTrackParameters ()
+    {
+        final List<ITrackBank> trackBanks = new ArrayList<> ();
+        trackBanks.add (this.model.getTrackBank ());
+        final ITrackBank effectTrackBank = this.model.getEffectTrackBank ();
+        if (effectTrackBank != null)
+            trackBanks.add (effectTrackBank);
+
+        for (int i = 0; i < 8; i++)
+        {
+            final List<IParameter> volumes = new ArrayList<> ();
+            final List<IParameter> pans = new ArrayList<> ();
+            for (final ITrackBank trackBank: trackBanks)
+            {
+                final ITrack track = trackBank.getItem (i);
+                volumes.add (track.getVolumeParameter ());
+                pans.add (track.getPanParameter ());
+            }
+            this.surface.observeCommand (FlexiCommand.get (FlexiCommand.TRACK_1_SET_VOLUME, i), volumes.toArray (IParameter []::new));
+            this.surface.observeCommand (FlexiCommand.get (FlexiCommand.TRACK_1_SET_PANORAMA, i), pans.toArray (IParameter []::new));
+
+            for (int sendIndex = 0; sendIndex < 8; sendIndex++)
+            {
+                final List<IParameter> sends = new ArrayList<> ();
+                for (final ITrackBank trackBank: trackBanks)
+                {
+                    final ISendBank sendBank = trackBank.getItem (i).getSendBank ();
+                    // The value is always 0 if the send does not exist
+                    if (sendIndex < sendBank.getPageSize () && sendBank.getItem (sendIndex) != null)
+                        sends.add (sendBank.getItem (sendIndex));
+                }
+                this.surface.observeCommand (FlexiCommand.get (SEND_COMMANDS[sendIndex], i), sends.toArray (IParameter []::new));
+            }
+        }
     }
 
 
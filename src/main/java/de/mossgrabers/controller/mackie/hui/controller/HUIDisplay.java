@@ -27,6 +27,7 @@ public class HUIDisplay extends AbstractTextDisplay
     private static final String      SYSEX_DISPLAY_HEADER = "F0 00 00 66 05 00 10 ";
 
     private final LatestTaskExecutor executor             = new LatestTaskExecutor ();
+    private final String []          pendingCells         = new String [9];
 
 
     /**
@@ -39,43 +40,70 @@ public class HUIDisplay extends AbstractTextDisplay
     public HUIDisplay (final IHost host, final IMidiOutput output)
     {
         super (host, output, 1 /* No of rows */, 9 /* No of cells */, 36);
+
+        // Each cell is sent with its own message
+        this.partialWriteSize = 4;
     }
 
 
     /** {@inheritDoc} */
     @Override
     public void writeLine (final int row, final String text)
+    {
+        this.writeSpan (row, 0, text);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    protected boolean writeSpan (final int row, final int offset, final String text)
     {
         if (this.executor.isShutdown ())
-            return;
+            return true;
+
+        synchronized (this.pendingCells)
+        {
+            final int firstCell = offset / 4;
+            final int cells = Math.min (text.length () / 4, this.noOfCells - firstCell);
+            for (int i = 0; i < cells; i++)
+                this.pendingCells[firstCell + i] = text.substring (i * 4, i * 4 + 4);
+        }
+
+        // The executor only runs the latest task but each task sends all pending cells
         this.executor.execute ( () -> {
             try
             {
-                this.sendDisplayLine (text);
+                this.sendPendingCells ();
             }
             catch (final RuntimeException ex)
             {
                 this.host.error ("Could not send line to HUI display.", ex);
             }
         });
+        return true;
     }
 
 
     /**
-     * Send a line to the display.
-     *
-     * @param text The text to send
+     * Send all changed cells to the display.
      */
-    private void sendDisplayLine (final String text)
+    private void sendPendingCells ()
     {
-        final String t = text;
-
         final int [] array = new int [5];
         for (int cell = 0; cell < this.noOfCells; cell++)
         {
+            final String t;
+            synchronized (this.pendingCells)
+            {
+                t = this.pendingCells[cell];
+                this.pendingCells[cell] = null;
+            }
+            if (t == null)
+                continue;
+
             array[0] = cell;
             for (int i = 0; i < 4; i++)
-                array[1 + i] = t.charAt (cell * 4 + i);
+                array[1 + i] = t.charAt (i);
             this.output.sendSysex (new StringBuilder (SYSEX_DISPLAY_HEADER).append (StringUtils.toHexStr (array)).append ("F7").toString ());
         }
     }
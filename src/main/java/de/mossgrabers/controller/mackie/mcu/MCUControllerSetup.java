@@ -27,6 +27,7 @@ import de.mossgrabers.controller.mackie.mcu.controller.MCUColorManager;
 import de.mossgrabers.controller.mackie.mcu.controller.MCUControlSurface;
 import de.mossgrabers.controller.mackie.mcu.controller.MCUDeviceType;
 import de.mossgrabers.controller.mackie.mcu.controller.MCUDisplay;
+import de.mossgrabers.controller.mackie.mcu.controller.MCUFeedbackScheduler;
 import de.mossgrabers.controller.mackie.mcu.controller.MCUSegmentDisplay;
 import de.mossgrabers.controller.mackie.mcu.mode.BaseMode;
 import de.mossgrabers.controller.mackie.mcu.mode.MarkerMode;
@@ -104,7 +105,6 @@ import de.mossgrabers.framework.utils.ButtonEvent;
 import de.mossgrabers.framework.view.ControlOnlyView;
 import de.mossgrabers.framework.view.Views;
 
-import java.util.Arrays;
 import java.util.EnumMap;
 import java.util.EnumSet;
 import java.util.Map;
@@ -164,10 +164,6 @@ public class MCUControllerSetup extends AbstractControllerSetup<MCUControlSurfac
 
     private static final Set<Modes> VALUE_MODES      = EnumSet.of (Modes.VOLUME, Modes.PAN, Modes.TRACK, Modes.SEND1, Modes.SEND2, Modes.SEND3, Modes.SEND4, Modes.SEND5, Modes.SEND6, Modes.SEND7, Modes.SEND8, Modes.DEVICE_PARAMS, Modes.EQ_DEVICE_PARAMS, Modes.INSTRUMENT_DEVICE_PARAMS, Modes.USER);
 
-    private final int []            masterVuValues   = new int [2];
-    private int                     masterFaderValue = -1;
-    private final int []            vuValues         = new int [36];
-    private final int []            faderValues      = new int [36];
     private final int               numMCUDevices;
 
 
@@ -186,10 +182,6 @@ public class MCUControllerSetup extends AbstractControllerSetup<MCUControlSurfac
 
         this.numMCUDevices = numMCUDevices;
 
-        Arrays.fill (this.vuValues, -1);
-        Arrays.fill (this.faderValues, -1);
-        Arrays.fill (this.masterVuValues, -1);
-
         this.colorManager = new MCUColorManager ();
         this.valueChanger = new TwosComplementValueChanger (16241 + 1, 10);
         this.configuration = new MCUConfiguration (host, this.valueChanger, numMCUDevices, factory.getArpeggiatorModes ());
@@ -218,6 +210,9 @@ public class MCUControllerSetup extends AbstractControllerSetup<MCUControlSurfac
             if (activeOrTempMode instanceof final BaseMode<?> baseMode)
                 baseMode.updateKnobLEDs ();
         });
+
+        for (int index = 0; index < this.numMCUDevices; index++)
+            this.getSurface (index).getFeedbackScheduler ().flush ();
     }
 
 
@@ -823,7 +818,7 @@ public class MCUControllerSetup extends AbstractControllerSetup<MCUControlSurfac
         for (int index = 0; index < this.numMCUDevices; index++)
         {
             final MCUControlSurface surface = this.getSurface (index);
-            final IMidiOutput output = surface.getMidiOutput ();
+            final MCUFeedbackScheduler scheduler = surface.getFeedbackScheduler ();
             final boolean pinLastDevice = shouldPinFXTracksToLastController && index == this.numMCUDevices - 1;
             final ITrackBank effectTrackBank = this.model.getEffectTrackBank ();
             final IChannelBank<?> channelBank = pinLastDevice && effectTrackBank != null ? effectTrackBank : currentChannelBank;
@@ -833,12 +828,7 @@ public class MCUControllerSetup extends AbstractControllerSetup<MCUControlSurfac
                 final int channel = extenderOffset + i;
                 final IChannel track = channelBank.getItem (channel);
 
-                final int vu = track.getVu ();
-                if (vu != this.vuValues[channel])
-                {
-                    this.vuValues[channel] = vu;
-                    this.sendVUValue (output, i, vu, false);
-                }
+                scheduler.setVU (i, this.scaleVUValue (track.getVu ()), false);
             }
 
             // Stereo VU of master channel
@@ -846,28 +836,16 @@ public class MCUControllerSetup extends AbstractControllerSetup<MCUControlSurfac
             {
                 final IMasterTrack masterTrack = this.model.getMasterTrack ();
 
-                int vu = masterTrack.getVuLeft ();
-                if (vu != this.masterVuValues[0])
-                {
-                    this.masterVuValues[0] = vu;
-                    this.sendVUValue (output, 0, vu, true);
-                }
-
-                vu = masterTrack.getVuRight ();
-                if (vu != this.masterVuValues[1])
-                {
-                    this.masterVuValues[1] = vu;
-                    this.sendVUValue (output, 1, vu, true);
-                }
+                scheduler.setVU (0, this.scaleVUValue (masterTrack.getVuLeft ()), true);
+                scheduler.setVU (1, this.scaleVUValue (masterTrack.getVuRight ()), true);
             }
         }
     }
 
 
-    private void sendVUValue (final IMidiOutput output, final int track, final int vu, final boolean isMaster)
+    private int scaleVUValue (final int vu)
     {
-        final int scaledValue = (int) Math.round (this.valueChanger.toNormalizedValue (vu) * 13);
-        output.sendChannelAftertouch (isMaster ? 1 : 0, 0x10 * track + scaledValue, 0);
+        return (int) Math.round (this.valueChanger.toNormalizedValue (vu) * 13);
     }
 
 
@@ -887,31 +865,21 @@ public class MCUControllerSetup extends AbstractControllerSetup<MCUControlSurfac
         {
             final MCUControlSurface surface = this.getSurface (index);
             final IMode mode = surface.getModeManager ().get (modeId);
-            final IMidiOutput output = surface.getMidiOutput ();
+            final MCUFeedbackScheduler scheduler = surface.getFeedbackScheduler ();
             for (int channel = 0; channel < 8; channel++)
             {
                 // Don't update fader if the user touches and therefore 'stops' it
                 if (mode.isKnobTouched (channel))
                     continue;
 
-                final int value = Math.max (0, mode.getKnobValue (channel));
-                final int position = surface.getExtenderOffset () + channel;
-                if (value != this.faderValues[position])
-                {
-                    this.faderValues[position] = value;
-                    output.sendPitchbend (channel, value % 127, value / 127);
-                }
+                scheduler.setFader (channel, Math.max (0, mode.getKnobValue (channel)));
             }
 
             // Update motor fader of master channel
             if (this.configuration.getDeviceType (index) == MCUDeviceType.MAIN)
             {
                 final int volume = isShiftPressed ? this.model.getTransport ().getMetronomeVolume () : this.model.getMasterTrack ().getVolume ();
-                if (volume != this.masterFaderValue)
-                {
-                    this.masterFaderValue = volume;
-                    output.sendPitchbend (8, volume % 127, volume / 127);
-                }
+                scheduler.setFader (8, volume);
             }
         }
     }
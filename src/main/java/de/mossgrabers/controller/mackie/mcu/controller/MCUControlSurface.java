@@ -188,7 +188,7 @@ public class MCUControlSurface extends AbstractControlSurface<MCUConfiguration>
     public static final int               KNOB_LED_MODE_SPREAD     = 3;
 
     private int                           activeVuMode             = VUMODE_LED;
-    private final int []                  knobValues               = new int [8];
+    private final MCUFeedbackScheduler    feedbackScheduler;
     private byte []                       currentDisplayColors     = new byte [8];
 
     private final List<MCUControlSurface> surfaces;
@@ -216,7 +216,7 @@ public class MCUControlSurface extends AbstractControlSurface<MCUConfiguration>
         this.extenderOffset = extenderOffset;
         this.isMainDevice = isMainDevice;
 
-        Arrays.fill (this.knobValues, -1);
+        this.feedbackScheduler = new MCUFeedbackScheduler (output, MCUFeedbackScheduler.DEFAULT_BYTES_PER_FLUSH);
         Arrays.fill (this.currentDisplayColors, (byte) -1);
     }
 
@@ -273,11 +273,18 @@ public class MCUControlSurface extends AbstractControlSurface<MCUConfiguration>
         int v = knobLEDMode << 4;
         v += rescale;
 
-        if (this.knobValues[index] == v)
-            return;
+        this.feedbackScheduler.setKnobLED (index, v);
+    }
 
-        this.knobValues[index] = v;
-        this.output.sendCC (0x30 + index, v);
+
+    /**
+     * Get the scheduler which sends the fader, knob LED and VU meter values.
+     *
+     * @return The scheduler
+     */
+    public MCUFeedbackScheduler getFeedbackScheduler ()
+    {
+        return this.feedbackScheduler;
     }
 
 
@@ -8,9 +8,12 @@ import de.mossgrabers.framework.controller.display.AbstractTextDisplay;
 import de.mossgrabers.framework.controller.display.ITextDisplay;
 import de.mossgrabers.framework.daw.IHost;
 import de.mossgrabers.framework.daw.midi.IMidiOutput;
+import de.mossgrabers.framework.daw.midi.SysexBuilder;
 import de.mossgrabers.framework.utils.LatestTaskExecutor;
 import de.mossgrabers.framework.utils.StringUtils;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
@@ -32,6 +35,8 @@ public class MCUDisplay extends AbstractTextDisplay
     private final boolean               hasMaster;
 
     private final LatestTaskExecutor [] executors                      = new LatestTaskExecutor [4];
+    private final SysexBuilder []       lineMessages                   = new SysexBuilder [2];
+    private final List<List<Span>>      pendingSpans                   = new ArrayList<> (2);
     private boolean                     isShutdown                     = false;
     private boolean                     insertSpace                    = true;
 
@@ -56,8 +61,17 @@ public class MCUDisplay extends AbstractTextDisplay
 
         this.centerNotification = false;
 
+        // The LCD can be written at any offset, a message has 8 bytes overhead
+        this.partialWriteSize = 1;
+        this.partialWriteGap = 8;
+
         for (int i = 0; i < this.executors.length; i++)
             this.executors[i] = new LatestTaskExecutor ();
+        // One message per row since the rows are sent from different threads
+        for (int i = 0; i < this.lineMessages.length; i++)
+            this.lineMessages[i] = new SysexBuilder (this.getHeader ());
+        for (int i = 0; i < this.lineMessages.length; i++)
+            this.pendingSpans.add (new ArrayList<> ());
     }
 
 
@@ -112,25 +126,59 @@ public class MCUDisplay extends AbstractTextDisplay
     /** {@inheritDoc} */
     @Override
     public void writeLine (final int row, final String text)
+    {
+        this.writeSpan (row, 0, text);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    protected boolean writeSpan (final int row, final int offset, final String text)
     {
         if (this.isShutdown)
-            return;
+            return true;
+
+        final List<Span> spans = this.pendingSpans.get (row);
+        synchronized (spans)
+        {
+            // A complete line replaces everything which was not yet sent
+            if (offset == 0 && text.length () >= this.noOfCharacters)
+                spans.clear ();
+            spans.add (new Span (offset, text));
+        }
 
+        // The executor only runs the latest task but each task sends all pending spans
         final LatestTaskExecutor executor = this.executors[row + (this.isFirstDisplay ? 0 : 2)];
         executor.execute ( () -> {
             try
             {
-                final int length = text.length ();
-                final int [] array = new int [length];
-                for (int i = 0; i < length; i++)
-                    array[i] = text.charAt (i);
-                this.output.sendSysex (new StringBuilder (this.getHeader ()).append (row == 0 ? "00 " : "38 ").append (StringUtils.toHexStr (array)).append ("F7").toString ());
+                this.sendPendingSpans (row);
             }
             catch (final RuntimeException ex)
             {
                 this.host.error ("Could not send line to MCU display.", ex);
             }
         });
+        return true;
+    }
+
+
+    private void sendPendingSpans (final int row)
+    {
+        final List<Span> spans = this.pendingSpans.get (row);
+        final Span [] toSend;
+        synchronized (spans)
+        {
+            toSend = spans.toArray (new Span [spans.size ()]);
+            spans.clear ();
+        }
+
+        final SysexBuilder message = this.lineMessages[row];
+        for (final Span span: toSend)
+        {
+            message.reset ().addByte ((row == 0 ? 0x00 : 0x38) + span.offset ()).addAscii (span.text ());
+            this.output.sendSysex (message);
+        }
     }
 
 
@@ -185,4 +233,9 @@ public class MCUDisplay extends AbstractTextDisplay
             Thread.currentThread ().interrupt ();
         }
     }
+
+
+    private record Span (int offset, String text)
+    {
+    }
 }
\ No newline at end of file
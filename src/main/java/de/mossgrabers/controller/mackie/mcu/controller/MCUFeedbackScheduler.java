@@ -0,0 +1,255 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2023
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.controller.mackie.mcu.controller;
+
+import de.mossgrabers.framework.daw.midi.IMidiOutput;
+
+import java.util.Arrays;
+
+
+/**
+ * Collects the motor fader, knob LED ring and VU meter values of one MCU device during a flush and
+ * sends them at the end of the flush. Values which change several times before they are sent are
+ * coalesced. The messages are sent by priority (faders, then LEDs, then VU meters) until the
+ * maximum number of bytes for one flush is reached, the remaining ones are deferred to the next
+ * flush. VU meters fall by at most 1 segment in a fixed time, which matches the decay of the
+ * device and prevents sending each small change of a falling level. Must only be called from the
+ * host thread.
+ *
+ * @author Jürgen Moßgraber
+ */
+public class MCUFeedbackScheduler
+{
+    /** The default maximum number of bytes to send per flush. */
+    public static final int   DEFAULT_BYTES_PER_FLUSH = 96;
+
+    private static final int  NUM_FADERS              = 9;
+    private static final int  NUM_LEDS                = 8;
+    private static final int  NUM_VUS                 = 10;
+    private static final int  FIRST_LED               = NUM_FADERS;
+    private static final int  FIRST_VU                = FIRST_LED + NUM_LEDS;
+    private static final int  NUM_SLOTS               = FIRST_VU + NUM_VUS;
+
+    /** The time in milliseconds in which a VU meter falls by 1 segment. */
+    private static final int  VU_DECAY_TIME           = 100;
+
+    private final IMidiOutput output;
+    private final int         bytesPerFlush;
+    private final int []      sentValues              = new int [NUM_SLOTS];
+    private final int []      pendingValues           = new int [NUM_SLOTS];
+    private final long []     vuSentTimes             = new long [NUM_VUS];
+    private int               firstVuToSend           = 0;
+
+    private long              sentMessages            = 0;
+    private long              coalescedMessages       = 0;
+    private long              deferredMessages        = 0;
+
+
+    /**
+     * Constructor.
+     *
+     * @param output The MIDI output of the device
+     * @param bytesPerFlush The maximum number of bytes to send per flush, should be large enough to
+     *            send at least all faders and LEDs (51 bytes)
+     */
+    public MCUFeedbackScheduler (final IMidiOutput output, final int bytesPerFlush)
+    {
+        this.output = output;
+        this.bytesPerFlush = bytesPerFlush;
+
+        this.clearCache ();
+    }
+
+
+    /**
+     * Set the position of a motor fader.
+     *
+     * @param index The index of the fader, 0-7 for the channels, 8 for the master fader
+     * @param value The position 0-16383
+     */
+    public void setFader (final int index, final int value)
+    {
+        this.setValue (index, value);
+    }
+
+
+    /**
+     * Set the LED ring of a knob.
+     *
+     * @param index The index of the knob (0-7)
+     * @param value The LED mode (upper 3 bits) and value (lower 4 bits)
+     */
+    public void setKnobLED (final int index, final int value)
+    {
+        this.setValue (FIRST_LED + index, value);
+    }
+
+
+    /**
+     * Set the level of a VU meter.
+     *
+     * @param index The index of the meter, 0-7 for the channels, 0-1 for the master
+     * @param level The level 0-13
+     * @param isMaster True to set the left/right master meter
+     */
+    public void setVU (final int index, final int level, final boolean isMaster)
+    {
+        final int vuIndex = isMaster ? 8 + index : index;
+        final int slot = FIRST_VU + vuIndex;
+
+        int value = level;
+        final int sent = this.sentValues[slot];
+        if (sent > level)
+        {
+            final long elapsed = System.currentTimeMillis () - this.vuSentTimes[vuIndex];
+            value = Math.max (level, sent - (int) (elapsed / VU_DECAY_TIME));
+        }
+        this.setValue (slot, value);
+    }
+
+
+    /**
+     * Send the pending values, ordered by priority, until the maximum number of bytes is reached.
+     */
+    public void flush ()
+    {
+        int bytes = 0;
+        for (int slot = 0; slot < FIRST_VU; slot++)
+        {
+            if (this.pendingValues[slot] >= 0)
+                bytes = this.send (slot, bytes, 3);
+        }
+
+        // Start with the meters which were deferred last time to not always drop the same ones
+        final int start = this.firstVuToSend;
+        this.firstVuToSend = -1;
+        for (int i = 0; i < NUM_VUS; i++)
+        {
+            final int vuIndex = (start + i) % NUM_VUS;
+            final int slot = FIRST_VU + vuIndex;
+            if (this.pendingValues[slot] < 0)
+                continue;
+            final int newBytes = this.send (slot, bytes, 2);
+            if (newBytes == bytes && this.firstVuToSend < 0)
+                this.firstVuToSend = vuIndex;
+            bytes = newBytes;
+        }
+        if (this.firstVuToSend < 0)
+            this.firstVuToSend = 0;
+    }
+
+
+    /**
+     * Forget all sent values, which sends all values again when they are set the next time.
+     */
+    public void clearCache ()
+    {
+        Arrays.fill (this.sentValues, -1);
+        Arrays.fill (this.pendingValues, -1);
+    }
+
+
+    /**
+     * Get the number of sent messages.
+     *
+     * @return The number of messages
+     */
+    public long getSentMessages ()
+    {
+        return this.sentMessages;
+    }
+
+
+    /**
+     * Get the number of messages which were not sent since their value changed again before the
+     * next flush.
+     *
+     * @return The number of messages
+     */
+    public long getCoalescedMessages ()
+    {
+        return this.coalescedMessages;
+    }
+
+
+    /**
+     * Get the number of times a message was deferred to the next flush since the maximum number of
+     * bytes was reached.
+     *
+     * @return The number of deferrals
+     */
+    public long getDeferredMessages ()
+    {
+        return this.deferredMessages;
+    }
+
+
+    /**
+     * Reset the statistics.
+     */
+    public void resetStatistics ()
+    {
+        this.sentMessages = 0;
+        this.coalescedMessages = 0;
+        this.deferredMessages = 0;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public String toString ()
+    {
+        return "Sent: " + this.sentMessages + ", coalesced: " + this.coalescedMessages + ", deferred: " + this.deferredMessages;
+    }
+
+
+    private void setValue (final int slot, final int value)
+    {
+        final int pending = this.pendingValues[slot];
+        if (pending == value)
+            return;
+        if (pending >= 0)
+            this.coalescedMessages++;
+        this.pendingValues[slot] = value == this.sentValues[slot] ? -1 : value;
+    }
+
+
+    /**
+     * Send the pending value of a slot if it fits into the remaining bytes.
+     *
+     * @param slot The slot
+     * @param bytes The number of bytes already sent in this flush
+     * @param size The number of bytes of the message
+     * @return The number of bytes sent in this flush including the message, if it was sent
+     */
+    private int send (final int slot, final int bytes, final int size)
+    {
+        if (bytes + size > this.bytesPerFlush)
+        {
+            this.deferredMessages++;
+            return bytes;
+        }
+
+        final int value = this.pendingValues[slot];
+        if (slot < FIRST_LED)
+            this.output.sendPitchbend (slot, value % 127, value / 127);
+        else if (slot < FIRST_VU)
+            this.output.sendCC (0x30 + slot - FIRST_LED, value);
+        else
+        {
+            final int vuIndex = slot - FIRST_VU;
+            if (vuIndex < 8)
+                this.output.sendChannelAftertouch (0, 0x10 * vuIndex + value, 0);
+            else
+                this.output.sendChannelAftertouch (1, 0x10 * (vuIndex - 8) + value, 0);
+            this.vuSentTimes[vuIndex] = System.currentTimeMillis ();
+        }
+
+        this.sentValues[slot] = value;
+        this.pendingValues[slot] = -1;
+        this.sentMessages++;
+        return bytes + size;
+    }
+}
@@ -55,6 +55,8 @@ public class DeviceBrowserMode extends BaseMode<IItem>
     public DeviceBrowserMode (final MCUControlSurface surface, final IModel model)
     {
         super ("Browser", surface, model);
+
+        this.addObservedBrowserData ();
     }
 
 
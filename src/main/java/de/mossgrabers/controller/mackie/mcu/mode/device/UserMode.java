@@ -35,6 +35,8 @@ public class UserMode extends BaseMode<IParameter>
 
         final int surfaceID = surface.getSurfaceID ();
         this.setParameterProvider (new RangeFilterParameterProvider (new BankParameterProvider (model.getUserParameterBank ()), surfaceID * 8, 8));
+
+        this.addObservedData (model.getUserParameterBank ());
     }
 
 
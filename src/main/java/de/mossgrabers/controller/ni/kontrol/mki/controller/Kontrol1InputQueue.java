@@ -0,0 +1,177 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2023
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.controller.ni.kontrol.mki.controller;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+
+/**
+ * Collects the changes decoded from the HID input reports of the Kontrol 1 until they are
+ * processed on the host thread. The changes are stored as int values in a ring buffer. When
+ * draining, the changes of an encoder are summed up until the next button or octave change,
+ * therefore the order of the changes is kept. Must only be filled from one thread (the HID input
+ * thread) and drained from one other thread. Neither needs to lock or to allocate memory.
+ *
+ * @author Jürgen Moßgraber
+ */
+class Kontrol1InputQueue
+{
+    private static final int    CAPACITY           = 1024;
+    private static final int    MASK               = CAPACITY - 1;
+
+    private static final int    EVENT_BUTTON       = 0;
+    private static final int    EVENT_OCTAVE       = 1;
+    private static final int    EVENT_MAIN_ENCODER = 2;
+    private static final int    EVENT_ENCODER      = 3;
+
+    // The maximum change which can be represented as a relative value
+    private static final int    MAX_CHANGE         = 63;
+
+    private final int []        events             = new int [CAPACITY];
+    private final AtomicInteger writeIndex         = new AtomicInteger ();
+    private final AtomicInteger readIndex          = new AtomicInteger ();
+
+    // Only accessed while draining
+    private final int []        encoderChanges;
+    private int                 mainEncoderSteps;
+
+
+    /**
+     * Constructor.
+     *
+     * @param numEncoders The number of encoders
+     */
+    Kontrol1InputQueue (final int numEncoders)
+    {
+        this.encoderChanges = new int [numEncoders];
+    }
+
+
+    /**
+     * Add a button change.
+     *
+     * @param buttonID The ID of the button
+     * @param isPressed True if pressed
+     * @return False if the queue is full and the change was not added
+     */
+    boolean addButtonChange (final int buttonID, final boolean isPressed)
+    {
+        return this.add (EVENT_BUTTON, buttonID, isPressed ? 1 : 0);
+    }
+
+
+    /**
+     * Add an octave change.
+     *
+     * @param firstNote The left most note that the keyboard sends now
+     * @return False if the queue is full and the change was not added
+     */
+    boolean addOctaveChange (final int firstNote)
+    {
+        return this.add (EVENT_OCTAVE, 0, firstNote);
+    }
+
+
+    /**
+     * Add a step of the main encoder.
+     *
+     * @param valueIncreased True if turned right
+     * @return False if the queue is full and the change was not added
+     */
+    boolean addMainEncoderChange (final boolean valueIncreased)
+    {
+        return this.add (EVENT_MAIN_ENCODER, 0, valueIncreased ? 1 : -1);
+    }
+
+
+    /**
+     * Add a change of an encoder.
+     *
+     * @param encIndex The index of the encoder
+     * @param change The change value
+     * @return False if the queue is full and the change was not added
+     */
+    boolean addEncoderChange (final int encIndex, final int change)
+    {
+        return change == 0 || this.add (EVENT_ENCODER, encIndex, change);
+    }
+
+
+    /**
+     * Send all collected changes to the callback. Subsequent steps of the main encoder and changes
+     * of an encoder are sent as one accumulated change before the next button or octave change.
+     *
+     * @param callback The callback
+     */
+    void drain (final UIChangeCallback callback)
+    {
+        int read = this.readIndex.get ();
+        final int write = this.writeIndex.get ();
+        while (read != write)
+        {
+            final int event = this.events[read & MASK];
+            read++;
+            // Free the slot before calling back
+            this.readIndex.lazySet (read);
+
+            final int id = event >> 16 & 0xFF;
+            final int value = (short) event;
+            switch (event >>> 24)
+            {
+                case EVENT_MAIN_ENCODER:
+                    this.mainEncoderSteps += value;
+                    break;
+                case EVENT_ENCODER:
+                    this.encoderChanges[id] += value;
+                    break;
+                case EVENT_OCTAVE:
+                    this.sendEncoderChanges (callback);
+                    callback.octaveChanged (value);
+                    break;
+                default:
+                    this.sendEncoderChanges (callback);
+                    callback.buttonChange (id, value > 0);
+                    break;
+            }
+        }
+
+        this.sendEncoderChanges (callback);
+    }
+
+
+    /**
+     * Send the accumulated steps of the main encoder and the changes of the encoders.
+     *
+     * @param callback The callback
+     */
+    private void sendEncoderChanges (final UIChangeCallback callback)
+    {
+        final int steps = this.mainEncoderSteps;
+        this.mainEncoderSteps = 0;
+        for (int i = 0; i < Math.abs (steps); i++)
+            callback.mainEncoderChanged (steps > 0);
+
+        for (int i = 0; i < this.encoderChanges.length; i++)
+        {
+            final int change = this.encoderChanges[i];
+            if (change == 0)
+                continue;
+            this.encoderChanges[i] = 0;
+            callback.encoderChanged (i, Math.max (-MAX_CHANGE, Math.min (MAX_CHANGE, change)));
+        }
+    }
+
+
+    private boolean add (final int type, final int id, final int value)
+    {
+        final int write = this.writeIndex.get ();
+        if (write - this.readIndex.get () == CAPACITY)
+            return false;
+        this.events[write & MASK] = type << 24 | (id & 0xFF) << 16 | value & 0xFFFF;
+        // Publish the event after it was written
+        this.writeIndex.lazySet (write + 1);
+        return true;
+    }
+}
@@ -5,16 +5,16 @@
 package de.mossgrabers.controller.ni.kontrol.mki.controller;
 
 import de.mossgrabers.framework.daw.IHost;
-import de.mossgrabers.framework.daw.IMemoryBlock;
+import de.mossgrabers.framework.usb.HidReportWriter;
 import de.mossgrabers.framework.usb.IHidDevice;
 import de.mossgrabers.framework.usb.IUsbDevice;
 import de.mossgrabers.framework.usb.UsbException;
 
-import java.nio.ByteBuffer;
 import java.util.Arrays;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 
 /**
@@ -326,6 +326,12 @@ public class Kontrol1UsbDevice
         (byte) 129
     };
 
+    private static final byte []               BLANK                     = new byte []
+    {
+        0,
+        0
+    };
+
     private static final int []                BYTE_0                    =
     {
         Kontrol1ControlSurface.BUTTON_MAIN_ENCODER,
@@ -406,13 +412,18 @@ public class Kontrol1UsbDevice
     private static final byte                  REPORT_ID_OUTPUT_DISPLAY  = (byte) 0xE0;
 
     private static final int                   SIZE_DISPLAY              = 248;
+    private static final int                   SIZE_DISPLAY_HEADER       = 8;
     private static final int                   SIZE_BUTTON_LEDS          = 25;
+    private static final int                   SIZE_INIT                 = 2;
+
+    private static final byte []               INIT_DATA                 = new byte [SIZE_INIT];
 
     private final int                          sizeKeyLEDs;
-    private final IMemoryBlock                 displayBlock;
-    private final IMemoryBlock                 ledBlock;
-    private final IMemoryBlock                 keyLedBlock;
-    private final IMemoryBlock                 initBlock;
+    private HidReportWriter                    hidWriter;
+    private int                                initSlot;
+    private int                                ledSlot;
+    private int                                keyLedSlot;
+    private final int []                       displaySlots              = new int [3];
 
     private static final Map<Integer, Integer> LED_MAPPING               = new HashMap<> (21);
 
@@ -426,6 +437,11 @@ public class Kontrol1UsbDevice
     private int                                mainEncoderValue;
     private final int []                       encoderValues             = new int [8];
     private int                                firstNote                 = 48;
+    private final int []                       buttonBytes               = new int [5];
+
+    private final Kontrol1InputQueue           inputQueue                = new Kontrol1InputQueue (8);
+    private final AtomicBoolean                isDrainScheduled          = new AtomicBoolean (false);
+    private final Runnable                     drainTask                 = this::drainInput;
 
     private final byte []                      buttonStates              = new byte [21];
     private final byte []                      oldButtonStates           = new byte [21];
@@ -435,10 +451,17 @@ public class Kontrol1UsbDevice
 
     private final boolean [] []                dots                      = new boolean [2] [72];
     private final int [] []                    bars                      = new int [9] [9];
+    private final int []                       barValues                 = new int [9];
     private final char [] []                   texts                     = new char [2] [72];
-    private final char [] []                   oldTexts                  = new char [2] [72];
 
-    private final byte []                      line0                     = new byte [SIZE_DISPLAY];
+    // Line 0 contains the bars and dots, lines 1 and 2 the texts
+    private final boolean []                   isLineDirty               =
+    {
+        true,
+        false,
+        false
+    };
+    private final byte []                      displayData               = new byte [SIZE_DISPLAY];
 
     private boolean                            isFirstStateMsg           = true;
 
@@ -487,21 +510,28 @@ public class Kontrol1UsbDevice
             {
                 this.hidDevice = hidDevOpt.get ();
                 this.hidDevice.setCallback ( (reportID, data, received) -> this.processHIDMessage (reportID, data));
+                this.hidWriter = new HidReportWriter (host, this.hidDevice);
             }
         }
         catch (final UsbException ex)
         {
             this.usbDevice = null;
             this.hidDevice = null;
+            this.hidWriter = null;
             host.error ("Could not open USB connection: " + ex.getMessage ());
         }
 
         this.sizeKeyLEDs = KEY_SIZES[modelIndex] * 3;
 
-        this.displayBlock = host.createMemoryBlock (SIZE_DISPLAY);
-        this.ledBlock = host.createMemoryBlock (SIZE_BUTTON_LEDS);
-        this.keyLedBlock = host.createMemoryBlock (this.sizeKeyLEDs);
-        this.initBlock = host.createMemoryBlock (2);
+        if (this.hidWriter != null)
+        {
+            this.initSlot = this.hidWriter.addSlot (REPORT_ID_OUTPUT_INIT, SIZE_INIT);
+            this.ledSlot = this.hidWriter.addSlot (REPORT_ID_OUTPUT_LEDS, SIZE_BUTTON_LEDS);
+            this.keyLedSlot = this.hidWriter.addSlot (REPORT_ID_OUTPUT_KEY_LEDS, this.sizeKeyLEDs);
+            // The 3 lines of the display are sent with the same report ID
+            for (int line = 0; line < this.displaySlots.length; line++)
+                this.displaySlots[line] = this.hidWriter.addSlot (REPORT_ID_OUTPUT_DISPLAY, SIZE_DISPLAY);
+        }
 
         // To send black LEDs on startup
         this.oldKeyColors[0] = -1;
@@ -538,12 +568,7 @@ public class Kontrol1UsbDevice
         if (this.hidDevice == null)
             return;
 
-        synchronized (this.initBlock)
-        {
-            final ByteBuffer buffer = this.initBlock.createByteBuffer ();
-            padBuffer (buffer);
-            this.hidDevice.sendOutputReport (REPORT_ID_OUTPUT_INIT, this.initBlock);
-        }
+        this.hidWriter.submit (this.initSlot, INIT_DATA, INIT_DATA.length);
     }
 
 
@@ -558,7 +583,10 @@ public class Kontrol1UsbDevice
     {
         if (row < 0 || row > 1 || index < 0 || index > 71)
             return;
+        if (this.texts[row][index] == character)
+            return;
         this.texts[row][index] = character;
+        this.isLineDirty[row + 1] = true;
     }
 
 
@@ -573,7 +601,10 @@ public class Kontrol1UsbDevice
     {
         if (row < 0 || row > 1 || index < 0 || index > 71)
             return;
+        if (this.dots[row][index] == set)
+            return;
         this.dots[row][index] = set;
+        this.isLineDirty[0] = true;
     }
 
 
@@ -592,9 +623,9 @@ public class Kontrol1UsbDevice
 
         for (int i = 0; i < 9; i++)
         {
-            this.bars[column][i] = i < full ? 3 : 0;
+            this.barValues[i] = i < full ? 3 : 0;
             if (hasBorder)
-                this.bars[column][i] += 68;
+                this.barValues[i] += 68;
         }
 
         if (full < 9)
@@ -605,10 +636,12 @@ public class Kontrol1UsbDevice
                 dashes = 2;
             else if (dashes == 2)
                 dashes = 1;
-            this.bars[column][full] = dashes;
+            this.barValues[full] = dashes;
             if (hasBorder)
-                this.bars[column][full] += 68;
+                this.barValues[full] += 68;
         }
+
+        this.updateBar (column);
     }
 
 
@@ -623,7 +656,7 @@ public class Kontrol1UsbDevice
     public void setPanBar (final int column, final boolean hasBorder, final int value, final int maxValue)
     {
         for (int i = 0; i < 9; i++)
-            this.bars[column][i] = i == 4 ? 3 : 0;
+            this.barValues[i] = i == 4 ? 3 : 0;
 
         final int middle = maxValue / 2;
         if (value != middle)
@@ -637,83 +670,93 @@ public class Kontrol1UsbDevice
             if (isLeft)
             {
                 for (int i = 4 - half; i <= 4; i++)
-                    this.bars[column][i] = 3;
+                    this.barValues[i] = 3;
                 if (rest > 0 && 4 - half - 1 >= 0)
-                    this.bars[column][4 - half - 1] = 2;
+                    this.barValues[4 - half - 1] = 2;
             }
             else
             {
                 for (int i = 0; i <= half; i++)
-                    this.bars[column][5 + i] = 3;
+                    this.barValues[5 + i] = 3;
                 if (rest > 0 && 5 + half + 1 <= 8)
-                    this.bars[column][5 + half + 1] = 2;
+                    this.barValues[5 + half + 1] = 2;
             }
         }
 
-        if (!hasBorder)
+        if (hasBorder)
+        {
+            for (int i = 0; i < 9; i++)
+                this.barValues[i] += 68;
+        }
+
+        this.updateBar (column);
+    }
+
+
+    /**
+     * Store the calculated bar values of a column and mark the line with the bars as changed if
+     * they differ.
+     *
+     * @param column The column (0-8)
+     */
+    private void updateBar (final int column)
+    {
+        if (Arrays.equals (this.bars[column], this.barValues))
             return;
-        for (int i = 0; i < 9; i++)
-            this.bars[column][i] += 68;
+        System.arraycopy (this.barValues, 0, this.bars[column], 0, this.barValues.length);
+        this.isLineDirty[0] = true;
     }
 
 
     /**
-     * Send all display data to the device.
+     * Send the changed display lines to the device.
      */
     public void sendDisplayData ()
     {
         if (this.hidDevice == null)
             return;
 
-        synchronized (this.displayBlock)
+        if (this.isLineDirty[0])
         {
-            final ByteBuffer displayBuffer = this.displayBlock.createByteBuffer ();
-            fillHeader (displayBuffer, 0);
+            this.isLineDirty[0] = false;
+
+            int pos = fillHeader (this.displayData, 0);
             for (int j = 0; j < 72; j++)
             {
                 final int col = j / 8;
-                displayBuffer.put ((byte) this.bars[col][j - col * 8]);
+                this.displayData[pos++] = (byte) this.bars[col][j - col * 8];
 
                 if (j % 8 == 7)
-                    displayBuffer.put ((byte) this.bars[col][8]);
+                    this.displayData[pos++] = (byte) this.bars[col][8];
                 else
                 {
                     if (this.dots[0][j] && this.dots[1][j])
-                        displayBuffer.put ((byte) 255);
+                        this.displayData[pos++] = (byte) 255;
                     else if (this.dots[0][j])
-                        displayBuffer.put ((byte) 253);
+                        this.displayData[pos++] = (byte) 253;
                     else if (this.dots[1][j])
-                        displayBuffer.put ((byte) 254);
+                        this.displayData[pos++] = (byte) 254;
                     else
-                        displayBuffer.put ((byte) 0);
+                        this.displayData[pos++] = (byte) 0;
                 }
             }
-            padBuffer (displayBuffer);
-
-            final byte [] l0 = new byte [SIZE_DISPLAY];
-            displayBuffer.rewind ();
-            displayBuffer.get (l0);
+            this.hidWriter.submit (this.displaySlots[0], this.displayData, pos);
+        }
 
-            if (!Arrays.equals (this.line0, l0))
-            {
-                System.arraycopy (l0, 0, this.line0, 0, this.line0.length);
-                this.hidDevice.sendOutputReport (REPORT_ID_OUTPUT_DISPLAY, this.displayBlock);
-            }
+        for (int row = 1; row < 3; row++)
+        {
+            if (!this.isLineDirty[row])
+                continue;
+            this.isLineDirty[row] = false;
 
-            for (int row = 1; row < 3; row++)
+            int pos = fillHeader (this.displayData, row);
+            for (int j = 0; j < 72; j++)
             {
-                if (!Arrays.equals (this.oldTexts[row - 1], this.texts[row - 1]))
-                {
-                    System.arraycopy (this.texts[row - 1], 0, this.oldTexts[row - 1], 0, this.oldTexts[row - 1].length);
-
-                    fillHeader (displayBuffer, row);
-                    for (int j = 0; j < 72; j++)
-                        displayBuffer.put (this.getCharacter (row - 1, j));
-
-                    padBuffer (displayBuffer);
-                    this.hidDevice.sendOutputReport (REPORT_ID_OUTPUT_DISPLAY, this.displayBlock);
-                }
+                final byte [] character = this.getCharacter (row - 1, j);
+                this.displayData[pos++] = character[0];
+                this.displayData[pos++] = character[1];
             }
+            this.hidWriter.submit (this.displaySlots[row], this.displayData, pos);
         }
     }
 
@@ -727,6 +770,8 @@ public class Kontrol1UsbDevice
             return;
         final IHidDevice device = this.hidDevice;
         this.hidDevice = null;
+        // Sends the remaining data
+        this.hidWriter.shutdown ();
         device.close ();
     }
 
@@ -753,17 +798,12 @@ public class Kontrol1UsbDevice
         if (this.hidDevice == null)
             return;
 
-        synchronized (this.ledBlock)
+        synchronized (this.oldButtonStates)
         {
             if (Arrays.equals (this.oldButtonStates, this.buttonStates))
                 return;
             System.arraycopy (this.buttonStates, 0, this.oldButtonStates, 0, this.oldButtonStates.length);
-
-            final ByteBuffer ledBuffer = this.ledBlock.createByteBuffer ();
-            ledBuffer.clear ();
-            ledBuffer.put (this.buttonStates);
-            padBuffer (ledBuffer);
-            this.hidDevice.sendOutputReport (REPORT_ID_OUTPUT_LEDS, this.ledBlock);
+            this.hidWriter.submit (this.ledSlot, this.buttonStates, this.buttonStates.length);
         }
     }
 
@@ -783,7 +823,7 @@ public class Kontrol1UsbDevice
         if (key < 0 || key >= 88)
             return;
         final int pos = 3 * key;
-        synchronized (this.keyLedBlock)
+        synchronized (this.keyColors)
         {
             this.keyColors[pos] = (byte) red;
             this.keyColors[pos + 1] = (byte) green;
@@ -800,42 +840,40 @@ public class Kontrol1UsbDevice
         if (this.hidDevice == null)
             return;
 
-        synchronized (this.keyLedBlock)
+        synchronized (this.keyColors)
         {
             if (Arrays.equals (this.oldKeyColors, this.keyColors))
                 return;
             System.arraycopy (this.keyColors, 0, this.oldKeyColors, 0, this.oldKeyColors.length);
-            final ByteBuffer keyLedBuffer = this.keyLedBlock.createByteBuffer ();
-            keyLedBuffer.clear ();
-            keyLedBuffer.put (this.keyColors, 0, this.sizeKeyLEDs);
-            padBuffer (keyLedBuffer);
-            this.hidDevice.sendOutputReport (REPORT_ID_OUTPUT_KEY_LEDS, this.keyLedBlock);
+            this.hidWriter.submit (this.keyLedSlot, this.keyColors, this.sizeKeyLEDs);
         }
     }
 
 
     /**
-     * Fill the display buffer with the header data
+     * Fill the display data with the header data
      *
-     * @param displayBuffer The display buffer to which to add the header
+     * @param displayData The display data to which to add the header
      * @param row The row number (0-3)
+     * @return The position after the header
      */
-    private static void fillHeader (final ByteBuffer displayBuffer, final int row)
-    {
-        displayBuffer.clear ();
-        displayBuffer.put ((byte) 0x00);
-        displayBuffer.put ((byte) 0x00);
-        displayBuffer.put ((byte) row);
-        displayBuffer.put ((byte) 0x00);
-        displayBuffer.put ((byte) 0x48);
-        displayBuffer.put ((byte) 0x00);
-        displayBuffer.put ((byte) 0x01);
-        displayBuffer.put ((byte) 0x00);
+    private static int fillHeader (final byte [] displayData, final int row)
+    {
+        displayData[0] = (byte) 0x00;
+        displayData[1] = (byte) 0x00;
+        displayData[2] = (byte) row;
+        displayData[3] = (byte) 0x00;
+        displayData[4] = (byte) 0x48;
+        displayData[5] = (byte) 0x00;
+        displayData[6] = (byte) 0x01;
+        displayData[7] = (byte) 0x00;
+        return SIZE_DISPLAY_HEADER;
     }
 
 
     /**
-     * Process the received HID message.
+     * Process the received HID message. The changes are collected in the input queue which is
+     * drained on the host thread.
      *
      * @param reportID The report (= function/method) number
      * @param data The data
@@ -846,15 +884,21 @@ public class Kontrol1UsbDevice
             return;
 
         boolean encoderChange = false;
+        boolean hasChanges = false;
 
         // Decode main knob
         final int currentEncoderValue = Byte.toUnsignedInt (data[5]);
         if (currentEncoderValue != this.mainEncoderValue)
         {
             final boolean valueIncreased = (this.mainEncoderValue < currentEncoderValue || this.mainEncoderValue == 0x0F && currentEncoderValue == 0) && !(this.mainEncoderValue == 0 && currentEncoderValue == 0x0F);
-            this.mainEncoderValue = currentEncoderValue;
-            if (!this.isFirstStateMsg)
-                this.host.scheduleTask ( () -> this.callback.mainEncoderChanged (valueIncreased), 0);
+            if (this.isFirstStateMsg)
+                this.mainEncoderValue = currentEncoderValue;
+            // If the queue is full, the change is tested again with the next message
+            else if (this.inputQueue.addMainEncoderChange (valueIncreased))
+            {
+                this.mainEncoderValue = currentEncoderValue;
+                hasChanges = true;
+            }
             encoderChange = true;
         }
 
@@ -878,15 +922,14 @@ public class Kontrol1UsbDevice
                 else if (diff > 500)
                     diff = diff - 999;
 
-                this.encoderValues[encIndex] = value;
-                if (!this.isFirstStateMsg)
+                if (this.isFirstStateMsg)
+                    this.encoderValues[encIndex] = value;
+                // Slow down, minimum value seems to be 4. If the queue is full, the change is
+                // added to the one of the next message
+                else if (this.inputQueue.addEncoderChange (encIndex, diff / 4))
                 {
-                    final int ei = encIndex;
-
-                    // Slow down, minimum value seems to be 4
-                    final int control = diff / 4;
-
-                    this.host.scheduleTask ( () -> this.callback.encoderChanged (ei, control), 0);
+                    this.encoderValues[encIndex] = value;
+                    hasChanges = true;
                 }
                 encoderChange = true;
             }
@@ -895,23 +938,39 @@ public class Kontrol1UsbDevice
         this.isFirstStateMsg = false;
 
         // Test the pressed buttons
-        this.testByteForButtons (data[0], BYTE_0);
-        this.testByteForButtons (data[1], BYTE_1);
-        this.testByteForButtons (data[2], BYTE_2);
+        hasChanges |= this.testByteForButtons (0, data[0], BYTE_0);
+        hasChanges |= this.testByteForButtons (1, data[1], BYTE_1);
+        hasChanges |= this.testByteForButtons (2, data[2], BYTE_2);
         // Don't test touch events on encoder change to prevent flickering
         if (!encoderChange)
         {
-            this.testByteForButtons (data[3], BYTE_3);
-            this.testByteForButtons (data[4], BYTE_4);
+            hasChanges |= this.testByteForButtons (3, data[3], BYTE_3);
+            hasChanges |= this.testByteForButtons (4, data[4], BYTE_4);
         }
 
-        // Changes the octave on the keyboard
-        if (this.firstNote != data[36])
+        // Changes the octave on the keyboard, if the queue is full it is tested again with the next
+        // message
+        if (this.firstNote != data[36] && this.inputQueue.addOctaveChange (data[36]))
         {
             // Store the new start note
             this.firstNote = data[36];
-            this.host.scheduleTask ( () -> this.callback.octaveChanged (this.firstNote), 0);
+            hasChanges = true;
         }
+
+        if (hasChanges && !this.isDrainScheduled.getAndSet (true))
+            this.host.scheduleTask (this.drainTask, 0);
+    }
+
+
+    /**
+     * Send the collected changes to the callback. Called on the host thread.
+     */
+    private void drainInput ()
+    {
+        // Reset before draining, changes which are added afterwards schedule a new task
+        this.isDrainScheduled.set (false);
+        if (this.callback != null)
+            this.inputQueue.drain (this.callback);
     }
 
 
@@ -946,27 +1005,41 @@ public class Kontrol1UsbDevice
                 return BWD_SLASH;
 
             default:
-                return new byte []
-                {
-                    0,
-                    0
-                };
+                return BLANK;
         }
     }
 
 
-    private void testByteForButtons (final byte b, final int [] buttons)
+    /**
+     * Queue the buttons whose state changed since the last message.
+     *
+     * @param byteIndex The index of the byte in the message
+     * @param b The byte with the button states
+     * @param buttons The IDs of the buttons of the bits of the byte
+     * @return True if at least one change was queued
+     */
+    private boolean testByteForButtons (final int byteIndex, final byte b, final int [] buttons)
     {
         if (this.callback == null)
-            return;
+            return false;
 
         final int t = Byte.toUnsignedInt (b);
+        int state = this.buttonBytes[byteIndex];
+        boolean hasChanges = false;
         for (int i = 0; i < buttons.length; i++)
         {
-            final int button = buttons[i];
-            final boolean isPressed = (t & TEST_BITS[i]) > 0;
-            this.host.scheduleTask ( () -> this.callback.buttonChange (button, isPressed), 0);
+            final int bit = TEST_BITS[i];
+            if ((t & bit) == (state & bit))
+                continue;
+            // If the queue is full, the old state is kept to test it again with the next message
+            if (this.inputQueue.addButtonChange (buttons[i], (t & bit) > 0))
+            {
+                state ^= bit;
+                hasChanges = true;
+            }
         }
+        this.buttonBytes[byteIndex] = state;
+        return hasChanges;
     }
 
 
@@ -991,10 +1064,4 @@ public class Kontrol1UsbDevice
         return this.firstNote;
     }
 
-
-    private static void padBuffer (final ByteBuffer buffer)
-    {
-        while (buffer.position () < buffer.capacity ())
-            buffer.put ((byte) 0x00);
-    }
 }
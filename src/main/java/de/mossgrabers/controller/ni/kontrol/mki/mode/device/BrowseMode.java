@@ -49,6 +49,8 @@ public class BrowseMode extends AbstractKontrol1Mode<IItem>
 
         this.selectionMode = SELECTION_OFF;
         this.filterColumn = 0;
+
+        this.addObservedBrowserData ();
     }
 
 
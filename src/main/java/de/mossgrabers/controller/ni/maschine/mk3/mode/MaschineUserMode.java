@@ -35,6 +35,8 @@ public class MaschineUserMode extends AbstractParameterMode<MaschineControlSurfa
         super ("User", surface, model, false, model.getUserParameterBank (), DEFAULT_KNOB_IDS);
 
         this.setParameterProvider (new BankParameterProvider (this.bank));
+
+        this.addObservedData (this.bank);
     }
 
 
@@ -43,6 +43,7 @@ public abstract class XLBaseNoteEditMode extends XLAbstractMainMode<IItem> imple
 {
     protected final int                    clipRows;
     protected final int                    clipCols;
+    private final INoteClip                cursorClip;
     protected final IHost                  host;
     protected final ISpecificDevice        firstInstrument;
     protected final Scales                 scales;
@@ -76,6 +77,7 @@ public abstract class XLBaseNoteEditMode extends XLAbstractMainMode<IItem> imple
 
         this.clipRows = clipRows;
         this.clipCols = clipCols;
+        this.cursorClip = model.getNoteClip (clipCols, clipRows);
 
         this.firstInstrument = model.getSpecificDevice (DeviceID.FIRST_INSTRUMENT);
         this.deviceParameterProvider = new BankParameterProvider (this.firstInstrument.getParameterBank ());
@@ -261,7 +263,7 @@ public abstract class XLBaseNoteEditMode extends XLAbstractMainMode<IItem> imple
     @Override
     public final INoteClip getClip ()
     {
-        return this.model.getNoteClip (this.clipCols, this.clipRows);
+        return this.cursorClip;
     }
 
 
@@ -14,9 +14,10 @@ import de.mossgrabers.framework.daw.IHost;
 import de.mossgrabers.framework.daw.midi.DeviceInquiry;
 import de.mossgrabers.framework.daw.midi.IMidiInput;
 import de.mossgrabers.framework.daw.midi.IMidiOutput;
+import de.mossgrabers.framework.daw.midi.SysexMessage;
+import de.mossgrabers.framework.daw.midi.SysexRouter;
 import de.mossgrabers.framework.featuregroup.IMode;
 import de.mossgrabers.framework.featuregroup.ModeManager;
-import de.mossgrabers.framework.utils.StringUtils;
 import de.mossgrabers.framework.view.Views;
 
 
@@ -152,7 +153,7 @@ public class LaunchkeyMk3ControlSurface extends AbstractControlSurface<Launchkey
     {
         super (host, configuration, colorManager, output, input, new LaunchkeyPadGrid (colorManager, output), 1400, 600);
 
-        this.input.setSysexCallback (this::handleSysEx);
+        this.input.setSysexCallback (new SysexRouter (host, this::handleSysEx));
         this.output.sendSysex (DeviceInquiry.createQuery ());
     }
 
@@ -295,11 +296,9 @@ public class LaunchkeyMk3ControlSurface extends AbstractControlSurface<Launchkey
     }
 
 
-    private void handleSysEx (final String data)
+    private void handleSysEx (final SysexMessage data)
     {
-        final int [] byteData = StringUtils.fromHexStr (data);
-
-        final DeviceInquiry deviceInquiry = new DeviceInquiry (byteData);
+        final DeviceInquiry deviceInquiry = new DeviceInquiry (data);
         if (deviceInquiry.isValid ())
             this.handleDeviceInquiryResponse (deviceInquiry);
     }
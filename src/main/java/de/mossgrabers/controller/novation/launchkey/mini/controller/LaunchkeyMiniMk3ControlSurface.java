@@ -15,7 +15,8 @@ import de.mossgrabers.framework.daw.IHost;
 import de.mossgrabers.framework.daw.midi.DeviceInquiry;
 import de.mossgrabers.framework.daw.midi.IMidiInput;
 import de.mossgrabers.framework.daw.midi.IMidiOutput;
-import de.mossgrabers.framework.utils.StringUtils;
+import de.mossgrabers.framework.daw.midi.SysexMessage;
+import de.mossgrabers.framework.daw.midi.SysexRouter;
 import de.mossgrabers.framework.view.Views;
 
 
@@ -99,7 +100,7 @@ public class LaunchkeyMiniMk3ControlSurface extends AbstractControlSurface<Launc
 
         this.pageAdjuster = pageAdjuster;
 
-        this.input.setSysexCallback (this::handleSysEx);
+        this.input.setSysexCallback (new SysexRouter (host, this::handleSysEx));
         this.output.sendSysex (DeviceInquiry.createQuery ());
     }
 
@@ -187,11 +188,9 @@ public class LaunchkeyMiniMk3ControlSurface extends AbstractControlSurface<Launc
     }
 
 
-    private void handleSysEx (final String data)
+    private void handleSysEx (final SysexMessage data)
     {
-        final int [] byteData = StringUtils.fromHexStr (data);
-
-        final DeviceInquiry deviceInquiry = new DeviceInquiry (byteData);
+        final DeviceInquiry deviceInquiry = new DeviceInquiry (data);
         if (deviceInquiry.isValid ())
             this.handleDeviceInquiryResponse (deviceInquiry);
     }
@@ -19,8 +19,10 @@ import de.mossgrabers.framework.daw.midi.DeviceInquiry;
 import de.mossgrabers.framework.daw.midi.IMidiInput;
 import de.mossgrabers.framework.daw.midi.IMidiOutput;
 import de.mossgrabers.framework.daw.midi.MidiConstants;
+import de.mossgrabers.framework.daw.midi.SysexBuilder;
+import de.mossgrabers.framework.daw.midi.SysexMessage;
+import de.mossgrabers.framework.daw.midi.SysexRouter;
 import de.mossgrabers.framework.utils.ButtonEvent;
-import de.mossgrabers.framework.utils.StringUtils;
 import de.mossgrabers.framework.view.Views;
 
 import java.util.Map.Entry;
@@ -78,6 +80,7 @@ public class LaunchpadControlSurface extends AbstractControlSurface<LaunchpadCon
     public static final int                      CONTROL_MODE_STOP_CLIP      = 5;
 
     private final ILaunchpadControllerDefinition definition;
+    private final SysexBuilder                   sysexMessage;
 
     private final IVirtualFader []               virtualFaders               = new IVirtualFader [8];
 
@@ -97,11 +100,12 @@ public class LaunchpadControlSurface extends AbstractControlSurface<LaunchpadCon
         super (host, configuration, colorManager, output, input, new LaunchpadPadGrid (colorManager, output, definition), definition.isPro () ? 800 : 680, definition.isPro () ? 740 : 670);
 
         this.definition = definition;
+        this.sysexMessage = new SysexBuilder (definition.getSysExHeader ());
 
         for (int i = 0; i < this.virtualFaders.length; i++)
             this.virtualFaders[i] = new VirtualFaderImpl (host, new VirtualFaderViewCallback (i, this.viewManager), this.padGrid, i);
 
-        this.input.setSysexCallback (this::handleSysEx);
+        this.input.setSysexCallback (new SysexRouter (host, this::handleSysEx));
         this.output.sendSysex (DeviceInquiry.createQuery ());
     }
 
@@ -286,6 +290,20 @@ public class LaunchpadControlSurface extends AbstractControlSurface<LaunchpadCon
     }
 
 
+    /**
+     * Send system exclusive data to the launchpad.
+     *
+     * @param data The data bytes without the header and closing byte
+     */
+    public void sendLaunchpadSysEx (final int... data)
+    {
+        synchronized (this.sysexMessage)
+        {
+            this.output.sendSysex (this.sysexMessage.reset ().addBytes (data));
+        }
+    }
+
+
     /**
      * Is this device a Pro model with additional buttons?
      *
@@ -308,11 +326,9 @@ public class LaunchpadControlSurface extends AbstractControlSurface<LaunchpadCon
     }
 
 
-    private void handleSysEx (final String data)
+    private void handleSysEx (final SysexMessage data)
     {
-        final int [] byteData = StringUtils.fromHexStr (data);
-
-        final DeviceInquiry deviceInquiry = new DeviceInquiry (byteData);
+        final DeviceInquiry deviceInquiry = new DeviceInquiry (data);
         if (deviceInquiry.isValid ())
             this.handleDeviceInquiryResponse (deviceInquiry);
     }
@@ -9,6 +9,7 @@ import de.mossgrabers.framework.controller.color.ColorManager;
 import de.mossgrabers.framework.controller.grid.LightInfo;
 import de.mossgrabers.framework.controller.grid.PadGridImpl;
 import de.mossgrabers.framework.daw.midi.IMidiOutput;
+import de.mossgrabers.framework.daw.midi.SysexBuilder;
 
 import java.util.HashMap;
 import java.util.Map;
@@ -45,6 +46,7 @@ public class LaunchpadPadGrid extends PadGridImpl
 
     private final ILaunchpadControllerDefinition definition;
     private final Map<Integer, LightInfo>        padInfos = new TreeMap<> ();
+    private final SysexBuilder []                messages = new SysexBuilder [3];
 
 
     /**
@@ -59,6 +61,9 @@ public class LaunchpadPadGrid extends PadGridImpl
         super (colorManager, output);
 
         this.definition = definition;
+
+        for (int i = 0; i < this.messages.length; i++)
+            this.messages[i] = new SysexBuilder (definition.getSysExHeader ());
     }
 
 
@@ -93,8 +98,9 @@ public class LaunchpadPadGrid extends PadGridImpl
         {
             if (this.padInfos.isEmpty ())
                 return;
-            for (final String update: this.definition.buildLEDUpdate (this.padInfos))
-                this.output.sendSysex (update);
+            final int count = this.definition.buildLEDUpdate (this.padInfos, this.messages);
+            for (int i = 0; i < count; i++)
+                this.output.sendSysex (this.messages[i]);
             this.padInfos.clear ();
         }
     }
@@ -122,4 +128,4 @@ public class LaunchpadPadGrid extends PadGridImpl
             info.setFast (fast);
         }
     }
-}
\ No newline at end of file
+}
\ No newline at end of file
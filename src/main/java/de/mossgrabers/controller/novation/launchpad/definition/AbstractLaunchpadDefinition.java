@@ -9,10 +9,8 @@ import de.mossgrabers.controller.novation.launchpad.definition.button.ButtonSetu
 import de.mossgrabers.controller.novation.launchpad.definition.button.LaunchpadButton;
 import de.mossgrabers.framework.controller.DefaultControllerDefinition;
 import de.mossgrabers.framework.controller.grid.LightInfo;
-import de.mossgrabers.framework.utils.StringUtils;
+import de.mossgrabers.framework.daw.midi.SysexBuilder;
 
-import java.util.Collections;
-import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Optional;
@@ -111,9 +109,9 @@ public abstract class AbstractLaunchpadDefinition extends DefaultControllerDefin
 
     /** {@inheritDoc} */
     @Override
-    public List<String> buildLEDUpdate (final Map<Integer, LightInfo> padInfos)
+    public int buildLEDUpdate (final Map<Integer, LightInfo> padInfos, final SysexBuilder [] messages)
     {
-        final StringBuilder sb = new StringBuilder (this.getSysExHeader ()).append ("03 ");
+        final SysexBuilder message = messages[0].reset ().addByte (0x03);
         for (final Entry<Integer, LightInfo> e: padInfos.entrySet ())
         {
             final int note = e.getKey ().intValue ();
@@ -123,7 +121,7 @@ public abstract class AbstractLaunchpadDefinition extends DefaultControllerDefin
             {
                 // 00h: Static color from palette, Lighting data is 1 byte specifying palette
                 // entry.
-                sb.append ("00 ").append (StringUtils.toHexStr (note)).append (' ').append (StringUtils.toHexStr (info.getColor ())).append (' ');
+                message.addByte (0x00).addByte (note).addByte (info.getColor ());
             }
             else
             {
@@ -131,16 +129,16 @@ public abstract class AbstractLaunchpadDefinition extends DefaultControllerDefin
                 {
                     // 01h: Flashing color, Lighting data is 2 bytes specifying Color B and
                     // Color A.
-                    sb.append ("01 ").append (StringUtils.toHexStr (note)).append (' ').append (StringUtils.toHexStr (info.getBlinkColor ())).append (' ').append (StringUtils.toHexStr (info.getColor ())).append (' ');
+                    message.addByte (0x01).addByte (note).addByte (info.getBlinkColor ()).addByte (info.getColor ());
                 }
                 else
                 {
                     // 02h: Pulsing color, Lighting data is 1 byte specifying palette entry.
-                    sb.append ("02 ").append (StringUtils.toHexStr (note)).append (' ').append (StringUtils.toHexStr (info.getColor ())).append (' ');
+                    message.addByte (0x02).addByte (note).addByte (info.getColor ());
                 }
             }
         }
-        return Collections.singletonList (sb.append ("F7").toString ());
+        return 1;
     }
 
 
@@ -150,4 +148,27 @@ public abstract class AbstractLaunchpadDefinition extends DefaultControllerDefin
     {
         return Optional.empty ();
     }
+
+
+    /**
+     * Moves all messages which contain data besides the command byte to the front of the array.
+     *
+     * @param messages The messages
+     * @return The number of messages which contain data
+     */
+    protected static int compactMessages (final SysexBuilder [] messages)
+    {
+        int count = 0;
+        for (int i = 0; i < messages.length; i++)
+        {
+            final SysexBuilder message = messages[i];
+            if (message.getDataSize () > 1)
+            {
+                messages[i] = messages[count];
+                messages[count] = message;
+                count++;
+            }
+        }
+        return count;
+    }
 }
@@ -7,8 +7,8 @@ package de.mossgrabers.controller.novation.launchpad.definition;
 import de.mossgrabers.controller.novation.launchpad.controller.LaunchpadControlSurface;
 import de.mossgrabers.controller.novation.launchpad.definition.button.ButtonSetup;
 import de.mossgrabers.framework.controller.grid.LightInfo;
+import de.mossgrabers.framework.daw.midi.SysexBuilder;
 
-import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 
@@ -94,12 +94,14 @@ public interface ILaunchpadControllerDefinition
 
 
     /**
-     * Create an update system exclusive string for all given pads.
+     * Create the update system exclusive messages for all given pads.
      *
      * @param padInfos The info how to update the pads
-     * @return The system exclusive string
+     * @param messages The builders to fill with the messages, all created with the system
+     *            exclusive header of the device; must contain at least 3 builders
+     * @return The number of builders (from the start of the array) which contain a message to send
      */
-    List<String> buildLEDUpdate (Map<Integer, LightInfo> padInfos);
+    int buildLEDUpdate (Map<Integer, LightInfo> padInfos, SysexBuilder [] messages);
 
 
     /**
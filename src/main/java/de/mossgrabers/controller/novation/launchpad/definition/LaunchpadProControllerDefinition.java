@@ -7,11 +7,10 @@ package de.mossgrabers.controller.novation.launchpad.definition;
 import de.mossgrabers.controller.novation.launchpad.controller.LaunchpadControlSurface;
 import de.mossgrabers.controller.novation.launchpad.definition.button.LaunchpadButton;
 import de.mossgrabers.framework.controller.grid.LightInfo;
+import de.mossgrabers.framework.daw.midi.SysexBuilder;
 import de.mossgrabers.framework.utils.OperatingSystem;
 import de.mossgrabers.framework.utils.Pair;
-import de.mossgrabers.framework.utils.StringUtils;
 
-import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
@@ -131,7 +130,7 @@ public class LaunchpadProControllerDefinition extends AbstractLaunchpadDefinitio
     @Override
     public void setLogoColor (final LaunchpadControlSurface surface, final int color)
     {
-        surface.sendLaunchpadSysEx ("0A 63 " + StringUtils.toHexStr (color));
+        surface.sendLaunchpadSysEx (0x0A, 0x63, color);
     }
 
 
@@ -145,36 +144,28 @@ public class LaunchpadProControllerDefinition extends AbstractLaunchpadDefinitio
 
     /** {@inheritDoc} */
     @Override
-    public List<String> buildLEDUpdate (final Map<Integer, LightInfo> padInfos)
+    public int buildLEDUpdate (final Map<Integer, LightInfo> padInfos, final SysexBuilder [] messages)
     {
-        final StringBuilder sbNormal = new StringBuilder ();
-        final StringBuilder sbFlash = new StringBuilder ();
-        final StringBuilder sbPulse = new StringBuilder ();
+        final SysexBuilder normal = messages[0].reset ().addByte (0x0A);
+        final SysexBuilder flash = messages[1].reset ().addByte (0x23);
+        final SysexBuilder pulse = messages[2].reset ().addByte (0x28);
 
         for (final Entry<Integer, LightInfo> e: padInfos.entrySet ())
         {
             final int note = e.getKey ().intValue ();
             final LightInfo info = e.getValue ();
 
-            sbNormal.append (StringUtils.toHexStr (note)).append (' ').append (StringUtils.toHexStr (info.getColor ())).append (' ');
+            normal.addByte (note).addByte (info.getColor ());
 
             if (info.getBlinkColor () > 0)
             {
                 if (info.isFast ())
-                    sbFlash.append (StringUtils.toHexStr (note)).append (' ').append (StringUtils.toHexStr (info.getBlinkColor ())).append (' ');
+                    flash.addByte (note).addByte (info.getBlinkColor ());
                 else
-                    sbPulse.append (StringUtils.toHexStr (note)).append (' ').append (StringUtils.toHexStr (info.getBlinkColor ())).append (' ');
+                    pulse.addByte (note).addByte (info.getBlinkColor ());
             }
         }
 
-        final List<String> result = new ArrayList<> (3);
-        final String sysExHeader = this.getSysExHeader ();
-        if (sbNormal.length () > 0)
-            result.add (new StringBuilder (sysExHeader).append ("0A ").append (sbNormal).append ("F7").toString ());
-        if (sbFlash.length () > 0)
-            result.add (new StringBuilder (sysExHeader).append ("23 ").append (sbFlash).append ("F7").toString ());
-        if (sbPulse.length () > 0)
-            result.add (new StringBuilder (sysExHeader).append ("28 ").append (sbPulse).append ("F7").toString ());
-        return result;
+        return compactMessages (messages);
     }
 }
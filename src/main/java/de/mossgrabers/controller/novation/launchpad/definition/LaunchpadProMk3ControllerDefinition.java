@@ -8,7 +8,6 @@ import de.mossgrabers.controller.novation.launchpad.controller.LaunchpadControlS
 import de.mossgrabers.controller.novation.launchpad.definition.button.LaunchpadButton;
 import de.mossgrabers.framework.utils.OperatingSystem;
 import de.mossgrabers.framework.utils.Pair;
-import de.mossgrabers.framework.utils.StringUtils;
 
 import java.util.List;
 import java.util.UUID;
@@ -143,7 +142,7 @@ public class LaunchpadProMk3ControllerDefinition extends AbstractLaunchpadDefini
     @Override
     public void setLogoColor (final LaunchpadControlSurface surface, final int color)
     {
-        surface.sendLaunchpadSysEx ("03 00 63 " + StringUtils.toHexStr (color));
+        surface.sendLaunchpadSysEx (0x03, 0x00, 0x63, color);
     }
 
 
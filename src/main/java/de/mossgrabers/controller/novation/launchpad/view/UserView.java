@@ -36,6 +36,8 @@ public class UserView extends AbstractFaderView
         super ("User", surface, model);
 
         this.userParameterBank = this.model.getUserParameterBank ();
+
+        this.addObservedData (this.userParameterBank);
     }
 
 
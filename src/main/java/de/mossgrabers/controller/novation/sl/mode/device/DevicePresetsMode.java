@@ -47,6 +47,8 @@ public class DevicePresetsMode extends AbstractParameterMode<SLControlSurface, S
 
         this.selectionMode = SELECTION_OFF;
         this.filterColumn = 0;
+
+        this.addObservedBrowserData ();
     }
 
 
@@ -12,7 +12,8 @@ import de.mossgrabers.framework.daw.IHost;
 import de.mossgrabers.framework.daw.midi.DeviceInquiry;
 import de.mossgrabers.framework.daw.midi.IMidiInput;
 import de.mossgrabers.framework.daw.midi.IMidiOutput;
-import de.mossgrabers.framework.utils.StringUtils;
+import de.mossgrabers.framework.daw.midi.SysexMessage;
+import de.mossgrabers.framework.daw.midi.SysexRouter;
 
 
 /**
@@ -120,7 +121,7 @@ public class SLMkIIIControlSurface extends AbstractControlSurface<SLMkIIIConfigu
 
         this.addTextDisplay (new SLMkIIIDisplay (host, output));
 
-        this.input.setSysexCallback (this::handleSysEx);
+        this.input.setSysexCallback (new SysexRouter (host, this::handleSysEx));
 
         ((SLMkIIILightGuide) this.lightGuide).setActive (true);
     }
@@ -131,10 +132,9 @@ public class SLMkIIIControlSurface extends AbstractControlSurface<SLMkIIIConfigu
      *
      * @param data The data
      */
-    private void handleSysEx (final String data)
+    private void handleSysEx (final SysexMessage data)
     {
-        final int [] byteData = StringUtils.fromHexStr (data);
-        final DeviceInquiry deviceInquiry = new DeviceInquiry (byteData);
+        final DeviceInquiry deviceInquiry = new DeviceInquiry (data);
         if (deviceInquiry.isValid ())
             this.handleDeviceInquiryResponse (deviceInquiry);
     }
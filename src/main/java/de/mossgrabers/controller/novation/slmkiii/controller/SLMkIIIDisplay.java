@@ -52,6 +52,9 @@ public class SLMkIIIDisplay extends AbstractTextDisplay
     {
         super (host, output, 4 /* No of rows */, 9 /* No of cells */, 9 * 9 /* No of characters */);
 
+        // Each cell is sent with its own message
+        this.partialWriteSize = 9;
+
         this.clearDisplayCache ();
     }
 
@@ -60,12 +63,21 @@ public class SLMkIIIDisplay extends AbstractTextDisplay
     @Override
     public void writeLine (final int row, final String text)
     {
-        for (int i = 0; i < this.noOfCells; i++)
+        this.writeSpan (row, 0, text);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    protected boolean writeSpan (final int row, final int offset, final String text)
+    {
+        final int firstCell = offset / 9;
+        for (int i = 0; i < text.length () / 9; i++)
         {
             final int pos = 9 * i;
-            final String cellText = text.substring (pos, pos + 9).trim ();
-            this.setPropertyText (i, row, cellText);
+            this.setPropertyText (firstCell + i, row, text.substring (pos, pos + 9).trim ());
         }
+        return true;
     }
 
 
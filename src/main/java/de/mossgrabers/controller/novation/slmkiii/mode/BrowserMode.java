@@ -32,6 +32,8 @@ public class BrowserMode extends BaseMode<IItem>
     public BrowserMode (final SLMkIIIControlSurface surface, final IModel model)
     {
         super ("Browser", surface, model);
+
+        this.addObservedBrowserData ();
     }
 
 
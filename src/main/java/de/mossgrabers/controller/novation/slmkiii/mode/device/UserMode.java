@@ -33,6 +33,8 @@ public class UserMode extends AbstractParametersMode<IParameter>
         super ("User Parameters", surface, model, model.getUserParameterBank ());
 
         this.setParameterProvider (new BankParameterProvider (this.bank));
+
+        this.addObservedData (this.bank);
     }
 
 
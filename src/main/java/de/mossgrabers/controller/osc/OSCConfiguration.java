@@ -14,6 +14,7 @@ import de.mossgrabers.framework.daw.IHost;
 import de.mossgrabers.framework.daw.midi.ArpeggiatorMode;
 import de.mossgrabers.framework.osc.AbstractOpenSoundControlConfiguration;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 
@@ -57,6 +58,9 @@ public class OSCConfiguration extends AbstractOpenSoundControlConfiguration
     private int                    receivePort               = 8000;
     private String                 sendHost                  = DEFAULT_SERVER;
     private int                    sendPort                  = 9000;
+    private int                    maxPacketSize             = 8192;
+    private int                    sendRate                  = 512;
+    private final List<String>     additionalClients         = new ArrayList<> ();
     private ValueResolution        valueResolution           = ValueResolution.LOW;
     private int                    bankPageSize              = 8;
     private final String []        assignableFunctionActions = new String [8];
@@ -97,6 +101,20 @@ public class OSCConfiguration extends AbstractOpenSoundControlConfiguration
         final IIntegerSetting sendPortSetting = globalSettings.getRangeSetting ("Port to send to (requires restart)", CATEGORY_SETUP, 1024, 65535, 1, "", 9000);
         this.sendPort = sendPortSetting.get ().intValue ();
 
+        final IIntegerSetting maxPacketSizeSetting = globalSettings.getRangeSetting ("Max. packet size (requires restart)", CATEGORY_SETUP, 512, 65507, 1, "Bytes", 8192);
+        this.maxPacketSize = maxPacketSizeSetting.get ().intValue ();
+
+        final IIntegerSetting sendRateSetting = globalSettings.getRangeSetting ("Max. send rate (requires restart)", CATEGORY_SETUP, 16, 10240, 1, "kB/s", 512);
+        this.sendRate = sendRateSetting.get ().intValue ();
+
+        final IStringSetting additionalClientsSetting = globalSettings.getStringSetting ("Additional hosts:ports to send to (requires restart)", CATEGORY_SETUP, 256, "");
+        for (final String client: additionalClientsSetting.get ().split (","))
+        {
+            final String trimmed = client.trim ();
+            if (!trimmed.isEmpty ())
+                this.additionalClients.add (trimmed);
+        }
+
         ///////////////////////////
         // Protocol
 
@@ -186,6 +204,39 @@ public class OSCConfiguration extends AbstractOpenSoundControlConfiguration
     }
 
 
+    /**
+     * Get the maximum size of a packet (a bundle of messages) which is sent to the OSC host.
+     *
+     * @return The size in bytes
+     */
+    public int getMaxPacketSize ()
+    {
+        return this.maxPacketSize;
+    }
+
+
+    /**
+     * Get the maximum number of bytes which are sent per second to the OSC host.
+     *
+     * @return The rate in kilobytes per second
+     */
+    public int getSendRate ()
+    {
+        return this.sendRate;
+    }
+
+
+    /**
+     * Get the additional hosts to which the extension sends OSC messages as well.
+     *
+     * @return The hosts and ports in the format host:port
+     */
+    public List<String> getAdditionalClients ()
+    {
+        return this.additionalClients;
+    }
+
+
     /**
      * Get the selected value resolution.
      *
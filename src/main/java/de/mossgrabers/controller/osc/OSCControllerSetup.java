@@ -179,11 +179,23 @@ public class OSCControllerSetup extends AbstractControllerSetup<IControlSurface<
         this.keyManager = new KeyManager (this.model, this.model.getScales (), surface.getPadGrid ());
 
         // Send OSC messages
-        final String sendHost = this.configuration.getSendHost ();
-        final int sendPort = this.configuration.getSendPort ();
-        this.host.println (String.format ("Connecting to OSC server %s:%d", sendHost, Integer.valueOf (sendPort)));
-        final IOpenSoundControlClient oscClient = this.host.connectToOSCServer (sendHost, sendPort);
-        this.writer = new OSCWriter (this.host, this.model, oscClient, this.configuration);
+        final List<IOpenSoundControlClient> oscClients = new ArrayList<> ();
+        oscClients.add (this.connectToOSCServer (this.configuration.getSendHost (), this.configuration.getSendPort ()));
+        for (final String client: this.configuration.getAdditionalClients ())
+        {
+            final int pos = client.lastIndexOf (':');
+            try
+            {
+                if (pos <= 0)
+                    throw new NumberFormatException ();
+                oscClients.add (this.connectToOSCServer (client.substring (0, pos).trim (), Integer.parseInt (client.substring (pos + 1).trim ())));
+            }
+            catch (final NumberFormatException ex)
+            {
+                this.host.error ("Illegal OSC host, must be host:port: " + client);
+            }
+        }
+        this.writer = new OSCWriter (this.host, this.model, oscClients, this.configuration);
 
         // Receive OSC messages
         final OSCParser parser = new OSCParser (this.host, surface, this.model, this.configuration, this.writer, input, this.keyManager);
@@ -212,6 +224,30 @@ public class OSCControllerSetup extends AbstractControllerSetup<IControlSurface<
     }
 
 
+    /**
+     * Connect to an OSC server to which the DAW status is sent.
+     *
+     * @param sendHost The host of the server
+     * @param sendPort The port of the server
+     * @return The client
+     */
+    private IOpenSoundControlClient connectToOSCServer (final String sendHost, final int sendPort)
+    {
+        this.host.println (String.format ("Connecting to OSC server %s:%d", sendHost, Integer.valueOf (sendPort)));
+        return this.host.connectToOSCServer (sendHost, sendPort, this.configuration.getMaxPacketSize (), this.configuration.getSendRate () * 1024);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void exit ()
+    {
+        if (this.writer != null)
+            this.writer.shutdown ();
+        super.exit ();
+    }
+
+
     /** {@inheritDoc} */
     @Override
     public void startup ()
@@ -6,12 +6,14 @@ package de.mossgrabers.controller.osc.module;
 
 import de.mossgrabers.controller.osc.exception.IllegalParameterException;
 import de.mossgrabers.controller.osc.exception.MissingCommandException;
+import de.mossgrabers.controller.osc.protocol.OSCAddressTrie;
 import de.mossgrabers.framework.controller.color.ColorEx;
 import de.mossgrabers.framework.daw.IHost;
 import de.mossgrabers.framework.daw.IModel;
 import de.mossgrabers.framework.daw.clip.IClip;
 import de.mossgrabers.framework.daw.data.ISend;
 import de.mossgrabers.framework.osc.IOpenSoundControlWriter;
+import de.mossgrabers.framework.osc.OpenSoundControlAddress;
 import de.mossgrabers.framework.parameter.IParameter;
 
 import java.util.LinkedList;
@@ -49,6 +51,7 @@ public abstract class AbstractModule implements IModule
     protected final IHost             host;
     protected final IModel            model;
     protected IOpenSoundControlWriter writer;
+    private final IClip               cursorClip;
 
 
     /**
@@ -63,6 +66,15 @@ public abstract class AbstractModule implements IModule
         this.host = host;
         this.model = model;
         this.writer = writer;
+        this.cursorClip = model.getNoteClip (8, 128);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void registerRoutes (final OSCAddressTrie routes)
+    {
+        // Intentionally empty
     }
 
 
@@ -81,7 +93,7 @@ public abstract class AbstractModule implements IModule
      */
     protected IClip getClip ()
     {
-        return this.model.getNoteClip (8, 128);
+        return this.cursorClip;
     }
 
 
@@ -176,6 +188,18 @@ public abstract class AbstractModule implements IModule
     }
 
 
+    /**
+     * Test if any client is interested in the given address or the addresses below it.
+     *
+     * @param address The address, e.g. '/browser'
+     * @return True if the values of the subtree need to be flushed
+     */
+    protected boolean isWatched (final String address)
+    {
+        return this.writer.getAddress (address).isWatched ();
+    }
+
+
     /**
      * Flush all data of a parameter.
      *
@@ -184,17 +208,20 @@ public abstract class AbstractModule implements IModule
      * @param fxParam The parameter
      * @param dump Forces a flush if true otherwise only changed values are flushed
      */
-    protected void flushParameterData (final IOpenSoundControlWriter writer, final String fxAddress, final IParameter fxParam, final boolean dump)
+    protected void flushParameterData (final IOpenSoundControlWriter writer, final OpenSoundControlAddress fxAddress, final IParameter fxParam, final boolean dump)
     {
+        if (!fxAddress.isWatched ())
+            return;
+
         final boolean isSend = fxParam instanceof ISend;
         if (isSend)
-            writer.sendOSC (fxAddress + TAG_ACTIVATED, ((ISend) fxParam).isEnabled (), dump);
+            writer.sendOSC (fxAddress.get (TAG_ACTIVATED), ((ISend) fxParam).isEnabled (), dump);
 
-        writer.sendOSC (fxAddress + TAG_EXISTS, fxParam.doesExist (), dump);
-        writer.sendOSC (fxAddress + TAG_NAME, fxParam.getName (), dump);
-        writer.sendOSC (fxAddress + (isSend ? "volumeStr" : "valueStr"), fxParam.getDisplayedValue (), dump);
-        writer.sendOSC (fxAddress + (isSend ? TAG_VOLUME : "value"), fxParam.getValue (), dump);
-        writer.sendOSC (fxAddress + "modulatedValue", fxParam.getModulatedValue (), dump);
+        writer.sendOSC (fxAddress.get (TAG_EXISTS), fxParam.doesExist (), dump);
+        writer.sendOSC (fxAddress.get (TAG_NAME), fxParam.getName (), dump);
+        writer.sendOSC (fxAddress.get (isSend ? "volumeStr" : "valueStr"), fxParam.getDisplayedValue (), dump);
+        writer.sendOSC (fxAddress.get (isSend ? TAG_VOLUME : "value"), fxParam.getValue (), dump);
+        writer.sendOSC (fxAddress.get ("modulatedValue"), fxParam.getModulatedValue (), dump);
     }
 
 
@@ -151,6 +151,9 @@ public class ClipModule extends AbstractModule
     @Override
     public void flush (final boolean dump)
     {
+        if (!this.isWatched ("/clip"))
+            return;
+
         final INoteClip cursorClip = this.model.getCursorClip ();
 
         this.writer.sendOSC ("/clip/exists", cursorClip.doesExist (), dump);
@@ -8,6 +8,7 @@ import de.mossgrabers.controller.osc.OSCConfiguration;
 import de.mossgrabers.controller.osc.exception.IllegalParameterException;
 import de.mossgrabers.controller.osc.exception.MissingCommandException;
 import de.mossgrabers.controller.osc.exception.UnknownCommandException;
+import de.mossgrabers.controller.osc.protocol.OSCAddressTrie;
 import de.mossgrabers.framework.controller.color.ColorEx;
 import de.mossgrabers.framework.daw.IHost;
 import de.mossgrabers.framework.daw.IModel;
@@ -29,6 +30,7 @@ import de.mossgrabers.framework.daw.data.bank.IParameterPageBank;
 import de.mossgrabers.framework.daw.data.bank.ISendBank;
 import de.mossgrabers.framework.daw.data.empty.EmptyLayer;
 import de.mossgrabers.framework.osc.IOpenSoundControlWriter;
+import de.mossgrabers.framework.osc.OpenSoundControlAddress;
 import de.mossgrabers.framework.parameter.IParameter;
 
 import java.util.LinkedList;
@@ -100,27 +102,41 @@ public class DeviceModule extends AbstractModule
     }
 
 
+    /** {@inheritDoc} */
+    @Override
+    public void registerRoutes (final OSCAddressTrie routes)
+    {
+        routes.add ("/device/param/*/value", (numbers, value) -> this.model.getCursorDevice ().getParameterBank ().getItem (numbers[0] - 1).setValue (toInteger (value)));
+        routes.add ("/primary/param/*/value", (numbers, value) -> this.model.getSpecificDevice (DeviceID.FIRST_INSTRUMENT).getParameterBank ().getItem (numbers[0] - 1).setValue (toInteger (value)));
+    }
+
+
     /** {@inheritDoc} */
     @Override
     public void flush (final boolean dump)
     {
+        final OpenSoundControlAddress rootAddress = this.writer.getRootAddress ();
+        final OpenSoundControlAddress deviceAddress = rootAddress.get ("device");
+
         final ICursorDevice cd = this.model.getCursorDevice ();
-        this.flushDevice (this.writer, "/device/", cd, dump);
-        this.writer.sendOSC ("/device/pinned", cd.isPinned (), dump);
+        this.flushDevice (this.writer, deviceAddress, cd, dump);
+        this.writer.sendOSC (deviceAddress.get ("pinned"), cd.isPinned (), dump);
         if (cd.hasDrumPads ())
         {
             final IDrumPadBank drumPadBank = cd.getDrumPadBank ();
+            final OpenSoundControlAddress drumPadAddress = deviceAddress.get ("drumpad");
             for (int i = 0; i < drumPadBank.getPageSize (); i++)
-                this.flushDeviceLayer (this.writer, "/device/drumpad/" + (i + 1) + "/", drumPadBank.getItem (i), dump);
+                this.flushDeviceLayer (this.writer, drumPadAddress.get (i + 1), drumPadBank.getItem (i), dump);
         }
         final ILayerBank layerBank = cd.getLayerBank ();
+        final OpenSoundControlAddress layerAddress = deviceAddress.get ("layer");
         for (int i = 0; i < layerBank.getPageSize (); i++)
-            this.flushDeviceLayer (this.writer, "/device/layer/" + (i + 1) + "/", layerBank.getItem (i), dump);
+            this.flushDeviceLayer (this.writer, layerAddress.get (i + 1), layerBank.getItem (i), dump);
         final Optional<ILayer> selectedLayer = layerBank.getSelectedItem ();
-        this.flushDeviceLayer (this.writer, "/device/layer/selected/", selectedLayer.isEmpty () ? EmptyLayer.INSTANCE : selectedLayer.get (), dump);
+        this.flushDeviceLayer (this.writer, layerAddress.get (TAG_SELECTED), selectedLayer.isEmpty () ? EmptyLayer.INSTANCE : selectedLayer.get (), dump);
 
-        this.flushDevice (this.writer, "/primary/", this.model.getSpecificDevice (DeviceID.FIRST_INSTRUMENT), dump);
-        this.flushDevice (this.writer, "/eq/", this.model.getSpecificDevice (DeviceID.EQ), dump);
+        this.flushDevice (this.writer, rootAddress.get ("primary"), this.model.getSpecificDevice (DeviceID.FIRST_INSTRUMENT), dump);
+        this.flushDevice (this.writer, rootAddress.get ("eq"), this.model.getSpecificDevice (DeviceID.EQ), dump);
     }
 
 
@@ -132,14 +148,17 @@ public class DeviceModule extends AbstractModule
      * @param device The device
      * @param dump Forces a flush if true otherwise only changed values are flushed
      */
-    private void flushDevice (final IOpenSoundControlWriter writer, final String deviceAddress, final ISpecificDevice device, final boolean dump)
+    private void flushDevice (final IOpenSoundControlWriter writer, final OpenSoundControlAddress deviceAddress, final ISpecificDevice device, final boolean dump)
     {
-        writer.sendOSC (deviceAddress + TAG_EXISTS, device.doesExist (), dump);
-        writer.sendOSC (deviceAddress + TAG_NAME, device.getName (), dump);
-        writer.sendOSC (deviceAddress + TAG_BYPASS, !device.isEnabled (), dump);
-        writer.sendOSC (deviceAddress + "expand", device.isExpanded (), dump);
-        writer.sendOSC (deviceAddress + "parameters", device.isParameterPageSectionVisible (), dump);
-        writer.sendOSC (deviceAddress + "window", device.isWindowOpen (), dump);
+        if (!deviceAddress.isWatched ())
+            return;
+
+        writer.sendOSC (deviceAddress.get (TAG_EXISTS), device.doesExist (), dump);
+        writer.sendOSC (deviceAddress.get (TAG_NAME), device.getName (), dump);
+        writer.sendOSC (deviceAddress.get (TAG_BYPASS), !device.isEnabled (), dump);
+        writer.sendOSC (deviceAddress.get ("expand"), device.isExpanded (), dump);
+        writer.sendOSC (deviceAddress.get ("parameters"), device.isParameterPageSectionVisible (), dump);
+        writer.sendOSC (deviceAddress.get ("window"), device.isWindowOpen (), dump);
 
         if (device instanceof final IEqualizerDevice equalizer)
         {
@@ -147,10 +166,10 @@ public class DeviceModule extends AbstractModule
             {
                 final int oneplus = i + 1;
 
-                writer.sendOSC (deviceAddress + "type/" + oneplus + "/value", equalizer.getTypeID (i).name ().toLowerCase (), dump);
-                this.flushParameterData (writer, deviceAddress + "gain/" + oneplus + "/", equalizer.getGainParameter (i), dump);
-                this.flushParameterData (writer, deviceAddress + "freq/" + oneplus + "/", equalizer.getFrequencyParameter (i), dump);
-                this.flushParameterData (writer, deviceAddress + "q/" + oneplus + "/", equalizer.getQParameter (i), dump);
+                writer.sendOSC (deviceAddress.get ("type").get (oneplus).get ("value"), equalizer.getTypeID (i).name ().toLowerCase (), dump);
+                this.flushParameterData (writer, deviceAddress.get ("gain").get (oneplus), equalizer.getGainParameter (i), dump);
+                this.flushParameterData (writer, deviceAddress.get ("freq").get (oneplus), equalizer.getFrequencyParameter (i), dump);
+                this.flushParameterData (writer, deviceAddress.get ("q").get (oneplus), equalizer.getQParameter (i), dump);
             }
             return;
         }
@@ -163,11 +182,11 @@ public class DeviceModule extends AbstractModule
             {
                 final int oneplus = i + 1;
                 final IDevice siblingDevice = deviceBank.getItem (i);
-                final String siblingAddress = deviceAddress + "sibling/" + oneplus + "/";
-                writer.sendOSC (siblingAddress + TAG_EXISTS, siblingDevice.doesExist (), dump);
-                writer.sendOSC (siblingAddress + TAG_NAME, siblingDevice.getName (), dump);
-                writer.sendOSC (siblingAddress + TAG_BYPASS, !siblingDevice.isEnabled (), dump);
-                writer.sendOSC (siblingAddress + TAG_SELECTED, i == positionInBank, dump);
+                final OpenSoundControlAddress siblingAddress = deviceAddress.get ("sibling").get (oneplus);
+                writer.sendOSC (siblingAddress.get (TAG_EXISTS), siblingDevice.doesExist (), dump);
+                writer.sendOSC (siblingAddress.get (TAG_NAME), siblingDevice.getName (), dump);
+                writer.sendOSC (siblingAddress.get (TAG_BYPASS), !siblingDevice.isEnabled (), dump);
+                writer.sendOSC (siblingAddress.get (TAG_SELECTED), i == positionInBank, dump);
             }
         }
 
@@ -175,7 +194,7 @@ public class DeviceModule extends AbstractModule
         for (int i = 0; i < parameterBank.getPageSize (); i++)
         {
             final int oneplus = i + 1;
-            this.flushParameterData (writer, deviceAddress + "param/" + oneplus + "/", parameterBank.getItem (i), dump);
+            this.flushParameterData (writer, deviceAddress.get (TAG_PARAM).get (oneplus), parameterBank.getItem (i), dump);
         }
 
         final IParameterPageBank parameterPageBank = device.getParameterBank ().getPageBank ();
@@ -184,14 +203,14 @@ public class DeviceModule extends AbstractModule
         {
             final int oneplus = i + 1;
             final String pageName = parameterPageBank.getItem (i);
-            final String pageAddress = deviceAddress + "page/" + oneplus + "/";
-            writer.sendOSC (pageAddress, pageName, dump);
-            writer.sendOSC (pageAddress + TAG_EXISTS, !pageName.isBlank (), dump);
-            writer.sendOSC (pageAddress + TAG_NAME, pageName, dump);
-            writer.sendOSC (pageAddress + TAG_SELECTED, selectedParameterPage == i, dump);
+            final OpenSoundControlAddress pageAddress = deviceAddress.get (TAG_PAGE).get (oneplus);
+            writer.sendOSC (pageAddress.get (""), pageName, dump);
+            writer.sendOSC (pageAddress.get (TAG_EXISTS), !pageName.isBlank (), dump);
+            writer.sendOSC (pageAddress.get (TAG_NAME), pageName, dump);
+            writer.sendOSC (pageAddress.get (TAG_SELECTED), selectedParameterPage == i, dump);
         }
         final Optional<String> selectedItem = parameterPageBank.getSelectedItem ();
-        writer.sendOSC (deviceAddress + "page/selected/" + TAG_NAME, selectedItem.isPresent () ? selectedItem.get () : "", dump);
+        writer.sendOSC (deviceAddress.get (TAG_PAGE).get (TAG_SELECTED).get (TAG_NAME), selectedItem.isPresent () ? selectedItem.get () : "", dump);
     }
 
 
@@ -203,31 +222,31 @@ public class DeviceModule extends AbstractModule
      * @param channel The channel of the layer
      * @param dump Forces a flush if true otherwise only changed values are flushed
      */
-    private void flushDeviceLayer (final IOpenSoundControlWriter writer, final String deviceAddress, final IChannel channel, final boolean dump)
+    private void flushDeviceLayer (final IOpenSoundControlWriter writer, final OpenSoundControlAddress deviceAddress, final IChannel channel, final boolean dump)
     {
-        if (channel == null)
+        if (channel == null || !deviceAddress.isWatched ())
             return;
 
-        writer.sendOSC (deviceAddress + TAG_EXISTS, channel.doesExist (), dump);
-        writer.sendOSC (deviceAddress + TAG_ACTIVATED, channel.isActivated (), dump);
-        writer.sendOSC (deviceAddress + TAG_SELECTED, channel.isSelected (), dump);
-        writer.sendOSC (deviceAddress + TAG_NAME, channel.getName (), dump);
-        writer.sendOSC (deviceAddress + "volumeStr", channel.getVolumeStr (), dump);
-        writer.sendOSC (deviceAddress + TAG_VOLUME, channel.getVolume (), dump);
-        writer.sendOSC (deviceAddress + "panStr", channel.getPanStr (), dump);
-        writer.sendOSC (deviceAddress + "pan", channel.getPan (), dump);
-        writer.sendOSC (deviceAddress + "mute", channel.isMute (), dump);
-        writer.sendOSC (deviceAddress + "solo", channel.isSolo (), dump);
+        writer.sendOSC (deviceAddress.get (TAG_EXISTS), channel.doesExist (), dump);
+        writer.sendOSC (deviceAddress.get (TAG_ACTIVATED), channel.isActivated (), dump);
+        writer.sendOSC (deviceAddress.get (TAG_SELECTED), channel.isSelected (), dump);
+        writer.sendOSC (deviceAddress.get (TAG_NAME), channel.getName (), dump);
+        writer.sendOSC (deviceAddress.get ("volumeStr"), channel.getVolumeStr (), dump);
+        writer.sendOSC (deviceAddress.get (TAG_VOLUME), channel.getVolume (), dump);
+        writer.sendOSC (deviceAddress.get ("panStr"), channel.getPanStr (), dump);
+        writer.sendOSC (deviceAddress.get ("pan"), channel.getPan (), dump);
+        writer.sendOSC (deviceAddress.get ("mute"), channel.isMute (), dump);
+        writer.sendOSC (deviceAddress.get ("solo"), channel.isSolo (), dump);
 
         final ISendBank sendBank = channel.getSendBank ();
         for (int i = 0; i < sendBank.getPageSize (); i++)
-            this.flushParameterData (writer, deviceAddress + "send/" + (i + 1) + "/", sendBank.getItem (i), dump);
+            this.flushParameterData (writer, deviceAddress.get ("send").get (i + 1), sendBank.getItem (i), dump);
 
         if (this.configuration.isEnableVUMeters ())
-            writer.sendOSC (deviceAddress + "vu", channel.getVu (), dump);
+            writer.sendOSC (deviceAddress.get ("vu"), channel.getVu (), dump);
 
         final ColorEx color = channel.getColor ();
-        writer.sendOSCColor (deviceAddress + TAG_COLOR, color.getRed (), color.getGreen (), color.getBlue (), dump);
+        writer.sendOSCColor (deviceAddress.get (TAG_COLOR), color.getRed (), color.getGreen (), color.getBlue (), dump);
     }
 
 
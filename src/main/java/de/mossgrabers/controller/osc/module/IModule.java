@@ -7,6 +7,7 @@ package de.mossgrabers.controller.osc.module;
 import de.mossgrabers.controller.osc.exception.IllegalParameterException;
 import de.mossgrabers.controller.osc.exception.MissingCommandException;
 import de.mossgrabers.controller.osc.exception.UnknownCommandException;
+import de.mossgrabers.controller.osc.protocol.OSCAddressTrie;
 
 import java.util.LinkedList;
 
@@ -26,6 +27,15 @@ public interface IModule
     String [] getSupportedCommands ();
 
 
+    /**
+     * Add routes for frequently used commands to the address trie of the parser. Commands which
+     * are not routed by the trie are handed to {@link #execute(String, LinkedList, Object)}.
+     *
+     * @param routes The address trie
+     */
+    void registerRoutes (OSCAddressTrie routes);
+
+
     /**
      * Parse and execute an OSC command.
      *
@@ -84,11 +84,14 @@ public class MidiModule extends AbstractModule
     @Override
     public void flush (final boolean dump)
     {
-        final String noteAddress = "/vkb_midi/note/";
-        for (int i = 0; i < 127; i++)
+        if (this.isWatched ("/vkb_midi/note"))
         {
-            final double [] color = this.getNoteColor (i).toDoubleRGB ();
-            this.writer.sendOSCColor (noteAddress + i + "/color", color[0], color[1], color[2], dump);
+            final String noteAddress = "/vkb_midi/note/";
+            for (int i = 0; i < 127; i++)
+            {
+                final double [] color = this.getNoteColor (i).toDoubleRGB ();
+                this.writer.sendOSCColor (noteAddress + i + "/color", color[0], color[1], color[2], dump);
+            }
         }
 
         // Flush note repeat
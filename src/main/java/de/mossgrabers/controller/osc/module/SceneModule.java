@@ -130,6 +130,9 @@ public class SceneModule extends AbstractModule
     @Override
     public void flush (final boolean dump)
     {
+        if (!this.isWatched ("/scene"))
+            return;
+
         final ISceneBank sceneBank = this.model.getSceneBank ();
         for (int i = 0; i < sceneBank.getPageSize (); i++)
         {
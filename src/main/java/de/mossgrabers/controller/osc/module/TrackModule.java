@@ -8,6 +8,7 @@ import de.mossgrabers.controller.osc.OSCConfiguration;
 import de.mossgrabers.controller.osc.exception.IllegalParameterException;
 import de.mossgrabers.controller.osc.exception.MissingCommandException;
 import de.mossgrabers.controller.osc.exception.UnknownCommandException;
+import de.mossgrabers.controller.osc.protocol.OSCAddressTrie;
 import de.mossgrabers.framework.controller.color.ColorEx;
 import de.mossgrabers.framework.daw.IApplication;
 import de.mossgrabers.framework.daw.IHost;
@@ -21,9 +22,12 @@ import de.mossgrabers.framework.daw.data.bank.ISlotBank;
 import de.mossgrabers.framework.daw.data.bank.ITrackBank;
 import de.mossgrabers.framework.daw.resource.ChannelType;
 import de.mossgrabers.framework.osc.IOpenSoundControlWriter;
+import de.mossgrabers.framework.osc.OpenSoundControlAddress;
 
+import java.util.EnumMap;
 import java.util.LinkedList;
 import java.util.Locale;
+import java.util.Map;
 import java.util.Optional;
 
 
@@ -34,7 +38,15 @@ import java.util.Optional;
  */
 public class TrackModule extends AbstractModule
 {
-    private final OSCConfiguration configuration;
+    private static final Map<ChannelType, String> TYPE_NAMES = new EnumMap<> (ChannelType.class);
+
+    static
+    {
+        for (final ChannelType type: ChannelType.values ())
+            TYPE_NAMES.put (type, type.name ().toLowerCase (Locale.US));
+    }
+
+    private final OSCConfiguration                configuration;
 
 
     /**
@@ -94,18 +106,38 @@ public class TrackModule extends AbstractModule
     }
 
 
+    /** {@inheritDoc} */
+    @Override
+    public void registerRoutes (final OSCAddressTrie routes)
+    {
+        // The mixer commands which are sent continuously while moving a fader or knob
+        routes.add ("/track/*/volume", (numbers, value) -> this.getTrack (numbers[0]).setVolume (toInteger (value)));
+        routes.add ("/track/*/pan", (numbers, value) -> this.getTrack (numbers[0]).setPan (toInteger (value)));
+        routes.add ("/track/*/send/*/volume", (numbers, value) -> {
+            final ISend send = this.getTrack (numbers[0]).getSendBank ().getItem (numbers[1] - 1);
+            if (send != null)
+                send.setValue (toInteger (value));
+        });
+        routes.add ("/master/volume", (numbers, value) -> this.model.getMasterTrack ().setVolume (toInteger (value)));
+        routes.add ("/master/pan", (numbers, value) -> this.model.getMasterTrack ().setPan (toInteger (value)));
+    }
+
+
     /** {@inheritDoc} */
     @Override
     public void flush (final boolean dump)
     {
+        final OpenSoundControlAddress rootAddress = this.writer.getRootAddress ();
+        final OpenSoundControlAddress tracksAddress = rootAddress.get ("track");
+
         final ITrackBank trackBank = this.model.getCurrentTrackBank ();
         for (int i = 0; i < trackBank.getPageSize (); i++)
-            this.flushTrack (this.writer, "/track/" + (i + 1) + "/", trackBank.getItem (i), dump);
-        this.flushTrack (this.writer, "/master/", this.model.getMasterTrack (), dump);
+            this.flushTrack (this.writer, tracksAddress.get (i + 1), trackBank.getItem (i), dump);
+        this.flushTrack (this.writer, rootAddress.get ("master"), this.model.getMasterTrack (), dump);
         final ICursorTrack cursorTrack = this.model.getCursorTrack ();
-        this.flushTrack (this.writer, "/track/selected/", cursorTrack, dump);
-        this.writer.sendOSC ("/track/toggleBank", this.model.isEffectTrackBankActive () ? 1 : 0, dump);
-        this.writer.sendOSC ("/track/hasParent", trackBank.hasParent (), dump);
+        this.flushTrack (this.writer, tracksAddress.get (TAG_SELECTED), cursorTrack, dump);
+        this.writer.sendOSC (tracksAddress.get ("toggleBank"), this.model.isEffectTrackBankActive () ? 1 : 0, dump);
+        this.writer.sendOSC (tracksAddress.get ("hasParent"), trackBank.hasParent (), dump);
     }
 
 
@@ -117,62 +149,65 @@ public class TrackModule extends AbstractModule
      * @param track The track
      * @param dump Forces a flush if true otherwise only changed values are flushed
      */
-    private void flushTrack (final IOpenSoundControlWriter writer, final String trackAddress, final ITrack track, final boolean dump)
+    private void flushTrack (final IOpenSoundControlWriter writer, final OpenSoundControlAddress trackAddress, final ITrack track, final boolean dump)
     {
-        writer.sendOSC (trackAddress + TAG_EXISTS, track.doesExist (), dump);
+        if (!trackAddress.isWatched ())
+            return;
+
+        writer.sendOSC (trackAddress.get (TAG_EXISTS), track.doesExist (), dump);
         final ChannelType type = track.getType ();
-        writer.sendOSC (trackAddress + "type", type == null ? null : type.name ().toLowerCase (Locale.US), dump);
-        writer.sendOSC (trackAddress + TAG_ACTIVATED, track.isActivated (), dump);
-        writer.sendOSC (trackAddress + TAG_SELECTED, track.isSelected (), dump);
-        writer.sendOSC (trackAddress + "isGroup", track.isGroup (), dump);
-        writer.sendOSC (trackAddress + TAG_NAME, track.getName (), dump);
-        writer.sendOSC (trackAddress + "volumeStr", track.getVolumeStr (), dump);
-        writer.sendOSC (trackAddress + TAG_VOLUME, track.getVolume (), dump);
-        writer.sendOSC (trackAddress + "panStr", track.getPanStr (), dump);
-        writer.sendOSC (trackAddress + "pan", track.getPan (), dump);
-        writer.sendOSC (trackAddress + "mute", track.isMute (), dump);
-        writer.sendOSC (trackAddress + "solo", track.isSolo (), dump);
-        writer.sendOSC (trackAddress + "recarm", track.isRecArm (), dump);
-        writer.sendOSC (trackAddress + "monitor", track.isMonitor (), dump);
-        writer.sendOSC (trackAddress + "autoMonitor", track.isAutoMonitor (), dump);
-        writer.sendOSC (trackAddress + "canHoldNotes", track.canHoldNotes (), dump);
-        writer.sendOSC (trackAddress + "canHoldAudioData", track.canHoldAudioData (), dump);
-        writer.sendOSC (trackAddress + "position", track.getPosition (), dump);
+        writer.sendOSC (trackAddress.get ("type"), type == null ? null : TYPE_NAMES.get (type), dump);
+        writer.sendOSC (trackAddress.get (TAG_ACTIVATED), track.isActivated (), dump);
+        writer.sendOSC (trackAddress.get (TAG_SELECTED), track.isSelected (), dump);
+        writer.sendOSC (trackAddress.get ("isGroup"), track.isGroup (), dump);
+        writer.sendOSC (trackAddress.get (TAG_NAME), track.getName (), dump);
+        writer.sendOSC (trackAddress.get ("volumeStr"), track.getVolumeStr (), dump);
+        writer.sendOSC (trackAddress.get (TAG_VOLUME), track.getVolume (), dump);
+        writer.sendOSC (trackAddress.get ("panStr"), track.getPanStr (), dump);
+        writer.sendOSC (trackAddress.get ("pan"), track.getPan (), dump);
+        writer.sendOSC (trackAddress.get ("mute"), track.isMute (), dump);
+        writer.sendOSC (trackAddress.get ("solo"), track.isSolo (), dump);
+        writer.sendOSC (trackAddress.get ("recarm"), track.isRecArm (), dump);
+        writer.sendOSC (trackAddress.get ("monitor"), track.isMonitor (), dump);
+        writer.sendOSC (trackAddress.get ("autoMonitor"), track.isAutoMonitor (), dump);
+        writer.sendOSC (trackAddress.get ("canHoldNotes"), track.canHoldNotes (), dump);
+        writer.sendOSC (trackAddress.get ("canHoldAudioData"), track.canHoldAudioData (), dump);
+        writer.sendOSC (trackAddress.get ("position"), track.getPosition (), dump);
 
         if (track instanceof final ICursorTrack cursorTrack)
-            writer.sendOSC (trackAddress + "pinned", cursorTrack.isPinned (), dump);
+            writer.sendOSC (trackAddress.get ("pinned"), cursorTrack.isPinned (), dump);
 
         final ISendBank sendBank = track.getSendBank ();
         for (int i = 0; i < sendBank.getPageSize (); i++)
-            this.flushParameterData (writer, trackAddress + "send/" + (i + 1) + "/", sendBank.getItem (i), dump);
+            this.flushParameterData (writer, trackAddress.get ("send").get (i + 1), sendBank.getItem (i), dump);
 
         final ISlotBank slotBank = track.getSlotBank ();
         for (int i = 0; i < slotBank.getPageSize (); i++)
         {
             final ISlot slot = slotBank.getItem (i);
-            final String clipAddress = trackAddress + "clip/" + (i + 1) + "/";
-            writer.sendOSC (clipAddress + TAG_NAME, slot.getName (), dump);
-            writer.sendOSC (clipAddress + "isSelected", slot.isSelected (), dump);
-            writer.sendOSC (clipAddress + "hasContent", slot.hasContent (), dump);
-            writer.sendOSC (clipAddress + "isPlaying", slot.isPlaying (), dump);
-            writer.sendOSC (clipAddress + "isRecording", slot.isRecording (), dump);
-            writer.sendOSC (clipAddress + "isPlayingQueued", slot.isPlayingQueued (), dump);
-            writer.sendOSC (clipAddress + "isRecordingQueued", slot.isRecordingQueued (), dump);
-            writer.sendOSC (clipAddress + "isStopQueued", slot.isStopQueued (), dump);
+            final OpenSoundControlAddress clipAddress = trackAddress.get ("clip").get (i + 1);
+            writer.sendOSC (clipAddress.get (TAG_NAME), slot.getName (), dump);
+            writer.sendOSC (clipAddress.get ("isSelected"), slot.isSelected (), dump);
+            writer.sendOSC (clipAddress.get ("hasContent"), slot.hasContent (), dump);
+            writer.sendOSC (clipAddress.get ("isPlaying"), slot.isPlaying (), dump);
+            writer.sendOSC (clipAddress.get ("isRecording"), slot.isRecording (), dump);
+            writer.sendOSC (clipAddress.get ("isPlayingQueued"), slot.isPlayingQueued (), dump);
+            writer.sendOSC (clipAddress.get ("isRecordingQueued"), slot.isRecordingQueued (), dump);
+            writer.sendOSC (clipAddress.get ("isStopQueued"), slot.isStopQueued (), dump);
 
             final ColorEx color = slot.getColor ();
-            writer.sendOSCColor (clipAddress + TAG_COLOR, color.getRed (), color.getGreen (), color.getBlue (), dump);
+            writer.sendOSCColor (clipAddress.get (TAG_COLOR), color.getRed (), color.getGreen (), color.getBlue (), dump);
         }
 
         final ColorEx color = track.getColor ();
-        writer.sendOSCColor (trackAddress + TAG_COLOR, color.getRed (), color.getGreen (), color.getBlue (), dump);
+        writer.sendOSCColor (trackAddress.get (TAG_COLOR), color.getRed (), color.getGreen (), color.getBlue (), dump);
 
         final String crossfadeMode = track.getCrossfadeParameter ().getDisplayedValue ();
-        writer.sendOSC (trackAddress + "crossfadeMode/A", "A".equals (crossfadeMode), dump);
-        writer.sendOSC (trackAddress + "crossfadeMode/B", "B".equals (crossfadeMode), dump);
-        writer.sendOSC (trackAddress + "crossfadeMode/AB", "AB".equals (crossfadeMode), dump);
+        writer.sendOSC (trackAddress.get ("crossfadeMode").get ("A"), "A".equals (crossfadeMode), dump);
+        writer.sendOSC (trackAddress.get ("crossfadeMode").get ("B"), "B".equals (crossfadeMode), dump);
+        writer.sendOSC (trackAddress.get ("crossfadeMode").get ("AB"), "AB".equals (crossfadeMode), dump);
 
-        writer.sendOSC (trackAddress + "vu", this.configuration.isEnableVUMeters () ? track.getVu () : 0, dump);
+        writer.sendOSC (trackAddress.get ("vu"), this.configuration.isEnableVUMeters () ? track.getVu () : 0, dump);
     }
 
 
@@ -314,6 +349,18 @@ public class TrackModule extends AbstractModule
     }
 
 
+    /**
+     * Get a track of the current track bank.
+     *
+     * @param trackNo The number of the track as used in the OSC address (1-N)
+     * @return The track
+     */
+    private ITrack getTrack (final int trackNo)
+    {
+        return this.model.getCurrentTrackBank ().getItem (trackNo - 1);
+    }
+
+
     private void parseTrackValue (final ITrack track, final LinkedList<String> path, final Object value) throws IllegalParameterException, MissingCommandException, UnknownCommandException
     {
         final String command = getSubCommand (path);
@@ -11,6 +11,7 @@ import de.mossgrabers.framework.daw.IHost;
 import de.mossgrabers.framework.daw.IModel;
 import de.mossgrabers.framework.daw.data.bank.IParameterBank;
 import de.mossgrabers.framework.osc.IOpenSoundControlWriter;
+import de.mossgrabers.framework.osc.OpenSoundControlAddress;
 import de.mossgrabers.framework.parameter.IParameter;
 
 import java.util.LinkedList;
@@ -62,13 +63,15 @@ public class UserModule extends AbstractModule
     @Override
     public void flush (final boolean dump)
     {
-        final String userAddress = "/user/";
+        final OpenSoundControlAddress userAddress = this.writer.getRootAddress ().get ("user");
+        if (!userAddress.isWatched ())
+            return;
 
         final IParameterBank parameterBank = this.model.getUserParameterBank ();
         for (int i = 0; i < parameterBank.getPageSize (); i++)
         {
             final int oneplus = i + 1;
-            this.flushParameterData (this.writer, userAddress + oneplus + "/", parameterBank.getItem (i), dump);
+            this.flushParameterData (this.writer, userAddress.get (oneplus), parameterBank.getItem (i), dump);
         }
 
         final int numPages = parameterBank.getItemCount () / parameterBank.getPageSize ();
@@ -76,10 +79,11 @@ public class UserModule extends AbstractModule
         for (int i = 0; i < numPages; i++)
         {
             final int oneplus = i + 1;
-            this.writer.sendOSC (userAddress + "page/" + oneplus + "/", "Page " + (i + 1), dump);
-            this.writer.sendOSC (userAddress + "page/" + oneplus + "/selected", selectedPage == i, dump);
+            final OpenSoundControlAddress pageAddress = userAddress.get ("page").get (oneplus);
+            this.writer.sendOSC (pageAddress.get (""), "Page " + (i + 1), dump);
+            this.writer.sendOSC (pageAddress.get (TAG_SELECTED), selectedPage == i, dump);
         }
-        this.writer.sendOSC (userAddress + "page/selected/name", "Page " + (selectedPage + 1), dump);
+        this.writer.sendOSC (userAddress.get ("page").get (TAG_SELECTED).get (TAG_NAME), "Page " + (selectedPage + 1), dump);
     }
 
 
@@ -0,0 +1,32 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2023
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.controller.osc.protocol;
+
+import de.mossgrabers.controller.osc.exception.IllegalParameterException;
+import de.mossgrabers.controller.osc.exception.MissingCommandException;
+import de.mossgrabers.controller.osc.exception.UnknownCommandException;
+
+
+/**
+ * Handles the OSC messages which match a route of the address trie.
+ *
+ * @author Jürgen Moßgraber
+ */
+@FunctionalInterface
+public interface IOSCRouteHandler
+{
+    /**
+     * Execute the command of the route.
+     *
+     * @param numbers The numbers captured from the numeric segments of the address (in the order of
+     *            the address, as sent, e.g. 1 for the first track), only the first ones are valid
+     *            which are matched by the route
+     * @param value A value parameter for the command, may be null
+     * @throws IllegalParameterException Wrong or missing value parameter
+     * @throws UnknownCommandException Unknown command
+     * @throws MissingCommandException Missing sub-command
+     */
+    void execute (int [] numbers, Object value) throws IllegalParameterException, UnknownCommandException, MissingCommandException;
+}
@@ -0,0 +1,172 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2023
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.controller.osc.protocol;
+
+import de.mossgrabers.controller.osc.exception.IllegalParameterException;
+import de.mossgrabers.controller.osc.exception.MissingCommandException;
+import de.mossgrabers.controller.osc.exception.UnknownCommandException;
+
+import java.util.Arrays;
+
+
+/**
+ * A trie of OSC address patterns which routes incoming messages to their handlers. The segments of
+ * a pattern are either names or a star which matches a positive number, the numbers are captured
+ * and handed to the handler, e.g. '/track/*&#47;send/*&#47;volume'. Routing walks the address
+ * character by character, therefore neither the address is split nor are any substrings created.
+ * Names take precedence over numbers. Must only be called from the thread which receives the OSC
+ * messages.
+ *
+ * @author Jürgen Moßgraber
+ */
+public class OSCAddressTrie
+{
+    private static final String WILDCARD     = "*";
+    private static final int    MAX_CAPTURES = 8;
+
+    private final Node          root         = new Node ();
+    private final int []        numbers      = new int [MAX_CAPTURES];
+
+
+    /**
+     * Add a route.
+     *
+     * @param pattern The address pattern, e.g. '/track/*&#47;volume'
+     * @param handler The handler to execute for matching addresses
+     */
+    public void add (final String pattern, final IOSCRouteHandler handler)
+    {
+        Node node = this.root;
+        int captures = 0;
+        for (final String segment: pattern.substring (pattern.startsWith ("/") ? 1 : 0).split ("/"))
+        {
+            if (WILDCARD.equals (segment))
+            {
+                captures++;
+                if (captures > MAX_CAPTURES)
+                    throw new IllegalArgumentException ("Too many numbers in OSC pattern: " + pattern);
+                if (node.numberChild == null)
+                    node.numberChild = new Node ();
+                node = node.numberChild;
+            }
+            else
+                node = node.getOrCreateChild (segment);
+        }
+        node.handler = handler;
+    }
+
+
+    /**
+     * Route a message to the handler of the matching pattern.
+     *
+     * @param address The OSC address of the message, e.g. '/track/1/volume'
+     * @param value A value parameter for the command, may be null
+     * @return True if a matching route was found and executed
+     * @throws IllegalParameterException Wrong or missing value parameter
+     * @throws UnknownCommandException Unknown command
+     * @throws MissingCommandException Missing sub-command
+     */
+    public boolean route (final String address, final Object value) throws IllegalParameterException, UnknownCommandException, MissingCommandException
+    {
+        final int length = address.length ();
+        if (length < 2 || address.charAt (0) != '/')
+            return false;
+
+        Node node = this.root;
+        int captures = 0;
+        int start = 1;
+        while (start <= length)
+        {
+            int end = address.indexOf ('/', start);
+            if (end < 0)
+                end = length;
+
+            final Node child = node.getChild (address, start, end - start);
+            if (child != null)
+                node = child;
+            else
+            {
+                final int number = node.numberChild == null ? -1 : parseNumber (address, start, end);
+                if (number < 0)
+                    return false;
+                this.numbers[captures++] = number;
+                node = node.numberChild;
+            }
+            start = end + 1;
+        }
+
+        if (node.handler == null)
+            return false;
+        node.handler.execute (this.numbers, value);
+        return true;
+    }
+
+
+    /**
+     * Parse a segment which contains only digits.
+     *
+     * @param address The address which contains the segment
+     * @param start The start of the segment
+     * @param end The end of the segment (exclusive)
+     * @return The number or -1 if it is not a number
+     */
+    private static int parseNumber (final String address, final int start, final int end)
+    {
+        if (end == start || end - start > 9)
+            return -1;
+        int number = 0;
+        for (int i = start; i < end; i++)
+        {
+            final char c = address.charAt (i);
+            if (c < '0' || c > '9')
+                return -1;
+            number = number * 10 + c - '0';
+        }
+        return number;
+    }
+
+
+    /**
+     * A node of the trie. The named children are kept in arrays which are searched linearly since
+     * there are only a few of them.
+     */
+    private static class Node
+    {
+        private String []        names    = new String [0];
+        private Node []          children = new Node [0];
+        private Node             numberChild;
+        private IOSCRouteHandler handler;
+
+
+        Node getChild (final String address, final int start, final int length)
+        {
+            for (int i = 0; i < this.names.length; i++)
+            {
+                final String name = this.names[i];
+                if (name.length () == length && address.regionMatches (start, name, 0, length))
+                    return this.children[i];
+            }
+            return null;
+        }
+
+
+        Node getOrCreateChild (final String name)
+        {
+            for (int i = 0; i < this.names.length; i++)
+            {
+                if (this.names[i].equals (name))
+                    return this.children[i];
+            }
+
+            final int size = this.names.length;
+            this.names = Arrays.copyOf (this.names, size + 1);
+            this.children = Arrays.copyOf (this.children, size + 1);
+            this.names[size] = name;
+            final Node child = new Node ();
+            this.children[size] = child;
+            return child;
+        }
+    }
+}
@@ -16,6 +16,7 @@ import de.mossgrabers.framework.osc.AbstractOpenSoundControlParser;
 import de.mossgrabers.framework.osc.IOpenSoundControlConfiguration;
 import de.mossgrabers.framework.osc.IOpenSoundControlMessage;
 import de.mossgrabers.framework.osc.IOpenSoundControlWriter;
+import de.mossgrabers.framework.osc.OpenSoundControlAddress;
 import de.mossgrabers.framework.utils.KeyManager;
 
 import java.util.Arrays;
@@ -34,6 +35,7 @@ public class OSCParser extends AbstractOpenSoundControlParser
 {
     private final OSCControlSurface    surface;
     private final Map<String, IModule> modules = new HashMap<> ();
+    private final OSCAddressTrie       routes  = new OSCAddressTrie ();
 
 
     /**
@@ -55,6 +57,17 @@ public class OSCParser extends AbstractOpenSoundControlParser
 
         this.model.getCurrentTrackBank ().setIndication (true);
         this.surface.setKeyTranslationTable (model.getScales ().getNoteMatrix ());
+
+        this.routes.add ("/refresh", (numbers, value) -> this.writer.flush (true));
+        this.routes.add ("/refresh/*", (numbers, value) -> {
+            // Only send all values to the given client, e.g. after it reconnected
+            this.writer.requestDump (numbers[0] - 1);
+            this.writer.flush (false);
+        });
+        this.routes.add ("/subscribe", (numbers, value) -> this.changeSubscriptions (-1, value, true));
+        this.routes.add ("/subscribe/*", (numbers, value) -> this.changeSubscriptions (numbers[0] - 1, value, true));
+        this.routes.add ("/unsubscribe", (numbers, value) -> this.changeSubscriptions (-1, value, false));
+        this.routes.add ("/unsubscribe/*", (numbers, value) -> this.changeSubscriptions (numbers[0] - 1, value, false));
     }
 
 
@@ -64,27 +77,29 @@ public class OSCParser extends AbstractOpenSoundControlParser
     {
         this.logMessage (message);
 
-        final LinkedList<String> oscParts = parseAddress (message);
-        if (oscParts.isEmpty ())
-            return;
-
-        final String command = oscParts.removeFirst ();
-        if ("refresh".equals (command))
-        {
-            this.writer.flush (true);
-            return;
-        }
-
         final Object [] values = message.getValues ();
+        final Object value;
+        if (values != null && values.length > 1)
+            value = values;
+        else
+            value = values == null || values.length == 0 ? null : values[0];
+
         try
         {
+            // Frequent commands are routed by the pre-compiled trie, all others are parsed by the
+            // modules
+            if (this.routes.route (message.getAddress (), value))
+                return;
+
+            final LinkedList<String> oscParts = parseAddress (message);
+            if (oscParts.isEmpty ())
+                return;
+
+            final String command = oscParts.removeFirst ();
             final IModule module = this.modules.get (command);
             if (module == null)
                 throw new UnknownCommandException (command);
-            if (values != null && values.length > 1)
-                module.execute (command, oscParts, values);
-            else
-                module.execute (command, oscParts, values == null || values.length == 0 ? null : values[0]);
+            module.execute (command, oscParts, value);
         }
         catch (final IllegalParameterException ex)
         {
@@ -101,6 +116,56 @@ public class OSCParser extends AbstractOpenSoundControlParser
     }
 
 
+    /**
+     * Subscribe to or unsubscribe from address patterns, e.g. '/track/*&#47;volume'. The
+     * subscriptions are kept per client. Afterwards all values of the subscribed addresses are sent
+     * to the client(s).
+     *
+     * @param clientIndex The index of the client or -1 to change the subscriptions of all clients
+     * @param value The pattern or an array of patterns, unsubscribing without a pattern removes all
+     *            subscriptions
+     * @param subscribe True to subscribe, false to unsubscribe
+     */
+    private void changeSubscriptions (final int clientIndex, final Object value, final boolean subscribe)
+    {
+        final OpenSoundControlAddress rootAddress = this.writer.getRootAddress ();
+        if (clientIndex < 0)
+        {
+            for (int i = 0; i < rootAddress.getNumClients (); i++)
+                updateSubscriptions (rootAddress, i, value, subscribe);
+            this.writer.flush (true);
+            return;
+        }
+
+        updateSubscriptions (rootAddress, clientIndex, value, subscribe);
+        this.writer.requestDump (clientIndex);
+        this.writer.flush (false);
+    }
+
+
+    private static void updateSubscriptions (final OpenSoundControlAddress rootAddress, final int clientIndex, final Object value, final boolean subscribe)
+    {
+        if (value == null)
+        {
+            if (!subscribe)
+                rootAddress.unsubscribeAll (clientIndex);
+            return;
+        }
+
+        final Object [] patterns = value instanceof final Object [] values ? values : new Object []
+        {
+            value
+        };
+        for (final Object pattern: patterns)
+        {
+            if (subscribe)
+                rootAddress.subscribe (clientIndex, pattern.toString ());
+            else
+                rootAddress.unsubscribe (clientIndex, pattern.toString ());
+        }
+    }
+
+
     /**
      * Parses the OSC message into seprate parts.
      *
@@ -126,5 +191,6 @@ public class OSCParser extends AbstractOpenSoundControlParser
     public void registerModule (final IModule module)
     {
         Arrays.asList (module.getSupportedCommands ()).forEach (command -> this.modules.put (command, module));
+        module.registerRoutes (this.routes);
     }
 }
\ No newline at end of file
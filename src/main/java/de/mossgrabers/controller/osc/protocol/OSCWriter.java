@@ -41,12 +41,12 @@ public class OSCWriter extends AbstractOpenSoundControlWriter
      *
      * @param host The host
      * @param model The model
-     * @param oscClient The OSC client to write to
+     * @param oscClients The OSC clients to write to
      * @param configuration The configuration
      */
-    public OSCWriter (final IHost host, final IModel model, final IOpenSoundControlClient oscClient, final OSCConfiguration configuration)
+    public OSCWriter (final IHost host, final IModel model, final List<IOpenSoundControlClient> oscClients, final OSCConfiguration configuration)
     {
-        super (host, model, oscClient, configuration);
+        super (host, model, oscClients, configuration);
     }
 
 
@@ -56,6 +56,7 @@ public class OSCWriter extends AbstractOpenSoundControlWriter
     {
         if (!this.isConnected ())
             return;
+        this.startFlush ();
         this.modules.forEach (module -> module.flush (dump));
         this.flush ("/update");
     }
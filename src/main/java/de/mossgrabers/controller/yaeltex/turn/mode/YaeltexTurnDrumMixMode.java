@@ -100,6 +100,8 @@ public class YaeltexTurnDrumMixMode extends AbstractParameterMode<YaeltexTurnCon
         this.providers.add (new FixedParameterProvider (this.eqDevice.getGainParameters ()));
         this.providers.add (new VolumeLayerOrDrumPadParameterProvider (this.drumDevice));
 
+        this.addObservedData (this.eqDevice);
+
         this.drumDevice.addHasDrumPadsObserver (hasDrumPads -> this.parametersAdjusted ());
         this.getDrumPadBank ().addSelectionObserver (this::drumPadSelectionChanged);
     }
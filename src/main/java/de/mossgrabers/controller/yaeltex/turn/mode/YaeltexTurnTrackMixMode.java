@@ -81,6 +81,8 @@ public class YaeltexTurnTrackMixMode extends AbstractParameterMode<YaeltexTurnCo
         this.providers.add (new FixedParameterProvider (this.eqDevice.getGainParameters ()));
         this.providers.add (new VolumeParameterProvider (model));
 
+        this.addObservedData (this.eqDevice);
+
         this.model.getTrackBank ().addSelectionObserver (this::trackSelectionChanged);
     }
 
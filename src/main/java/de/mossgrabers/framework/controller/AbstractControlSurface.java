@@ -22,6 +22,7 @@ import de.mossgrabers.framework.controller.hardware.IHwLight;
 import de.mossgrabers.framework.controller.hardware.IHwPianoKeyboard;
 import de.mossgrabers.framework.controller.hardware.IHwRelativeKnob;
 import de.mossgrabers.framework.controller.hardware.IHwSurfaceFactory;
+import de.mossgrabers.framework.controller.hardware.LongPressTimer;
 import de.mossgrabers.framework.controller.valuechanger.ISensitivityCallback;
 import de.mossgrabers.framework.controller.valuechanger.RelativeEncoding;
 import de.mossgrabers.framework.daw.IHost;
@@ -66,6 +67,7 @@ public abstract class AbstractControlSurface<C extends Configuration> implements
 
     protected final IHost                                 host;
     protected final IHwSurfaceFactory                     surfaceFactory;
+    private final LongPressTimer                          longPressTimer;
     protected final C                                     configuration;
     protected final ColorManager                          colorManager;
     protected final IMidiOutput                           output;
@@ -161,6 +163,7 @@ public abstract class AbstractControlSurface<C extends Configuration> implements
         this.lightGuide = lightGuide;
 
         this.surfaceFactory = host.createSurfaceFactory (width, height);
+        this.longPressTimer = new LongPressTimer (host);
 
         this.dummyDisplay = new DummyDisplay (host);
 
@@ -591,7 +594,7 @@ public abstract class AbstractControlSurface<C extends Configuration> implements
     @Override
     public IHwButton createButton (final ButtonID buttonID, final String label)
     {
-        final IHwButton button = this.surfaceFactory.createButton (this.surfaceID, buttonID, label);
+        final IHwButton button = this.surfaceFactory.createButton (this.surfaceID, buttonID, label, this.longPressTimer);
         this.buttons.put (buttonID, button);
         return button;
     }
@@ -1022,6 +1025,18 @@ public abstract class AbstractControlSurface<C extends Configuration> implements
     }
 
 
+    /**
+     * Get the timer which detects long presses of all buttons of the surface. Provides statistics
+     * about the latency of the long press detection.
+     *
+     * @return The long press timer
+     */
+    public LongPressTimer getLongPressTimer ()
+    {
+        return this.longPressTimer;
+    }
+
+
     /**
      * Get the host.
      *
@@ -30,6 +30,7 @@ import de.mossgrabers.framework.featuregroup.IView;
 import de.mossgrabers.framework.featuregroup.ModeManager;
 import de.mossgrabers.framework.featuregroup.ViewManager;
 import de.mossgrabers.framework.mode.Modes;
+import de.mossgrabers.framework.observer.ObserverSubscriptions;
 import de.mossgrabers.framework.scale.Scales;
 import de.mossgrabers.framework.utils.ButtonEvent;
 import de.mossgrabers.framework.utils.ConsoleLogger;
@@ -54,18 +55,19 @@ import java.util.function.IntSupplier;
  */
 public abstract class AbstractControllerSetup<S extends IControlSurface<C>, C extends Configuration> implements IControllerSetup<S, C>
 {
-    protected final List<S>       surfaces    = new ArrayList<> ();
-    protected final IHost         host;
-    protected final ISettingsUI   globalSettings;
-    protected final ISettingsUI   documentSettings;
-    protected final ISetupFactory factory;
+    protected final List<S>               surfaces              = new ArrayList<> ();
+    protected final IHost                 host;
+    protected final ISettingsUI           globalSettings;
+    protected final ISettingsUI           documentSettings;
+    protected final ISetupFactory         factory;
+    protected final ObserverSubscriptions observerSubscriptions = new ObserverSubscriptions ();
 
-    protected Scales              scales;
-    protected IModel              model;
-    protected C                   configuration;
-    protected ColorManager        colorManager;
-    protected IValueChanger       valueChanger;
-    protected Modes               currentMode = null;
+    protected Scales                      scales;
+    protected IModel                      model;
+    protected C                           configuration;
+    protected ColorManager                colorManager;
+    protected IValueChanger               valueChanger;
+    protected Modes                       currentMode           = null;
 
 
     /**
@@ -141,6 +143,7 @@ public abstract class AbstractControllerSetup<S extends IControlSurface<C>, C ex
         this.registerTriggerCommands ();
         this.registerContinuousCommands ();
         this.layoutControls ();
+        this.manageObservers ();
         if (this.model != null)
             this.model.ensureClip ();
 
@@ -384,6 +387,21 @@ public abstract class AbstractControllerSetup<S extends IControlSurface<C>, C ex
     }
 
 
+    /**
+     * Enable the observers of the data which is declared by the modes and views of all surfaces
+     * only while at least one of the modes or views which need the data is active. The
+     * subscriptions are shared by all surfaces.
+     */
+    private void manageObservers ()
+    {
+        for (final S surface: this.surfaces)
+        {
+            surface.getModeManager ().setObserverSubscriptions (this.observerSubscriptions);
+            surface.getViewManager ().setObserverSubscriptions (this.observerSubscriptions);
+        }
+    }
+
+
     /**
      * Create a hardware button on/off proxy on controller device 1, bind a trigger command to it
      * and bind it to a MIDI CC on MIDI channel 1. State colors are ON and HI.
@@ -437,7 +437,7 @@ public class ColorEx
      */
     public static double calcDistance (final ColorEx color1, final ColorEx color2, final boolean useColorMetric)
     {
-        return calcDistance (color1.toDoubleRGB (), color2.toDoubleRGB (), useColorMetric);
+        return calcDistance (color1.redValue, color1.greenValue, color1.blueValue, color2.redValue, color2.greenValue, color2.blueValue, useColorMetric);
     }
 
 
@@ -452,13 +452,19 @@ public class ColorEx
      */
     public static double calcDistance (final double [] color1, final double [] color2, final boolean useColorMetric)
     {
-        final double deltaR = color1[0] - color2[0];
-        final double deltaG = color1[1] - color2[1];
-        final double deltaB = color1[2] - color2[2];
+        return calcDistance (color1[0], color1[1], color1[2], color2[0], color2[1], color2[2], useColorMetric);
+    }
+
+
+    private static double calcDistance (final double red1, final double green1, final double blue1, final double red2, final double green2, final double blue2, final boolean useColorMetric)
+    {
+        final double deltaR = red1 - red2;
+        final double deltaG = green1 - green2;
+        final double deltaB = blue1 - blue2;
 
         if (useColorMetric)
         {
-            final double rmean = (color1[0] + color2[0]) / 2.0;
+            final double rmean = (red1 + red2) / 2.0;
             return Math.sqrt ((2.0 + rmean) * deltaR * deltaR + 4.0 * deltaG * deltaG + (2.99609375 - rmean) * deltaB * deltaB);
         }
 
@@ -488,8 +494,10 @@ public class ColorEx
      */
     public int encode ()
     {
-        final int [] c = this.toIntRGB255 ();
-        return c[0] + (c[1] << 8) + (c[2] << 16);
+        final int red = (int) Math.round (this.redValue * 255.0);
+        final int green = (int) Math.round (this.greenValue * 255.0);
+        final int blue = (int) Math.round (this.blueValue * 255.0);
+        return red + (green << 8) + (blue << 16);
     }
 
 
@@ -0,0 +1,134 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2023
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.controller.color;
+
+import java.util.Arrays;
+
+
+/**
+ * Looks up the index of the color of a palette which is the closest to a given color. The colors
+ * are quantized to 5 bits per component. The closest palette index of each of the resulting 32768
+ * colors is calculated on first use and stored in a table, therefore further look-ups are a
+ * single array access. The table itself is created on first use as well. The colors of the
+ * palette are stored first, therefore they are always mapped to themselves.
+ *
+ * @author Jürgen Moßgraber
+ */
+public class ColorLookupTable
+{
+    private static final int  BITS      = 5;
+    private static final int  MAX_VALUE = (1 << BITS) - 1;
+    private static final int  SIZE      = 1 << 3 * BITS;
+
+    private final ColorEx []  palette;
+    private final boolean     useColorMetric;
+    private volatile short [] indices;
+
+
+    /**
+     * Constructor. Uses color metrics to calculate the distance of colors.
+     *
+     * @param palette The palette to pick the colors from, must not contain more than 32767 colors
+     */
+    public ColorLookupTable (final ColorEx [] palette)
+    {
+        this (palette, true);
+    }
+
+
+    /**
+     * Constructor.
+     *
+     * @param palette The palette to pick the colors from, must not contain more than 32767 colors
+     * @param useColorMetric If true uses color metrics to calculate the distance, see
+     *            https://www.compuphase.com/cmetric.htm
+     */
+    public ColorLookupTable (final ColorEx [] palette, final boolean useColorMetric)
+    {
+        this.palette = palette.clone ();
+        this.useColorMetric = useColorMetric;
+    }
+
+
+    /**
+     * Get the index of the color from the palette which is the closest to the given color.
+     *
+     * @param color The color
+     * @return The index of the closest color from the palette
+     */
+    public int getClosestColorIndex (final ColorEx color)
+    {
+        final short [] table = this.getTable ();
+        final int key = getKey (color);
+        int index = table[key];
+        if (index < 0)
+        {
+            final int red = key >> 2 * BITS;
+            final int green = key >> BITS & MAX_VALUE;
+            final int blue = key & MAX_VALUE;
+            final ColorEx quantized = new ColorEx ((double) red / MAX_VALUE, (double) green / MAX_VALUE, (double) blue / MAX_VALUE);
+            index = ColorEx.getClosestColorIndex (quantized, this.palette, this.useColorMetric);
+            // Concurrent calculations of the same entry result in the same index
+            table[key] = (short) index;
+        }
+        return index;
+    }
+
+
+    /**
+     * Get the color from the palette which is the closest to the given color.
+     *
+     * @param color The color
+     * @return The closest color from the palette
+     */
+    public ColorEx getClosestColor (final ColorEx color)
+    {
+        return this.palette[this.getClosestColorIndex (color)];
+    }
+
+
+    /**
+     * Get the table, create it if it does not exist yet.
+     *
+     * @return The table with the palette indices, -1 marks entries which are not calculated yet
+     */
+    private short [] getTable ()
+    {
+        short [] table = this.indices;
+        if (table != null)
+            return table;
+
+        synchronized (this)
+        {
+            table = this.indices;
+            if (table == null)
+            {
+                table = new short [SIZE];
+                Arrays.fill (table, (short) -1);
+                // If several palette colors fall into the same entry, the first one wins
+                for (int i = 0; i < this.palette.length; i++)
+                {
+                    final int key = getKey (this.palette[i]);
+                    if (table[key] < 0)
+                        table[key] = (short) i;
+                }
+                this.indices = table;
+            }
+            return table;
+        }
+    }
+
+
+    private static int getKey (final ColorEx color)
+    {
+        return quantize (color.getRed ()) << 2 * BITS | quantize (color.getGreen ()) << BITS | quantize (color.getBlue ());
+    }
+
+
+    private static int quantize (final double value)
+    {
+        return (int) Math.round (Math.min (1.0, Math.max (0, value)) * MAX_VALUE);
+    }
+}
@@ -7,6 +7,7 @@ package de.mossgrabers.framework.controller.color;
 import de.mossgrabers.framework.controller.ButtonID;
 import de.mossgrabers.framework.daw.DAWColor;
 
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -15,19 +16,27 @@ import java.util.Map;
  * Manages colors. Color indices can be identified by a text identifier. The second lookup handles
  * the mapping from color indices to the real color values as ColorEx objects.
  *
+ * Each text identifier is resolved once into an integer handle. Code which is called often (e.g.
+ * drawing the pad grid) can retrieve the handle in advance and look up the color index with it
+ * without hashing the text identifier.
+ *
  * @author Jürgen Moßgraber
  */
 public class ColorManager
 {
     /** ID for color when button is turned off. */
-    public static final String            BUTTON_STATE_OFF = "BUTTON_STATE_OFF";
+    public static final String         BUTTON_STATE_OFF   = "BUTTON_STATE_OFF";
     /** ID for color when button is turned on. */
-    public static final String            BUTTON_STATE_ON  = "BUTTON_STATE_ON";
+    public static final String         BUTTON_STATE_ON    = "BUTTON_STATE_ON";
     /** ID for color when button is highlighted. */
-    public static final String            BUTTON_STATE_HI  = "BUTTON_STATE_HI";
+    public static final String         BUTTON_STATE_HI    = "BUTTON_STATE_HI";
+
+    private static final int           NOT_REGISTERED     = Integer.MIN_VALUE;
 
-    protected final Map<String, Integer>  colorIndexByKey  = new HashMap<> ();
-    protected final Map<Integer, ColorEx> colorByIndex     = new HashMap<> ();
+    private final Map<String, Integer> handleByKey        = new HashMap<> ();
+    private String []                  keyByHandle        = new String [64];
+    private int []                     colorIndexByHandle = new int [64];
+    protected final ColorEx []         colorByIndex       = new ColorEx [128];
 
 
     /**
@@ -38,7 +47,8 @@ public class ColorManager
      */
     public void registerColorIndex (final String key, final int colorIndex)
     {
-        if (this.colorIndexByKey.containsKey (key))
+        final Integer handle = this.handleByKey.get (key);
+        if (handle != null && this.colorIndexByHandle[handle.intValue ()] != NOT_REGISTERED)
             throw new ColorIndexException ("Color for key " + key + " is already registered!");
         this.updateColorIndex (key, colorIndex);
     }
@@ -52,7 +62,7 @@ public class ColorManager
      */
     public void updateColorIndex (final String key, final int colorIndex)
     {
-        this.colorIndexByKey.put (key, Integer.valueOf (colorIndex));
+        this.colorIndexByHandle[this.getColorHandle (key)] = colorIndex;
     }
 
 
@@ -68,6 +78,32 @@ public class ColorManager
     }
 
 
+    /**
+     * Get the handle of a key. The handle stays the same for the lifetime of the color manager,
+     * even if the color index of the key is updated. The key does not need to be registered yet.
+     *
+     * @param key The key
+     * @return The handle
+     */
+    public int getColorHandle (final String key)
+    {
+        final Integer handle = this.handleByKey.get (key);
+        if (handle != null)
+            return handle.intValue ();
+
+        final int newHandle = this.handleByKey.size ();
+        if (newHandle == this.keyByHandle.length)
+        {
+            this.keyByHandle = Arrays.copyOf (this.keyByHandle, 2 * newHandle);
+            this.colorIndexByHandle = Arrays.copyOf (this.colorIndexByHandle, 2 * newHandle);
+        }
+        this.keyByHandle[newHandle] = key;
+        this.colorIndexByHandle[newHandle] = NOT_REGISTERED;
+        this.handleByKey.put (key, Integer.valueOf (newHandle));
+        return newHandle;
+    }
+
+
     /**
      * Get the color index which is registered with the given key.
      *
@@ -76,10 +112,25 @@ public class ColorManager
      */
     public int getColorIndex (final String key)
     {
-        final Integer colorIndex = this.colorIndexByKey.get (key);
-        if (colorIndex == null)
+        final Integer handle = this.handleByKey.get (key);
+        if (handle == null)
             throw new ColorIndexException ("Color for key " + key + " is not registered!");
-        return colorIndex.intValue ();
+        return this.getColorIndexByHandle (handle.intValue ());
+    }
+
+
+    /**
+     * Get the color index which is registered with the key of the given handle.
+     *
+     * @param handle The handle of the key, retrieved with {@link #getColorHandle(String)}
+     * @return The color index
+     */
+    public int getColorIndexByHandle (final int handle)
+    {
+        final int colorIndex = this.colorIndexByHandle[handle];
+        if (colorIndex == NOT_REGISTERED)
+            throw new ColorIndexException ("Color for key " + this.keyByHandle[handle] + " is not registered!");
+        return colorIndex;
     }
 
 
@@ -93,7 +144,7 @@ public class ColorManager
     {
         if (colorIndex < 0 || colorIndex > 127)
             throw new ColorIndexException ("Color index must be in the range of 0..127!");
-        this.colorByIndex.put (Integer.valueOf (colorIndex), color);
+        this.colorByIndex[colorIndex] = color;
     }
 
 
@@ -108,9 +159,21 @@ public class ColorManager
     {
         if (colorIndex < 0)
             return ColorEx.BLACK;
-        final ColorEx color = this.colorByIndex.get (Integer.valueOf (colorIndex));
+        final ColorEx color = this.getRegisteredColor (colorIndex);
         if (color == null)
             throw new ColorIndexException ("Color for index " + colorIndex + " is not registered!");
         return color;
     }
+
+
+    /**
+     * Get the color which is registered at the given index.
+     *
+     * @param colorIndex The color index
+     * @return The color or null if no color is registered for the index
+     */
+    protected ColorEx getRegisteredColor (final int colorIndex)
+    {
+        return colorIndex >= 0 && colorIndex < this.colorByIndex.length ? this.colorByIndex[colorIndex] : null;
+    }
 }
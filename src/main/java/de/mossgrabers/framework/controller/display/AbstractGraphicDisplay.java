@@ -14,9 +14,12 @@ import de.mossgrabers.framework.daw.data.ITrack;
 import de.mossgrabers.framework.daw.resource.ChannelType;
 import de.mossgrabers.framework.daw.resource.ResourceHandler;
 import de.mossgrabers.framework.graphics.Align;
+import de.mossgrabers.framework.graphics.DefaultBounds;
 import de.mossgrabers.framework.graphics.DefaultGraphicsInfo;
 import de.mossgrabers.framework.graphics.IBitmap;
+import de.mossgrabers.framework.graphics.IBounds;
 import de.mossgrabers.framework.graphics.IGraphicsConfiguration;
+import de.mossgrabers.framework.graphics.IGraphicsContext;
 import de.mossgrabers.framework.graphics.IGraphicsDimensions;
 import de.mossgrabers.framework.graphics.IGraphicsInfo;
 import de.mossgrabers.framework.graphics.canvas.component.ChannelComponent;
@@ -32,9 +35,11 @@ import de.mossgrabers.framework.graphics.canvas.component.SceneListGridElement;
 import de.mossgrabers.framework.graphics.canvas.component.SendsComponent;
 import de.mossgrabers.framework.graphics.canvas.utils.SendData;
 import de.mossgrabers.framework.graphics.display.ModelInfo;
+import de.mossgrabers.framework.graphics.display.RenderStatistics;
 import de.mossgrabers.framework.utils.Pair;
 
 import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.Collections;
 import java.util.List;
 import java.util.concurrent.Executors;
@@ -72,6 +77,8 @@ public abstract class AbstractGraphicDisplay implements IGraphicDisplay
 
     /** Timeout for displaying the notification message. */
     private static final int               TIMEOUT                         = 1;
+    /** Interval in seconds for logging the render statistics. */
+    private static final int               STATISTICS_INTERVAL             = 10;
 
     private final AtomicInteger            counter                         = new AtomicInteger ();
     private final ScheduledExecutorService executor                        = Executors.newSingleThreadScheduledExecutor ();
@@ -80,6 +87,10 @@ public abstract class AbstractGraphicDisplay implements IGraphicDisplay
     private final List<IComponent>         columns                         = new ArrayList<> (8);
     private final AtomicReference<String>  notificationMessage             = new AtomicReference<> ();
     private ModelInfo                      info                            = new ModelInfo (null, Collections.emptyList ());
+    private final BitSet                   changedColumns                  = new BitSet (8);
+    private final List<IBounds>            changedAreas                    = new ArrayList<> (8);
+    private IBounds []                     columnAreas                     = new IBounds [0];
+    private final RenderStatistics         statistics                      = new RenderStatistics ();
 
     protected final IHost                  host;
     protected final IGraphicsConfiguration configuration;
@@ -110,6 +121,7 @@ public abstract class AbstractGraphicDisplay implements IGraphicDisplay
 
         // Manage notification message display time
         this.executor.scheduleAtFixedRate (this::checkNotificationCounter, 1, 1, TimeUnit.SECONDS);
+        this.executor.scheduleAtFixedRate (this::logRenderStatistics, STATISTICS_INTERVAL, STATISTICS_INTERVAL, TimeUnit.SECONDS);
     }
 
 
@@ -179,10 +191,16 @@ public abstract class AbstractGraphicDisplay implements IGraphicDisplay
             final ModelInfo newInfo = new ModelInfo (notification, this.columns);
 
             // Only render image if there is a change in the data
-            if (!this.info.equals (newInfo))
+            if (this.info.equals (newInfo))
+                this.statistics.countSkippedFrame ();
+            else
             {
+                final ModelInfo previousInfo = this.info;
                 this.info = newInfo;
-                this.renderImage ();
+                if (newInfo.collectChangedColumns (previousInfo, this.changedColumns))
+                    this.renderChangedColumns ();
+                else
+                    this.renderImage ();
             }
         }
         finally
@@ -427,40 +445,122 @@ public abstract class AbstractGraphicDisplay implements IGraphicDisplay
     }
 
 
+    /**
+     * Get the counters about the rendered frames.
+     *
+     * @return The statistics
+     */
+    public RenderStatistics getRenderStatistics ()
+    {
+        return this.statistics;
+    }
+
+
     private void renderImage ()
     {
         this.image.render (this.configuration.isAntialiasEnabled (), gc -> {
             final int width = this.dimensions.getWidth ();
             final int height = this.dimensions.getHeight ();
-            final double separatorSize = this.dimensions.getSeparatorSize ();
 
             // Clear display
-            final ColorEx colorBorder = this.configuration.getColorBorder ();
-            gc.fillRectangle (0, 0, width, height, colorBorder);
+            gc.fillRectangle (0, 0, width, height, this.configuration.getColorBorder ());
 
-            final List<IComponent> elements = this.info.getComponents ();
-            final int size = elements.size ();
-            if (size == 0)
-                return;
-            final int gridWidth = width / size;
-            final double paintWidth = gridWidth - separatorSize;
-            final double offsetX = separatorSize / 2.0;
+            this.drawComponents (gc, null);
+        });
 
-            final IGraphicsInfo graphicsInfo = new DefaultGraphicsInfo (gc, this.configuration, this.dimensions);
-            for (int i = 0; i < size; i++)
-            {
-                final IComponent component = elements.get (i);
-                if (component != null)
-                    component.draw (graphicsInfo.withBounds (i * gridWidth + offsetX, 0, paintWidth, height));
-            }
+        this.statistics.countFullRender (this.info.getComponents ().size ());
+    }
 
-            final String notification = this.info.getNotification ();
-            if (notification == null)
-                return;
 
-            final ColorEx colorText = this.configuration.getColorText ();
-            gc.drawTextInBounds (notification, 0, 0, width, height, Align.CENTER, colorText, colorBorder, height / 4.0);
+    /**
+     * Only redraws the columns which have changed since the last rendering. The drawing is clipped
+     * to the areas of the changed columns. Only the components of the changed columns are drawn
+     * and the ones left of a changed column which draw into the columns to their right (e.g.
+     * option headers).
+     */
+    private void renderChangedColumns ()
+    {
+        // The areas of the columns only change with the number of columns
+        final int numColumns = this.info.getComponents ().size ();
+        if (this.columnAreas.length != numColumns)
+        {
+            final int height = this.dimensions.getHeight ();
+            final int gridWidth = this.dimensions.getWidth () / numColumns;
+            this.columnAreas = new IBounds [numColumns];
+            for (int i = 0; i < numColumns; i++)
+                this.columnAreas[i] = new DefaultBounds (i * gridWidth, 0, gridWidth, height);
+        }
+
+        this.changedAreas.clear ();
+        for (int column = this.changedColumns.nextSetBit (0); column >= 0; column = this.changedColumns.nextSetBit (column + 1))
+            this.changedAreas.add (this.columnAreas[column]);
+
+        this.image.render (this.configuration.isAntialiasEnabled (), gc -> {
+
+            gc.setClip (this.changedAreas);
+
+            // Clear the changed columns
+            final ColorEx colorBorder = this.configuration.getColorBorder ();
+            for (final IBounds area: this.changedAreas)
+                gc.fillRectangle (area.left (), area.top (), area.width (), area.height (), colorBorder);
+
+            this.drawComponents (gc, this.changedColumns);
+
+            gc.resetClip ();
         });
+
+        this.statistics.countPartialRender (this.changedAreas.size ());
+    }
+
+
+    /**
+     * Draw the components and the notification.
+     *
+     * @param gc The graphics context
+     * @param changed The columns which changed or null to draw all components
+     */
+    private void drawComponents (final IGraphicsContext gc, final BitSet changed)
+    {
+        final int width = this.dimensions.getWidth ();
+        final int height = this.dimensions.getHeight ();
+        final double separatorSize = this.dimensions.getSeparatorSize ();
+
+        final List<IComponent> elements = this.info.getComponents ();
+        final int size = elements.size ();
+        if (size == 0)
+            return;
+        final int gridWidth = width / size;
+        final double paintWidth = gridWidth - separatorSize;
+        final double offsetX = separatorSize / 2.0;
+
+        final int lastChanged = changed == null ? size - 1 : changed.length () - 1;
+        final IGraphicsInfo graphicsInfo = new DefaultGraphicsInfo (gc, this.configuration, this.dimensions);
+        for (int i = 0; i < size; i++)
+        {
+            final IComponent component = elements.get (i);
+            if (component == null)
+                continue;
+            // Unchanged components are only drawn if they reach into a changed column
+            if (changed != null && !changed.get (i) && (i >= lastChanged || !component.isSpanningColumns ()))
+                continue;
+            component.draw (graphicsInfo.withBounds (i * gridWidth + offsetX, 0, paintWidth, height));
+        }
+
+        final String notification = this.info.getNotification ();
+        if (notification == null)
+            return;
+
+        final ColorEx colorText = this.configuration.getColorText ();
+        gc.drawTextInBounds (notification, 0, 0, width, height, Align.CENTER, colorText, this.configuration.getColorBorder (), height / 4.0);
+    }
+
+
+    private void logRenderStatistics ()
+    {
+        if (!this.configuration.isRenderStatisticsLogEnabled ())
+            return;
+        this.host.println ("Display: " + this.statistics);
+        this.statistics.reset ();
     }
 
 
@@ -9,6 +9,8 @@ import de.mossgrabers.framework.daw.IHost;
 import de.mossgrabers.framework.daw.midi.IMidiOutput;
 import de.mossgrabers.framework.utils.StringUtils;
 
+import java.util.Arrays;
+
 
 /**
  * Abstract implementation of a display.
@@ -18,29 +20,44 @@ import de.mossgrabers.framework.utils.StringUtils;
 public abstract class AbstractTextDisplay implements ITextDisplay
 {
     /** Time to keep a notification displayed in milliseconds. */
-    public static final int  NOTIFICATION_TIME   = 1000;
+    public static final int     NOTIFICATION_TIME   = 1000;
+
+    protected IHost             host;
+    protected IMidiOutput       output;
 
-    protected IHost          host;
-    protected IMidiOutput    output;
+    protected int               noOfLines;
+    protected int               noOfCells;
+    protected int               noOfCharacters;
+    protected int               charactersOfCell;
 
-    protected int            noOfLines;
-    protected int            noOfCells;
-    protected int            noOfCharacters;
-    protected int            charactersOfCell;
+    protected final String      emptyLine;
+    protected String            notificationMessage;
+    protected boolean           centerNotification  = true;
+    protected int               notificationTimeout = 0;
+    protected final Object      notificationLock    = new Object ();
 
-    protected final String   emptyLine;
-    protected String         notificationMessage;
-    protected boolean        centerNotification  = true;
-    protected int            notificationTimeout = 0;
-    protected final Object   notificationLock    = new Object ();
+    private final String        emptyCell;
+    protected String []         currentMessage;
+    protected String []         message;
+    protected String []         fullRows;
+    protected String []         cells;
 
-    private final String     emptyCell;
-    protected String []      currentMessage;
-    protected String []      message;
-    protected String []      fullRows;
-    protected String []      cells;
+    protected IHwTextDisplay    hwDisplay;
+
+    /**
+     * The number of characters which can be updated at an offset on the device, e.g. 1 for single
+     * characters or the size of a cell. 0 if only complete lines can be sent.
+     */
+    protected int               partialWriteSize    = 0;
+    /**
+     * The number of unchanged characters between 2 changed spans up to which the spans are sent
+     * as one, since each message has an overhead.
+     */
+    protected int               partialWriteGap     = 0;
 
-    protected IHwTextDisplay hwDisplay;
+    private final StringBuilder lineBuilder;
+    private final char [][]     frame;
+    private final boolean [][]  dirty;
 
 
     /**
@@ -74,6 +91,10 @@ public abstract class AbstractTextDisplay implements ITextDisplay
         this.message = new String [this.noOfLines];
         this.fullRows = new String [this.noOfLines];
         this.cells = new String [this.noOfLines * this.noOfCells];
+
+        this.lineBuilder = new StringBuilder (this.noOfCharacters);
+        this.frame = new char [this.noOfLines][];
+        this.dirty = new boolean [this.noOfLines][];
     }
 
 
@@ -163,9 +184,10 @@ public abstract class AbstractTextDisplay implements ITextDisplay
         else
         {
             final int index = row * this.noOfCells;
-            this.message[row] = "";
+            this.lineBuilder.setLength (0);
             for (int i = 0; i < this.noOfCells; i++)
-                this.message[row] += this.cells[index + i];
+                this.lineBuilder.append (this.cells[index + i]);
+            this.message[row] = this.lineBuilder.toString ();
         }
 
         return this;
@@ -347,7 +369,117 @@ public abstract class AbstractTextDisplay implements ITextDisplay
     protected void updateLine (final int row, final String text)
     {
         this.hwDisplay.setLine (row, this.convertCharacterset (text));
-        this.writeLine (row, text);
+
+        if (this.partialWriteSize <= 0)
+        {
+            this.writeLine (row, text);
+            return;
+        }
+
+        if (this.updateFrame (row, text))
+            this.writeDirtySpans (row, text);
+        else
+            this.writeLine (row, text);
+    }
+
+
+    /**
+     * Write a part of a line to the device. Must be overwritten if partial writes are enabled with
+     * partialWriteSize. By default, nothing is written and the complete row is sent once with
+     * writeLine instead.
+     *
+     * @param row The row to which to send the text
+     * @param offset The position of the first character in the row, a multiple of partialWriteSize
+     * @param text The text to send
+     * @return True if the part was handled, false if only complete lines can be written
+     */
+    protected boolean writeSpan (final int row, final int offset, final String text)
+    {
+        return false;
+    }
+
+
+    /**
+     * Copies the text into the frame buffer of the row and marks all changed characters as dirty.
+     *
+     * @param row The row
+     * @param text The new text of the row
+     * @return True if the dirty map is valid, false if the complete line needs to be sent
+     */
+    private boolean updateFrame (final int row, final String text)
+    {
+        final int length = text.length ();
+        char [] rowFrame = this.frame[row];
+        if (rowFrame == null || rowFrame.length != length)
+        {
+            rowFrame = new char [length];
+            this.frame[row] = rowFrame;
+            this.dirty[row] = new boolean [length];
+            text.getChars (0, length, rowFrame, 0);
+            return false;
+        }
+
+        final boolean [] rowDirty = this.dirty[row];
+        for (int i = 0; i < length; i++)
+        {
+            final char c = text.charAt (i);
+            if (rowFrame[i] != c)
+            {
+                rowFrame[i] = c;
+                rowDirty[i] = true;
+            }
+        }
+        return true;
+    }
+
+
+    /**
+     * Sends all spans of the row which contain dirty characters and clears the dirty map.
+     *
+     * @param row The row
+     * @param text The text of the row
+     */
+    private void writeDirtySpans (final int row, final String text)
+    {
+        final boolean [] rowDirty = this.dirty[row];
+        final int length = text.length ();
+        int start = -1;
+        int end = -1;
+        for (int pos = 0; pos < length; pos += this.partialWriteSize)
+        {
+            final int unitEnd = Math.min (length, pos + this.partialWriteSize);
+            if (!isDirty (rowDirty, pos, unitEnd))
+                continue;
+
+            if (start >= 0 && pos - end > this.partialWriteGap)
+            {
+                if (!this.writeSpan (row, start, text.substring (start, end)))
+                {
+                    // Partial writes are not supported, send the complete line once
+                    Arrays.fill (rowDirty, false);
+                    this.writeLine (row, text);
+                    return;
+                }
+                start = -1;
+            }
+            if (start < 0)
+                start = pos;
+            end = unitEnd;
+        }
+        Arrays.fill (rowDirty, false);
+        if (start >= 0 && !this.writeSpan (row, start, text.substring (start, end)))
+            this.writeLine (row, text);
+    }
+
+
+    private static boolean isDirty (final boolean [] rowDirty, final int start, final int end)
+    {
+        for (int i = start; i < end; i++)
+        {
+            if (rowDirty[i])
+                return true;
+        }
+        return false;
     }
 
 
@@ -368,7 +500,11 @@ public abstract class AbstractTextDisplay implements ITextDisplay
     public void forceFlush ()
     {
         for (int row = 0; row < this.noOfLines; row++)
+        {
             this.currentMessage[row] = "";
+            // Send the complete line
+            this.frame[row] = null;
+        }
     }
 
 
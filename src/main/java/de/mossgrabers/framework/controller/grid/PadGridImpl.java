@@ -19,6 +19,7 @@ public class PadGridImpl implements IPadGrid
 
     protected final IMidiOutput  output;
     protected final ColorManager colorManager;
+    private final int            gridOffHandle;
 
     protected LightInfo []       padStates;
 
@@ -52,6 +53,7 @@ public class PadGridImpl implements IPadGrid
     public PadGridImpl (final ColorManager colorManager, final IMidiOutput output, final int rows, final int cols, final int startNote)
     {
         this.colorManager = colorManager;
+        this.gridOffHandle = colorManager.getColorHandle (GRID_OFF);
         this.output = output;
         this.rows = rows;
         this.cols = cols;
@@ -141,7 +143,7 @@ public class PadGridImpl implements IPadGrid
      */
     protected void setLight (final int note, final int color, final int blinkColor, final boolean fast)
     {
-        this.padStates[note].setColors (color, blinkColor >= 0 ? blinkColor : this.colorManager.getColorIndex (GRID_OFF), fast);
+        this.padStates[note].setColors (color, blinkColor >= 0 ? blinkColor : this.colorManager.getColorIndexByHandle (this.gridOffHandle), fast);
     }
 
 
@@ -215,7 +217,7 @@ public class PadGridImpl implements IPadGrid
     @Override
     public void turnOff ()
     {
-        final int color = this.colorManager.getColorIndex (GRID_OFF);
+        final int color = this.colorManager.getColorIndexByHandle (this.gridOffHandle);
         for (int i = this.startNote; i <= this.endNote; i++)
         {
             this.light (i, color, -1, false);
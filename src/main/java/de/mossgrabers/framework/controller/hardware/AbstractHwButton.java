@@ -7,7 +7,6 @@ package de.mossgrabers.framework.controller.hardware;
 import de.mossgrabers.framework.command.core.TriggerCommand;
 import de.mossgrabers.framework.daw.IHost;
 import de.mossgrabers.framework.utils.ButtonEvent;
-import de.mossgrabers.framework.utils.TimeoutOptimizer;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -22,7 +21,7 @@ public abstract class AbstractHwButton extends AbstractHwInputControl implements
 {
     private static final int               BUTTON_STATE_INTERVAL = 300;
 
-    private final TimeoutOptimizer         optimizer;
+    private final LongPressTimer           longPressTimer;
 
     protected TriggerCommand               command;
     protected IHwLight                     light;
@@ -30,6 +29,8 @@ public abstract class AbstractHwButton extends AbstractHwInputControl implements
     private ButtonEvent                    state;
     private boolean                        isConsumed;
     private int                            pressedVelocity       = 0;
+    private int                            pressCounter          = 0;
+    private long                           pressTime;
 
     private final List<ButtonEventHandler> downEventHandlers     = new ArrayList<> ();
     private final List<ButtonEventHandler> upEventHandlers       = new ArrayList<> ();
@@ -40,12 +41,14 @@ public abstract class AbstractHwButton extends AbstractHwInputControl implements
      *
      * @param host The host
      * @param label The label of the button
+     * @param longPressTimer The timer for detecting long presses, shared by all buttons of the
+     *            surface
      */
-    protected AbstractHwButton (final IHost host, final String label)
+    protected AbstractHwButton (final IHost host, final String label, final LongPressTimer longPressTimer)
     {
         super (host, label);
 
-        this.optimizer = new TimeoutOptimizer (host, BUTTON_STATE_INTERVAL);
+        this.longPressTimer = longPressTimer;
     }
 
 
@@ -78,7 +81,10 @@ public abstract class AbstractHwButton extends AbstractHwInputControl implements
         this.state = ButtonEvent.DOWN;
         this.isConsumed = false;
 
-        this.host.scheduleTask (this::checkButtonState, this.optimizer.getTimeout ());
+        // Identify the press, a timeout of a previous press must not trigger a long press
+        final int pressID = ++this.pressCounter;
+        this.pressTime = System.currentTimeMillis ();
+        this.longPressTimer.schedule ( () -> this.checkButtonState (pressID), BUTTON_STATE_INTERVAL);
         this.pressedVelocity = (int) (value * 127.0);
         if (this.command != null)
             this.command.execute (ButtonEvent.DOWN, this.pressedVelocity);
@@ -220,12 +226,15 @@ public abstract class AbstractHwButton extends AbstractHwInputControl implements
     /**
      * If the state of the given button is still down, the state is set to long and an event gets
      * fired.
+     *
+     * @param pressID The ID of the press which started the timeout
      */
-    private void checkButtonState ()
+    private void checkButtonState (final int pressID)
     {
-        if (!this.isPressed ())
+        if (pressID != this.pressCounter || this.state != ButtonEvent.DOWN)
             return;
         this.state = ButtonEvent.LONG;
+        this.longPressTimer.countLongPress (System.currentTimeMillis () - this.pressTime);
 
         if (this.command != null)
             this.command.execute (ButtonEvent.LONG, this.pressedVelocity);
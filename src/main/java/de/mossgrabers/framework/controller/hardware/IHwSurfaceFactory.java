@@ -31,9 +31,10 @@ public interface IHwSurfaceFactory
      * @param surfaceID The ID of the surface
      * @param buttonID The button ID to use
      * @param label The label of the button
+     * @param longPressTimer The timer for detecting long presses
      * @return The created button
      */
-    IHwButton createButton (int surfaceID, ButtonID buttonID, String label);
+    IHwButton createButton (int surfaceID, ButtonID buttonID, String label, LongPressTimer longPressTimer);
 
 
     /**
@@ -0,0 +1,208 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2023
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.controller.hardware;
+
+import de.mossgrabers.framework.daw.IHost;
+import de.mossgrabers.framework.utils.TimeoutOptimizer;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+
+/**
+ * A hashed timer wheel which is shared by all buttons of a control surface to detect long presses.
+ * Instead of scheduling a task for each button press, the pending timeouts are stored in buckets
+ * of the wheel. While timeouts are pending, the wheel ticks with a fixed interval (calibrated once
+ * for the surface) and executes the tasks which are due. If nothing is pending the wheel stops.
+ * All methods except the statistics must be called from the host thread.
+ *
+ * @author Jürgen Moßgraber
+ */
+public class LongPressTimer
+{
+    private static final int          TICK_INTERVAL   = 25;
+    private static final int          WHEEL_SIZE      = 64;
+
+    private final IHost               host;
+    private final TimeoutOptimizer    optimizer;
+    private final List<List<Timeout>> wheel           = new ArrayList<> (WHEEL_SIZE);
+    private final List<Timeout>       dueTimeouts     = new ArrayList<> ();
+    private long                      lastTick;
+    private int                       pendingTimeouts = 0;
+    private boolean                   isTicking       = false;
+
+    private final AtomicLong          longPresses     = new AtomicLong ();
+    private final AtomicLong          totalLatency    = new AtomicLong ();
+    private final AtomicLong          minLatency      = new AtomicLong (Long.MAX_VALUE);
+    private final AtomicLong          maxLatency      = new AtomicLong ();
+
+
+    /**
+     * Constructor.
+     *
+     * @param host The host
+     */
+    public LongPressTimer (final IHost host)
+    {
+        this.host = host;
+        this.optimizer = new TimeoutOptimizer (host, TICK_INTERVAL);
+
+        for (int i = 0; i < WHEEL_SIZE; i++)
+            this.wheel.add (new ArrayList<> ());
+    }
+
+
+    /**
+     * Execute a task after the given delay.
+     *
+     * @param task The task to execute
+     * @param delay The delay in milliseconds, is limited to the range of the wheel (1.6 seconds)
+     */
+    public void schedule (final Runnable task, final int delay)
+    {
+        final long now = System.currentTimeMillis ();
+        final long deadline = now + Math.max (0, Math.min (delay, (WHEEL_SIZE - 1) * TICK_INTERVAL));
+        final long tick = (deadline + TICK_INTERVAL - 1) / TICK_INTERVAL;
+        this.wheel.get ((int) (tick % WHEEL_SIZE)).add (new Timeout (task, deadline));
+        this.pendingTimeouts++;
+
+        if (this.isTicking)
+            return;
+        this.isTicking = true;
+        this.lastTick = now / TICK_INTERVAL;
+        this.host.scheduleTask (this::tick, this.optimizer.getTimeout ());
+    }
+
+
+    /**
+     * Count a long press for the statistics.
+     *
+     * @param latency The time between pressing the button and the detection of the long press in
+     *            milliseconds
+     */
+    public void countLongPress (final long latency)
+    {
+        this.longPresses.incrementAndGet ();
+        this.totalLatency.addAndGet (latency);
+        this.minLatency.accumulateAndGet (latency, Math::min);
+        this.maxLatency.accumulateAndGet (latency, Math::max);
+    }
+
+
+    /**
+     * Get the number of detected long presses.
+     *
+     * @return The number of long presses
+     */
+    public long getLongPresses ()
+    {
+        return this.longPresses.get ();
+    }
+
+
+    /**
+     * Get the average time between pressing a button and the detection of the long press.
+     *
+     * @return The average latency in milliseconds, 0 if there was no long press yet
+     */
+    public long getAverageLatency ()
+    {
+        final long count = this.longPresses.get ();
+        return count == 0 ? 0 : this.totalLatency.get () / count;
+    }
+
+
+    /**
+     * Get the shortest time between pressing a button and the detection of the long press.
+     *
+     * @return The minimum latency in milliseconds, 0 if there was no long press yet
+     */
+    public long getMinLatency ()
+    {
+        final long min = this.minLatency.get ();
+        return min == Long.MAX_VALUE ? 0 : min;
+    }
+
+
+    /**
+     * Get the longest time between pressing a button and the detection of the long press.
+     *
+     * @return The maximum latency in milliseconds
+     */
+    public long getMaxLatency ()
+    {
+        return this.maxLatency.get ();
+    }
+
+
+    /**
+     * Reset the statistics.
+     */
+    public void resetStatistics ()
+    {
+        this.longPresses.set (0);
+        this.totalLatency.set (0);
+        this.minLatency.set (Long.MAX_VALUE);
+        this.maxLatency.set (0);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public String toString ()
+    {
+        return "Long presses: " + this.getLongPresses () + ", latency (ms) average: " + this.getAverageLatency () + ", min: " + this.getMinLatency () + ", max: " + this.getMaxLatency ();
+    }
+
+
+    /**
+     * Executes all due timeouts of the buckets which were passed since the last tick.
+     */
+    private void tick ()
+    {
+        final long now = System.currentTimeMillis ();
+        final long currentTick = now / TICK_INTERVAL;
+
+        // If the tick was delayed for longer than a turn, all buckets need to be checked once
+        final long firstTick = Math.max (this.lastTick + 1, currentTick - WHEEL_SIZE + 1);
+        for (long t = firstTick; t <= currentTick; t++)
+        {
+            final List<Timeout> bucket = this.wheel.get ((int) (t % WHEEL_SIZE));
+            for (int i = bucket.size () - 1; i >= 0; i--)
+            {
+                final Timeout timeout = bucket.get (i);
+                if (timeout.deadline () <= now)
+                {
+                    bucket.remove (i);
+                    this.dueTimeouts.add (timeout);
+                }
+            }
+        }
+        this.lastTick = currentTick;
+        this.pendingTimeouts -= this.dueTimeouts.size ();
+
+        if (this.pendingTimeouts > 0)
+            this.host.scheduleTask (this::tick, this.optimizer.getTimeout ());
+        else
+            this.isTicking = false;
+
+        // Tasks might schedule new timeouts, therefore execute them after updating the wheel
+        try
+        {
+            for (int i = this.dueTimeouts.size () - 1; i >= 0; i--)
+                this.dueTimeouts.get (i).task ().run ();
+        }
+        finally
+        {
+            this.dueTimeouts.clear ();
+        }
+    }
+
+
+    private record Timeout (Runnable task, long deadline)
+    {
+    }
+}
@@ -23,6 +23,7 @@ import de.mossgrabers.framework.observer.IValueObserver;
 import de.mossgrabers.framework.scale.Scales;
 import de.mossgrabers.framework.utils.FrameworkException;
 
+import java.util.Arrays;
 import java.util.EnumMap;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -63,10 +64,11 @@ public abstract class AbstractModel implements IModel
     protected IDrumDevice                           drumDevice;
     protected Map<Integer, IDrumDevice>             additionalDrumDevices = new HashMap<> ();
     protected IParameterBank                        userParameterBank;
-    protected Map<String, INoteClip>                cursorClips           = new HashMap<> ();
+    protected INoteClip []                          cursorClips           = new INoteClip [0];
     protected final Map<DeviceID, ISpecificDevice>  specificDevices       = new EnumMap<> (DeviceID.class);
 
     private int                                     lastSelection;
+    private int []                                  cursorClipKeys        = new int [0];
 
 
     /**
@@ -83,6 +85,8 @@ public abstract class AbstractModel implements IModel
         this.colorManager = dataSetup.getColorManager ();
         this.valueChanger = dataSetup.getValueChanger ();
         this.scales = scales;
+        if (this.colorManager != null)
+            this.scales.setColorManager (this.colorManager);
     }
 
 
@@ -348,6 +352,52 @@ public abstract class AbstractModel implements IModel
     }
 
 
+    /**
+     * Get a cursor clip which was already created with the given size.
+     *
+     * @param cols The columns of the clip
+     * @param rows The rows of the clip
+     * @return The cursor clip or null if not created yet
+     */
+    protected INoteClip findNoteClip (final int cols, final int rows)
+    {
+        // Only a few clips are created, therefore a linear search of the packed keys is the
+        // fastest and does not require to create a key object
+        final int key = getNoteClipKey (cols, rows);
+        for (int i = 0; i < this.cursorClipKeys.length; i++)
+        {
+            if (this.cursorClipKeys[i] == key)
+                return this.cursorClips[i];
+        }
+        return null;
+    }
+
+
+    /**
+     * Register a newly created cursor clip.
+     *
+     * @param cols The columns of the clip
+     * @param rows The rows of the clip
+     * @param clip The cursor clip
+     */
+    protected void addNoteClip (final int cols, final int rows, final INoteClip clip)
+    {
+        final int size = this.cursorClips.length;
+        final int [] keys = Arrays.copyOf (this.cursorClipKeys, size + 1);
+        final INoteClip [] clips = Arrays.copyOf (this.cursorClips, size + 1);
+        keys[size] = getNoteClipKey (cols, rows);
+        clips[size] = clip;
+        this.cursorClips = clips;
+        this.cursorClipKeys = keys;
+    }
+
+
+    private static int getNoteClipKey (final int cols, final int rows)
+    {
+        return cols << 16 | rows;
+    }
+
+
     /** {@inheritDoc} */
     @Override
     public boolean canConvertClip ()
@@ -5,6 +5,7 @@
 package de.mossgrabers.framework.daw;
 
 import de.mossgrabers.framework.controller.color.ColorEx;
+import de.mossgrabers.framework.controller.color.ColorLookupTable;
 
 import java.util.List;
 
@@ -74,11 +75,13 @@ public enum DAWColor
     DAW_COLOR_LIGHT_BLUE("Light Blue", new ColorEx (0, 0.6000000238418579, 0.8509804010391235));
 
 
-    private static final List<DAWColor> NEW_TRACK_COLORS = List.of (DAW_COLOR_PURPLE, DAW_COLOR_PINK, DAW_COLOR_RED, DAW_COLOR_ORANGE, DAW_COLOR_LIGHT_ORANGE, DAW_COLOR_MOSS_GREEN, DAW_COLOR_GREEN, DAW_COLOR_COLD_GREEN, DAW_COLOR_BLUE);
-    private static DAWColor             newTrackColor    = DAW_COLOR_DARK_BLUE;
+    private static final List<DAWColor>   NEW_TRACK_COLORS = List.of (DAW_COLOR_PURPLE, DAW_COLOR_PINK, DAW_COLOR_RED, DAW_COLOR_ORANGE, DAW_COLOR_LIGHT_ORANGE, DAW_COLOR_MOSS_GREEN, DAW_COLOR_GREEN, DAW_COLOR_COLD_GREEN, DAW_COLOR_BLUE);
+    private static DAWColor               newTrackColor    = DAW_COLOR_DARK_BLUE;
+    private static final DAWColor []      VALUES           = DAWColor.values ();
+    private static final ColorLookupTable COLOR_LOOKUP     = createColorLookup ();
 
-    private String                      name;
-    private ColorEx                     color;
+    private String                        name;
+    private ColorEx                       color;
 
 
     /**
@@ -137,8 +140,7 @@ public enum DAWColor
      */
     public static ColorEx getColorEntry (final int colorIndex)
     {
-        final DAWColor [] values = DAWColor.values ();
-        return values[colorIndex >= 0 && colorIndex < values.length ? colorIndex : 0].getColor ();
+        return VALUES[colorIndex >= 0 && colorIndex < VALUES.length ? colorIndex : 0].getColor ();
     }
 
 
@@ -176,19 +178,22 @@ public enum DAWColor
      */
     public static String getColorID (final ColorEx color)
     {
-        final DAWColor [] values = DAWColor.values ();
-        DAWColor cid = values[0];
-        double minError = 5.0;
-        for (int i = 1; i < values.length; i++)
-        {
-            final double error = ColorEx.calcDistance (values[i].getColor (), color, true);
-            if (error < minError)
-            {
-                cid = values[i];
-                minError = error;
-            }
-        }
-        return cid.name ();
+        // The lookup does not contain COLOR_OFF, therefore the index is off by 1
+        return VALUES[COLOR_LOOKUP.getClosestColorIndex (color) + 1].name ();
+    }
+
+
+    /**
+     * Create the lookup of the closest color from all colors except COLOR_OFF.
+     *
+     * @return The lookup
+     */
+    private static ColorLookupTable createColorLookup ()
+    {
+        final ColorEx [] palette = new ColorEx [VALUES.length - 1];
+        for (int i = 1; i < VALUES.length; i++)
+            palette[i - 1] = VALUES[i].getColor ();
+        return new ColorLookupTable (palette);
     }
 
 
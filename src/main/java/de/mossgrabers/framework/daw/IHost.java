@@ -116,9 +116,11 @@ public interface IHost
      *
      * @param serverAddress The address of the server
      * @param serverPort The port of the server
+     * @param maxPacketSize The maximum size of a sent packet in bytes
+     * @param bytesPerSecond The maximum number of bytes to send per second
      * @return Interface for interacting with the server
      */
-    IOpenSoundControlClient connectToOSCServer (String serverAddress, int serverPort);
+    IOpenSoundControlClient connectToOSCServer (String serverAddress, int serverPort, int maxPacketSize, int bytesPerSecond);
 
 
     /**
@@ -489,7 +489,9 @@ public interface INoteClip extends IClip, IPinnable
 
     /**
      * Start editing one or more notes. Signals to prevent round-trip error by quickly changing
-     * values to the DAW, which are not set at the same time.
+     * values to the DAW, which are not set at the same time. Until the edit is stopped, the changed
+     * attributes of all steps are collected and sent together in larger intervals, only the changed
+     * attributes are sent.
      *
      * @param editSteps The steps to edit
      */
@@ -497,7 +499,8 @@ public interface INoteClip extends IClip, IPinnable
 
 
     /**
-     * Stop editing the note step, which was started with startEdit.
+     * Stop editing the note step, which was started with startEdit. All changes which were not
+     * sent yet are sent immediately.
      */
     void stopEdit ();
 
@@ -571,6 +574,44 @@ public interface INoteClip extends IClip, IPinnable
     int getHighestRow (int channel, int step);
 
 
+    /**
+     * Get the summary of all notes of a step. The state is START if at least one note starts at
+     * the step, CONTINUE if there are only notes which continue and OFF if there is no note. The
+     * step is muted if all of its notes are muted.
+     *
+     * @param channel The MIDI channel
+     * @param step The step
+     * @return The summary of the step
+     */
+    IStepInfo getStepSummary (int channel, int step);
+
+
+    /**
+     * Get the next step of a row which contains data. The search starts at the given step and wraps
+     * around at the given length.
+     *
+     * @param channel The MIDI channel
+     * @param row The row (note)
+     * @param step The step to start with
+     * @param length The number of steps to search
+     * @return The step or -1 if the row is empty
+     */
+    int getNextStepWithData (int channel, int row, int step, int length);
+
+
+    /**
+     * Get the previous step of a row which contains data. The search starts at the given step and
+     * goes backwards, it wraps around at the given length.
+     *
+     * @param channel The MIDI channel
+     * @param row The row (note)
+     * @param step The step to start with
+     * @param length The number of steps to search
+     * @return The step or -1 if the row is empty
+     */
+    int getPreviousStepWithData (int channel, int row, int step, int length);
+
+
     /**
      * Scroll the clip view to the given page. Depends on the number of the steps of a page.
      *
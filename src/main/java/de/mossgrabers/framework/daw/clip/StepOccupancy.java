@@ -0,0 +1,332 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2023
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.daw.clip;
+
+/**
+ * Keeps track of the steps of a clip which contain notes. For each step a bit set of the rows
+ * which contain notes is stored and for each row the number of steps with notes. From this a bit
+ * set of the rows with notes is kept per channel. Therefore, testing if a row contains data and
+ * finding the lowest or highest row only needs to scan some bits instead of all steps. Must be
+ * updated for each changed step.
+ * <p>
+ * Furthermore, for each step bit sets of the rows with starting and with not muted notes are kept,
+ * which give the summary of all notes of a step, as well as a bit set of the steps with notes for
+ * each row to quickly find the next or previous note of a row.
+ *
+ * @author Jürgen Moßgraber
+ */
+public class StepOccupancy
+{
+    private static final int NUM_CHANNELS = 16;
+
+    private final int        numSteps;
+    private final int        numRows;
+    private final int        numWords;
+    private final int        numStepWords;
+    private final long [][]  stepRows;
+    private final long [][]  startRows;
+    private final long [][]  unmutedRows;
+    private final int [][]   rowCounts;
+    private final long [][]  channelRows;
+    private final long [][]  rowSteps;
+
+
+    /**
+     * Constructor.
+     *
+     * @param numSteps The number of steps of the clip
+     * @param numRows The number of rows of the clip
+     */
+    public StepOccupancy (final int numSteps, final int numRows)
+    {
+        this.numSteps = numSteps;
+        this.numRows = numRows;
+        this.numWords = (numRows + 63) / 64;
+        this.numStepWords = (numSteps + 63) / 64;
+
+        this.stepRows = new long [NUM_CHANNELS][numSteps * this.numWords];
+        this.startRows = new long [NUM_CHANNELS][numSteps * this.numWords];
+        this.unmutedRows = new long [NUM_CHANNELS][numSteps * this.numWords];
+        this.rowCounts = new int [NUM_CHANNELS][numRows];
+        this.channelRows = new long [NUM_CHANNELS][this.numWords];
+        this.rowSteps = new long [NUM_CHANNELS][numRows * this.numStepWords];
+    }
+
+
+    /**
+     * Set the state of the note at a step.
+     *
+     * @param channel The MIDI channel 0-15
+     * @param step The step
+     * @param row The row
+     * @param state The state of the note
+     * @param isMuted True if the note is muted
+     */
+    public synchronized void set (final int channel, final int step, final int row, final StepState state, final boolean isMuted)
+    {
+        if (channel < 0 || channel >= NUM_CHANNELS || step < 0 || step >= this.numSteps || row < 0 || row >= this.numRows)
+            return;
+
+        final int word = step * this.numWords + row / 64;
+        final long bit = 1L << row % 64;
+        final boolean isOccupied = state != StepState.OFF;
+        setBit (this.startRows[channel], word, bit, state == StepState.START);
+        setBit (this.unmutedRows[channel], word, bit, isOccupied && !isMuted);
+
+        final long [] rows = this.stepRows[channel];
+        if ((rows[word] & bit) != 0 == isOccupied)
+            return;
+
+        setBit (this.rowSteps[channel], row * this.numStepWords + step / 64, 1L << step % 64, isOccupied);
+
+        final int [] counts = this.rowCounts[channel];
+        if (isOccupied)
+        {
+            rows[word] |= bit;
+            if (counts[row]++ == 0)
+                this.channelRows[channel][row / 64] |= bit;
+        }
+        else
+        {
+            rows[word] &= ~bit;
+            if (--counts[row] == 0)
+                this.channelRows[channel][row / 64] &= ~bit;
+        }
+    }
+
+
+    /**
+     * Test if a row contains at least one note.
+     *
+     * @param channel The MIDI channel 0-15
+     * @param row The row
+     * @return True if the row contains a note
+     */
+    public synchronized boolean hasRowData (final int channel, final int row)
+    {
+        return (this.channelRows[channel][row / 64] & 1L << row % 64) != 0;
+    }
+
+
+    /**
+     * Get the lowest row which contains a note.
+     *
+     * @param channel The MIDI channel 0-15 or -1 for all channels
+     * @return The row or -1 if there are no notes
+     */
+    public synchronized int getLowestRow (final int channel)
+    {
+        for (int word = 0; word < this.numWords; word++)
+        {
+            final long bits = this.getChannelRows (channel, word);
+            if (bits != 0)
+                return word * 64 + Long.numberOfTrailingZeros (bits);
+        }
+        return -1;
+    }
+
+
+    /**
+     * Get the highest row which contains a note.
+     *
+     * @param channel The MIDI channel 0-15 or -1 for all channels
+     * @return The row or -1 if there are no notes
+     */
+    public synchronized int getHighestRow (final int channel)
+    {
+        for (int word = this.numWords - 1; word >= 0; word--)
+        {
+            final long bits = this.getChannelRows (channel, word);
+            if (bits != 0)
+                return word * 64 + 63 - Long.numberOfLeadingZeros (bits);
+        }
+        return -1;
+    }
+
+
+    /**
+     * Get the highest row of a step which contains a note.
+     *
+     * @param channel The MIDI channel 0-15
+     * @param step The step
+     * @return The row or -1 if there are no notes
+     */
+    public synchronized int getHighestRow (final int channel, final int step)
+    {
+        final long [] rows = this.stepRows[channel];
+        final int offset = step * this.numWords;
+        for (int word = this.numWords - 1; word >= 0; word--)
+        {
+            final long bits = rows[offset + word];
+            if (bits != 0)
+                return word * 64 + 63 - Long.numberOfLeadingZeros (bits);
+        }
+        return -1;
+    }
+
+
+    /**
+     * Get the summary of the states of all notes of a step.
+     *
+     * @param channel The MIDI channel 0-15
+     * @param step The step
+     * @return START if at least one note starts at the step, CONTINUE if there are only notes
+     *         which continue and OFF if there are no notes
+     */
+    public synchronized StepState getStepState (final int channel, final int step)
+    {
+        if (step < 0 || step >= this.numSteps)
+            return StepState.OFF;
+        final int offset = step * this.numWords;
+        if (!isEmpty (this.startRows[channel], offset, this.numWords))
+            return StepState.START;
+        return isEmpty (this.stepRows[channel], offset, this.numWords) ? StepState.OFF : StepState.CONTINUE;
+    }
+
+
+    /**
+     * Test if all notes of a step are muted.
+     *
+     * @param channel The MIDI channel 0-15
+     * @param step The step
+     * @return True if all notes are muted or there are no notes
+     */
+    public synchronized boolean isStepMuted (final int channel, final int step)
+    {
+        if (step < 0 || step >= this.numSteps)
+            return true;
+        return isEmpty (this.unmutedRows[channel], step * this.numWords, this.numWords);
+    }
+
+
+    /**
+     * Get the next step of a row which contains a note. The search starts at the given step and
+     * wraps around at the given length. Steps at or after the number of steps of the clip are empty.
+     *
+     * @param channel The MIDI channel 0-15
+     * @param row The row
+     * @param step The step to start with
+     * @param length The number of steps to search
+     * @return The step or -1 if there is no note in the row
+     */
+    public synchronized int getNextStep (final int channel, final int row, final int step, final int length)
+    {
+        if (row < 0 || row >= this.numRows || step < 0 || step >= length)
+            return -1;
+        final int end = Math.min (length, this.numSteps);
+        final long [] steps = this.rowSteps[channel];
+        final int offset = row * this.numStepWords;
+        final int next = step < end ? findNextBit (steps, offset, step, end) : -1;
+        return next >= 0 ? next : findNextBit (steps, offset, 0, Math.min (step, end));
+    }
+
+
+    /**
+     * Get the previous step of a row which contains a note. The search starts at the given step and
+     * wraps around at the given length. Steps at or after the number of steps of the clip are empty.
+     *
+     * @param channel The MIDI channel 0-15
+     * @param row The row
+     * @param step The step to start with
+     * @param length The number of steps to search
+     * @return The step or -1 if there is no note in the row
+     */
+    public synchronized int getPreviousStep (final int channel, final int row, final int step, final int length)
+    {
+        if (row < 0 || row >= this.numRows || step < 0 || step >= length)
+            return -1;
+        final int end = Math.min (length, this.numSteps);
+        final long [] steps = this.rowSteps[channel];
+        final int offset = row * this.numStepWords;
+        final int previous = findPreviousBit (steps, offset, 0, Math.min (step + 1, end));
+        return previous >= 0 ? previous : findPreviousBit (steps, offset, step + 1, end);
+    }
+
+
+    /**
+     * Find the lowest set bit in the range [from, to) of a bit set.
+     *
+     * @param bits The words of the bit sets
+     * @param offset The first word of the bit set
+     * @param from The first bit to test
+     * @param to The bit after the last bit to test
+     * @return The index of the bit or -1 if none is set
+     */
+    private static int findNextBit (final long [] bits, final int offset, final int from, final int to)
+    {
+        for (int word = from / 64; word * 64 < to; word++)
+        {
+            long value = bits[offset + word];
+            if (word == from / 64)
+                value &= -1L << from % 64;
+            if (value != 0)
+            {
+                final int index = word * 64 + Long.numberOfTrailingZeros (value);
+                return index < to ? index : -1;
+            }
+        }
+        return -1;
+    }
+
+
+    /**
+     * Find the highest set bit in the range [from, to) of a bit set.
+     *
+     * @param bits The words of the bit sets
+     * @param offset The first word of the bit set
+     * @param from The first bit to test
+     * @param to The bit after the last bit to test
+     * @return The index of the bit or -1 if none is set
+     */
+    private static int findPreviousBit (final long [] bits, final int offset, final int from, final int to)
+    {
+        if (from >= to)
+            return -1;
+        final int last = to - 1;
+        for (int word = last / 64; word >= from / 64; word--)
+        {
+            long value = bits[offset + word];
+            if (word == last / 64 && last % 64 != 63)
+                value &= (1L << last % 64 + 1) - 1;
+            if (value != 0)
+            {
+                final int index = word * 64 + 63 - Long.numberOfLeadingZeros (value);
+                return index >= from ? index : -1;
+            }
+        }
+        return -1;
+    }
+
+
+    private static boolean isEmpty (final long [] bits, final int offset, final int length)
+    {
+        for (int i = 0; i < length; i++)
+        {
+            if (bits[offset + i] != 0)
+                return false;
+        }
+        return true;
+    }
+
+
+    private static void setBit (final long [] bits, final int word, final long bit, final boolean isSet)
+    {
+        if (isSet)
+            bits[word] |= bit;
+        else
+            bits[word] &= ~bit;
+    }
+
+
+    private long getChannelRows (final int channel, final int word)
+    {
+        if (channel >= 0)
+            return this.channelRows[channel][word];
+        long bits = 0;
+        for (int i = 0; i < NUM_CHANNELS; i++)
+            bits |= this.channelRows[i][word];
+        return bits;
+    }
+}
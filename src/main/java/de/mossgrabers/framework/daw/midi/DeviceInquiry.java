@@ -93,6 +93,17 @@ public class DeviceInquiry
     }
 
 
+    /**
+     * Constructor. The data of the message is only copied if it is a device inquiry response.
+     *
+     * @param message A received system exclusive message
+     */
+    public DeviceInquiry (final SysexMessage message)
+    {
+        this (isResponse (message) ? message.toArray () : new int [0]);
+    }
+
+
     /**
      * Test if the given data is a valid device inquiry response.
      *
@@ -220,6 +231,18 @@ public class DeviceInquiry
     }
 
 
+    /**
+     * Test if the given message has the header and length of a device inquiry response.
+     *
+     * @param message A received system exclusive message
+     * @return True if it is a device inquiry response
+     */
+    public static boolean isResponse (final SysexMessage message)
+    {
+        return message.length () >= LENGTH_RESULT_SHORT && message.get (0) == 0xF0 && message.get (1) == 0x7E && message.get (3) == 0x06 && message.get (4) == 0x02 && message.isComplete ();
+    }
+
+
     /**
      * Create inquiry system exclusive message. Ignores the device ID.
      *
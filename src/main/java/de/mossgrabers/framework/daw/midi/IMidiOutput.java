@@ -143,6 +143,17 @@ public interface IMidiOutput
     void sendSysex (String data);
 
 
+    /**
+     * Send a system exclusive message to the output.
+     *
+     * @param message The builder which contains the message to send
+     */
+    default void sendSysex (final SysexBuilder message)
+    {
+        this.sendSysex (message.toByteArray ());
+    }
+
+
     /**
      * Configure one MPE zone with all 15 channels.
      *
@@ -159,4 +170,4 @@ public interface IMidiOutput
      * @param range The pitch bend range (1-96)
      */
     void sendMPEPitchbendRange (int zone, int range);
-}
\ No newline at end of file
+}
\ No newline at end of file
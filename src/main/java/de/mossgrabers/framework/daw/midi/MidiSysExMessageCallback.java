@@ -0,0 +1,20 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2023
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.daw.midi;
+
+/**
+ * Callback for receiving decoded MIDI System exclusive messages.
+ *
+ * @author Jürgen Moßgraber
+ */
+public interface MidiSysExMessageCallback
+{
+    /**
+     * Handle a received and complete MIDI system exclusive message.
+     *
+     * @param message The message, only valid until the method returns
+     */
+    void handleMidi (final SysexMessage message);
+}
@@ -0,0 +1,188 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2023
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.daw.midi;
+
+import de.mossgrabers.framework.utils.StringUtils;
+
+import java.util.Arrays;
+
+
+/**
+ * Assembles a system exclusive message from a fixed header and the message data without creating
+ * intermediate strings. The builder and the created byte arrays are re-used for all messages,
+ * therefore an instance must not be shared between threads.
+ *
+ * @author Jürgen Moßgraber
+ */
+public class SysexBuilder
+{
+    private static final byte SYSEX_END = (byte) 0xF7;
+
+    private final int         headerLength;
+    private byte []           buffer;
+    private int               size;
+    private byte [] []        messages = new byte [0] [];
+
+
+    /**
+     * Constructor.
+     *
+     * @param header The header of all messages, formatted as a hex string, e.g. F0 00 20 29 02 0C
+     */
+    public SysexBuilder (final String header)
+    {
+        this (toBytes (StringUtils.fromHexStr (header.replace (" ", ""))));
+    }
+
+
+    /**
+     * Constructor.
+     *
+     * @param header The header of all messages including the leading F0
+     */
+    public SysexBuilder (final byte [] header)
+    {
+        this.headerLength = header.length;
+        this.buffer = Arrays.copyOf (header, Math.max (64, 2 * header.length));
+        this.size = this.headerLength;
+    }
+
+
+    /**
+     * Removes all data but keeps the header.
+     *
+     * @return The builder for chaining
+     */
+    public SysexBuilder reset ()
+    {
+        this.size = this.headerLength;
+        return this;
+    }
+
+
+    /**
+     * Add a byte. The value is not checked for the 7 bit range.
+     *
+     * @param value The byte to add
+     * @return The builder for chaining
+     */
+    public SysexBuilder addByte (final int value)
+    {
+        this.ensureCapacity (1);
+        this.buffer[this.size++] = (byte) value;
+        return this;
+    }
+
+
+    /**
+     * Add a value limited to 7 bits.
+     *
+     * @param value The value to add, the upper bits are removed
+     * @return The builder for chaining
+     */
+    public SysexBuilder add7Bit (final int value)
+    {
+        return this.addByte (value & 0x7F);
+    }
+
+
+    /**
+     * Add several bytes. The values are not checked for the 7 bit range.
+     *
+     * @param data The bytes to add
+     * @return The builder for chaining
+     */
+    public SysexBuilder addBytes (final int [] data)
+    {
+        this.ensureCapacity (data.length);
+        for (final int value: data)
+            this.buffer[this.size++] = (byte) value;
+        return this;
+    }
+
+
+    /**
+     * Add the characters of a text. Each character is limited to 7 bits.
+     *
+     * @param text The text to add
+     * @return The builder for chaining
+     */
+    public SysexBuilder addAscii (final String text)
+    {
+        final int length = text.length ();
+        this.ensureCapacity (length);
+        for (int i = 0; i < length; i++)
+            this.buffer[this.size++] = (byte) (text.charAt (i) & 0x7F);
+        return this;
+    }
+
+
+    /**
+     * Overwrite a byte of the header or data.
+     *
+     * @param index The index of the byte in the message, 0 is the leading F0
+     * @param value The value to set
+     * @return The builder for chaining
+     */
+    public SysexBuilder setByte (final int index, final int value)
+    {
+        if (index < 0 || index >= this.size)
+            throw new IndexOutOfBoundsException (index);
+        this.buffer[index] = (byte) value;
+        return this;
+    }
+
+
+    /**
+     * Get the number of bytes which were added after the header.
+     *
+     * @return The number of bytes
+     */
+    public int getDataSize ()
+    {
+        return this.size - this.headerLength;
+    }
+
+
+    /**
+     * Get the complete message including the closing F7. The returned array is re-used by the next
+     * call with the same message length, therefore it must be sent before the builder is used
+     * again.
+     *
+     * @return The message
+     */
+    public byte [] toByteArray ()
+    {
+        final int length = this.size + 1;
+        if (length >= this.messages.length)
+            this.messages = Arrays.copyOf (this.messages, length + 1);
+        byte [] message = this.messages[length];
+        if (message == null)
+        {
+            message = new byte [length];
+            this.messages[length] = message;
+        }
+        System.arraycopy (this.buffer, 0, message, 0, this.size);
+        message[this.size] = SYSEX_END;
+        return message;
+    }
+
+
+    private void ensureCapacity (final int additional)
+    {
+        final int required = this.size + additional;
+        if (required > this.buffer.length)
+            this.buffer = Arrays.copyOf (this.buffer, Math.max (required, 2 * this.buffer.length));
+    }
+
+
+    private static byte [] toBytes (final int [] data)
+    {
+        final byte [] result = new byte [data.length];
+        for (int i = 0; i < data.length; i++)
+            result[i] = (byte) data[i];
+        return result;
+    }
+}
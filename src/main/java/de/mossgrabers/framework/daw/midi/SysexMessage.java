@@ -0,0 +1,236 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2023
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.daw.midi;
+
+import de.mossgrabers.framework.utils.StringUtils;
+
+import java.util.Arrays;
+
+
+/**
+ * A received system exclusive message, decoded once from its hex string representation into a
+ * re-usable byte buffer. Messages which are split into several chunks can be appended until the
+ * closing F7 arrived. Since the buffer is re-used for the next message, a handler must not keep a
+ * reference to it but copy the data it needs.
+ *
+ * @author Jürgen Moßgraber
+ */
+public class SysexMessage
+{
+    private static final int SYSEX_START = 0xF0;
+    private static final int SYSEX_END   = 0xF7;
+
+    private byte []          buffer      = new byte [256];
+    private int              length;
+
+
+    /**
+     * Removes all data.
+     */
+    public void clear ()
+    {
+        this.length = 0;
+    }
+
+
+    /**
+     * Decode the given hex data and replace the current content with it.
+     *
+     * @param hexData The data formatted in hex, 2 characters per byte, spaces are ignored
+     */
+    public void decode (final String hexData)
+    {
+        this.length = 0;
+        this.append (hexData);
+    }
+
+
+    /**
+     * Decode the given hex data and append it to the current content.
+     *
+     * @param hexData The data formatted in hex, 2 characters per byte, spaces are ignored
+     */
+    public void append (final String hexData)
+    {
+        final int size = hexData.length ();
+        this.ensureCapacity (size / 2);
+
+        int high = -1;
+        for (int i = 0; i < size; i++)
+        {
+            final char c = hexData.charAt (i);
+            if (c == ' ')
+                continue;
+            final int nibble = Character.digit (c, 16);
+            if (nibble < 0)
+                throw new IllegalArgumentException ("Not a hex character: " + c);
+            if (high < 0)
+                high = nibble;
+            else
+            {
+                this.buffer[this.length++] = (byte) (high << 4 | nibble);
+                high = -1;
+            }
+        }
+
+        if (high >= 0)
+            throw new IllegalArgumentException ("Length of hex data must be a multiple of 2!");
+    }
+
+
+    /**
+     * Get the number of bytes of the message including the leading F0 and closing F7.
+     *
+     * @return The number of bytes
+     */
+    public int length ()
+    {
+        return this.length;
+    }
+
+
+    /**
+     * Check if there is no data.
+     *
+     * @return True if empty
+     */
+    public boolean isEmpty ()
+    {
+        return this.length == 0;
+    }
+
+
+    /**
+     * Get a byte of the message.
+     *
+     * @param index The index of the byte, 0 is the leading F0
+     * @return The unsigned value of the byte
+     */
+    public int get (final int index)
+    {
+        if (index < 0 || index >= this.length)
+            throw new IndexOutOfBoundsException (index);
+        return this.buffer[index] & 0xFF;
+    }
+
+
+    /**
+     * Check if the message starts with F0.
+     *
+     * @return True if it is the start of a system exclusive message
+     */
+    public boolean isStart ()
+    {
+        return this.length > 0 && (this.buffer[0] & 0xFF) == SYSEX_START;
+    }
+
+
+    /**
+     * Check if the message ends with F7.
+     *
+     * @return True if the message is complete
+     */
+    public boolean isComplete ()
+    {
+        return this.length > 0 && (this.buffer[this.length - 1] & 0xFF) == SYSEX_END;
+    }
+
+
+    /**
+     * Check if the message starts with the given bytes.
+     *
+     * @param prefix The bytes to compare, e.g. F0 and the manufacturer ID
+     * @return True if all bytes are matching
+     */
+    public boolean startsWith (final int [] prefix)
+    {
+        return this.matches (0, prefix);
+    }
+
+
+    /**
+     * Check if the message contains the given bytes at a position.
+     *
+     * @param offset The position in the message where to start the comparison
+     * @param bytes The bytes to compare
+     * @return True if all bytes are matching
+     */
+    public boolean matches (final int offset, final int [] bytes)
+    {
+        if (offset < 0 || offset + bytes.length > this.length)
+            return false;
+        for (int i = 0; i < bytes.length; i++)
+        {
+            if ((this.buffer[offset + i] & 0xFF) != bytes[i])
+                return false;
+        }
+        return true;
+    }
+
+
+    /**
+     * Interprets a range of the message as ASCII characters.
+     *
+     * @param offset The position of the first character
+     * @param length The number of characters
+     * @return The text
+     */
+    public String getText (final int offset, final int length)
+    {
+        if (offset < 0 || length < 0 || offset + length > this.length)
+            throw new IndexOutOfBoundsException (offset + length);
+
+        final char [] chars = new char [length];
+        for (int i = 0; i < length; i++)
+            chars[i] = (char) (this.buffer[offset + i] & 0xFF);
+        return new String (chars);
+    }
+
+
+    /**
+     * Copies the complete message into a new array, e.g. to keep it after the handler returned.
+     *
+     * @return The copied message bytes
+     */
+    public int [] toArray ()
+    {
+        return this.toArray (0, this.length);
+    }
+
+
+    /**
+     * Copies a range of the message into a new array.
+     *
+     * @param offset The position of the first byte
+     * @param length The number of bytes
+     * @return The copied bytes
+     */
+    public int [] toArray (final int offset, final int length)
+    {
+        if (offset < 0 || length < 0 || offset + length > this.length)
+            throw new IndexOutOfBoundsException (offset + length);
+
+        final int [] result = new int [length];
+        for (int i = 0; i < length; i++)
+            result[i] = this.buffer[offset + i] & 0xFF;
+        return result;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public String toString ()
+    {
+        return StringUtils.toHexStr (this.toArray ());
+    }
+
+
+    private void ensureCapacity (final int additional)
+    {
+        final int required = this.length + additional;
+        if (required > this.buffer.length)
+            this.buffer = Arrays.copyOf (this.buffer, Math.max (required, 2 * this.buffer.length));
+    }
+}
@@ -0,0 +1,128 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2023
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.daw.midi;
+
+import de.mossgrabers.framework.daw.IHost;
+
+import java.util.ArrayList;
+import java.util.List;
+
+
+/**
+ * Receives system exclusive data in hex format, decodes it once into a re-used message buffer and
+ * hands complete messages to the first handler whose prefix (e.g. F0 and the manufacturer ID)
+ * matches. Messages which are split into several chunks are collected until the closing F7 is
+ * received.
+ *
+ * @author Jürgen Moßgraber
+ */
+public class SysexRouter implements MidiSysExCallback
+{
+    private final IHost                    host;
+    private final SysexMessage             message = new SysexMessage ();
+    private final List<Route>              routes  = new ArrayList<> ();
+    private final MidiSysExMessageCallback defaultHandler;
+
+
+    /**
+     * Constructor.
+     *
+     * @param host The host for error reporting
+     */
+    public SysexRouter (final IHost host)
+    {
+        this (host, null);
+    }
+
+
+    /**
+     * Constructor.
+     *
+     * @param host The host for error reporting
+     * @param defaultHandler Handles all messages which do not match any route, might be null
+     */
+    public SysexRouter (final IHost host, final MidiSysExMessageCallback defaultHandler)
+    {
+        this.host = host;
+        this.defaultHandler = defaultHandler;
+    }
+
+
+    /**
+     * Add a handler for all messages starting with the given bytes. Routes are checked in the order
+     * in which they were added.
+     *
+     * @param prefix The bytes which must match the start of the message, e.g. F0 00 21 45
+     * @param handler The handler to call
+     * @return The router for chaining
+     */
+    public SysexRouter addRoute (final int [] prefix, final MidiSysExMessageCallback handler)
+    {
+        synchronized (this.message)
+        {
+            this.routes.add (new Route (prefix.clone (), handler));
+        }
+        return this;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void handleMidi (final String data)
+    {
+        synchronized (this.message)
+        {
+            if (!this.message.isEmpty () && data.regionMatches (true, 0, "F0", 0, 2))
+            {
+                this.host.error ("Unsound sysex message without ending F7 received.");
+                this.message.clear ();
+            }
+
+            try
+            {
+                this.message.append (data);
+            }
+            catch (final IllegalArgumentException ex)
+            {
+                this.host.error ("Could not decode sysex message.", ex);
+                this.message.clear ();
+                return;
+            }
+
+            if (!this.message.isComplete ())
+                return;
+
+            try
+            {
+                this.route ();
+            }
+            finally
+            {
+                this.message.clear ();
+            }
+        }
+    }
+
+
+    private void route ()
+    {
+        for (final Route route: this.routes)
+        {
+            if (this.message.startsWith (route.prefix))
+            {
+                route.handler.handleMidi (this.message);
+                return;
+            }
+        }
+
+        if (this.defaultHandler != null)
+            this.defaultHandler.handleMidi (this.message);
+    }
+
+
+    private record Route (int [] prefix, MidiSysExMessageCallback handler)
+    {
+    }
+}
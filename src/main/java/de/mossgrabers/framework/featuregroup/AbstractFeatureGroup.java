@@ -9,10 +9,16 @@ import de.mossgrabers.framework.configuration.Configuration;
 import de.mossgrabers.framework.controller.ButtonID;
 import de.mossgrabers.framework.controller.IControlSurface;
 import de.mossgrabers.framework.controller.color.ColorManager;
+import de.mossgrabers.framework.daw.IBrowser;
 import de.mossgrabers.framework.daw.IModel;
 import de.mossgrabers.framework.daw.data.ITrack;
+import de.mossgrabers.framework.observer.IObserverManagement;
 import de.mossgrabers.framework.view.Views;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
 
 /**
  * Abstract implementation of a feature group.
@@ -25,16 +31,18 @@ import de.mossgrabers.framework.view.Views;
 public abstract class AbstractFeatureGroup<S extends IControlSurface<C>, C extends Configuration> implements IFeatureGroup
 {
     /** Color identifier for a button which is off. */
-    public static final String     BUTTON_COLOR_OFF = "BUTTON_COLOR_OFF";
+    public static final String              BUTTON_COLOR_OFF = "BUTTON_COLOR_OFF";
     /** Color identifier for a button which is on. */
-    public static final String     BUTTON_COLOR_ON  = "BUTTON_COLOR_ON";
+    public static final String              BUTTON_COLOR_ON  = "BUTTON_COLOR_ON";
+
+    protected final String                  name;
+    protected final S                       surface;
+    protected final IModel                  model;
 
-    protected final String         name;
-    protected final S              surface;
-    protected final IModel         model;
+    protected final ColorManager            colorManager;
+    protected final MVHelper<S, C>          mvHelper;
 
-    protected final ColorManager   colorManager;
-    protected final MVHelper<S, C> mvHelper;
+    private final List<IObserverManagement> observedData     = new ArrayList<> ();
 
 
     /**
@@ -63,6 +71,40 @@ public abstract class AbstractFeatureGroup<S extends IControlSurface<C>, C exten
     }
 
 
+    /** {@inheritDoc} */
+    @Override
+    public List<IObserverManagement> getObservedData ()
+    {
+        return Collections.unmodifiableList (this.observedData);
+    }
+
+
+    /**
+     * Add data of the DAW which only needs to be observed while the feature group is active.
+     *
+     * @param data The data
+     */
+    protected void addObservedData (final IObserverManagement... data)
+    {
+        Collections.addAll (this.observedData, data);
+    }
+
+
+    /**
+     * Add the filter columns and the results of the browser as data which only needs to be
+     * observed while the feature group is active.
+     */
+    protected void addObservedBrowserData ()
+    {
+        final IBrowser browser = this.model.getBrowser ();
+        if (browser == null)
+            return;
+        for (int i = 0; i < browser.getFilterColumnCount (); i++)
+            this.addObservedData (browser.getFilterColumn (i));
+        this.addObservedData (browser.getResultColumnItems ());
+    }
+
+
     /** {@inheritDoc} */
     @Override
     public int getButtonColor (final ButtonID buttonID)
@@ -138,6 +138,29 @@ public abstract class AbstractView<S extends IControlSurface<C>, C extends Confi
     }
 
 
+    /**
+     * Get the index of the color to use for a pad with respect to the current scale settings. Same
+     * as {@link #getPadColor(int, ITrack)} but uses the color handles to not look up the color IDs
+     * for each pad.
+     *
+     * @param pad The MIDI note of the pad
+     * @param track A track to use the track color for coloring the octave notes, set to null to use
+     *            the default color
+     * @return The color index
+     */
+    protected int getPadColorIndex (final int pad, final ITrack track)
+    {
+        final int colorHandle = this.keyManager.getColorHandle (pad);
+        if (track != null && this.scales.isOctaveColorHandle (colorHandle))
+        {
+            final String colorID = DAWColor.getColorID (track.getColor ());
+            if (colorID != null)
+                return this.colorManager.getColorIndex (colorID);
+        }
+        return this.colorManager.getColorIndexByHandle (colorHandle);
+    }
+
+
     /**
      * If the given color ID is the octave color ID it will be replaced with the track color ID.
      *
@@ -4,6 +4,7 @@
 
 package de.mossgrabers.framework.featuregroup;
 
+import de.mossgrabers.framework.observer.ObserverSubscriptions;
 import de.mossgrabers.framework.utils.FrameworkException;
 
 import java.util.ArrayList;
@@ -32,6 +33,7 @@ public class FeatureGroupManager<E extends Enum<E>, F extends IFeatureGroup>
 
     private final List<FeatureGroupChangeListener<E>> changeListeners   = new ArrayList<> ();
     private final List<FeatureGroupManager<E, F>>     connectedManagers = new ArrayList<> ();
+    private ObserverSubscriptions                     observerSubscriptions;
 
 
     /**
@@ -54,6 +56,27 @@ public class FeatureGroupManager<E extends Enum<E>, F extends IFeatureGroup>
     public void register (final E featureGroupId, final F featureGroup)
     {
         this.featureGroups.put (featureGroupId, featureGroup);
+
+        if (this.observerSubscriptions != null)
+            featureGroup.getObservedData ().forEach (this.observerSubscriptions::register);
+    }
+
+
+    /**
+     * Set the subscriptions which enable the observers of the data of the feature groups only
+     * while at least one feature group which needs the data is active.
+     *
+     * @param observerSubscriptions The subscriptions
+     */
+    public void setObserverSubscriptions (final ObserverSubscriptions observerSubscriptions)
+    {
+        this.observerSubscriptions = observerSubscriptions;
+
+        for (final F featureGroup: this.featureGroups.values ())
+            featureGroup.getObservedData ().forEach (observerSubscriptions::register);
+        final F active = this.getActive ();
+        if (active != null)
+            active.getObservedData ().forEach (observerSubscriptions::subscribe);
     }
 
 
@@ -125,13 +148,13 @@ public class FeatureGroupManager<E extends Enum<E>, F extends IFeatureGroup>
         // Deactivate the current temporary or active feature group
         final F deactivate = this.getActive ();
         if (deactivate != null)
-            deactivate.onDeactivate ();
+            this.deactivate (deactivate);
         this.temporaryID = null;
 
         // Activate the feature group
         this.previousID = this.activeID;
         this.activeID = id;
-        this.get (this.activeID).onActivate ();
+        this.activate (this.get (this.activeID));
 
         if (syncSiblings)
             this.connectedManagers.forEach (sibling -> sibling.setActive (featureGroupID, false));
@@ -171,14 +194,14 @@ public class FeatureGroupManager<E extends Enum<E>, F extends IFeatureGroup>
         // Deactivate the current temporary or active feature group
         final F deactivate = this.getActive ();
         if (deactivate != null)
-            deactivate.onDeactivate ();
+            this.deactivate (deactivate);
 
         // Activate the new temporary feature group
         this.temporaryID = featureGroupID;
         final F featureGroup = this.get (this.temporaryID);
         if (featureGroup == null)
             throw new FrameworkException ("Attempt to set the temporary feature group to non-existing: " + featureGroupID);
-        featureGroup.onActivate ();
+        this.activate (featureGroup);
 
         if (syncSiblings)
             this.connectedManagers.forEach (sibling -> sibling.setActive (featureGroupID, false));
@@ -320,7 +343,7 @@ public class FeatureGroupManager<E extends Enum<E>, F extends IFeatureGroup>
         if (this.temporaryID != null)
         {
             oldID = this.temporaryID;
-            this.get (this.temporaryID).onDeactivate ();
+            this.deactivate (this.get (this.temporaryID));
             this.temporaryID = null;
             F featureGroup = this.get (this.activeID);
             if (featureGroup == null)
@@ -328,12 +351,12 @@ public class FeatureGroupManager<E extends Enum<E>, F extends IFeatureGroup>
                 this.activeID = this.defaultID;
                 featureGroup = this.get (this.activeID);
             }
-            featureGroup.onActivate ();
+            this.activate (featureGroup);
         }
         else if (this.previousID != null)
         {
             oldID = this.activeID;
-            this.get (this.activeID).onDeactivate ();
+            this.deactivate (this.get (this.activeID));
             this.activeID = this.previousID;
             F featureGroup = this.get (this.activeID);
             if (featureGroup == null)
@@ -341,7 +364,7 @@ public class FeatureGroupManager<E extends Enum<E>, F extends IFeatureGroup>
                 this.activeID = this.defaultID;
                 featureGroup = this.get (this.activeID);
             }
-            featureGroup.onActivate ();
+            this.activate (featureGroup);
         }
 
         if (syncSiblings)
@@ -352,6 +375,32 @@ public class FeatureGroupManager<E extends Enum<E>, F extends IFeatureGroup>
     }
 
 
+    /**
+     * Activate a feature group and subscribe to the data it observes.
+     *
+     * @param featureGroup The feature group
+     */
+    private void activate (final F featureGroup)
+    {
+        if (this.observerSubscriptions != null)
+            featureGroup.getObservedData ().forEach (this.observerSubscriptions::subscribe);
+        featureGroup.onActivate ();
+    }
+
+
+    /**
+     * Deactivate a feature group and remove the subscriptions to the data it observes.
+     *
+     * @param featureGroup The feature group
+     */
+    private void deactivate (final F featureGroup)
+    {
+        featureGroup.onDeactivate ();
+        if (this.observerSubscriptions != null)
+            featureGroup.getObservedData ().forEach (this.observerSubscriptions::unsubscribe);
+    }
+
+
     /**
      * Register another manager. If a feature group changes all states are synchronized to the
      * registered siblings.
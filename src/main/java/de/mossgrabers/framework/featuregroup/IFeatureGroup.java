@@ -5,6 +5,9 @@
 package de.mossgrabers.framework.featuregroup;
 
 import de.mossgrabers.framework.controller.ButtonID;
+import de.mossgrabers.framework.observer.IObserverManagement;
+
+import java.util.List;
 
 
 /**
@@ -35,6 +38,14 @@ public interface IFeatureGroup
     void onDeactivate ();
 
 
+    /**
+     * Get the data of the DAW which only needs to be observed while the feature group is active.
+     *
+     * @return The data, might be empty
+     */
+    List<IObserverManagement> getObservedData ();
+
+
     /**
      * Get the color for a button, which is controlled by the feature group.
      *
@@ -108,4 +108,12 @@ public class ChromaticGraphicsConfiguration implements IGraphicsConfiguration
     {
         return false;
     }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean isRenderStatisticsLogEnabled ()
+    {
+        return false;
+    }
 }
@@ -108,4 +108,12 @@ public interface IGraphicsConfiguration
      * @return True if enabled
      */
     boolean isAntialiasEnabled ();
+
+
+    /**
+     * Should the statistics about the rendering of the display be logged?
+     *
+     * @return True if enabled
+     */
+    boolean isRenderStatisticsLogEnabled ();
 }
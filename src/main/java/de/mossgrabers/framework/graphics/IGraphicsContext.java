@@ -6,6 +6,8 @@ package de.mossgrabers.framework.graphics;
 
 import de.mossgrabers.framework.controller.color.ColorEx;
 
+import java.util.List;
+
 
 /**
  * Interface to drawing functions.
@@ -221,4 +223,18 @@ public interface IGraphicsContext
      * @return The text height or -1 if the minimum height of 10 does not fit into the width
      */
     double calculateFontSize (String text, double maxHeight, double maxWidth, double minimumFontSize);
+
+
+    /**
+     * Restricts all following drawing operations to the given areas until the clipping is reset.
+     *
+     * @param areas The areas in which drawing is still possible
+     */
+    void setClip (List<IBounds> areas);
+
+
+    /**
+     * Removes the clipping which was set with setClip.
+     */
+    void resetClip ();
 }
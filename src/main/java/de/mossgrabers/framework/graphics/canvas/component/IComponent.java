@@ -20,4 +20,17 @@ public interface IComponent
      * @param info All necessary information to draw the component
      */
     void draw (final IGraphicsInfo info);
+
+
+    /**
+     * Test if the component draws outside of its bounds, e.g. a header text which spans several
+     * columns. If such a component changes, the columns to its right need to be drawn again as
+     * well.
+     *
+     * @return True if the component might draw into the columns to its right
+     */
+    default boolean isSpanningColumns ()
+    {
+        return false;
+    }
 }
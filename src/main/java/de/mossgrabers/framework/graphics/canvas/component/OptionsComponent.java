@@ -94,6 +94,15 @@ public class OptionsComponent implements IComponent
     }
 
 
+    /** {@inheritDoc} */
+    @Override
+    public boolean isSpanningColumns ()
+    {
+        // The headers are drawn without a width limit
+        return this.headerTop != null && !this.headerTop.isEmpty () || this.headerBottom != null && !this.headerBottom.isEmpty ();
+    }
+
+
     /** {@inheritDoc} */
     @Override
     public int hashCode ()
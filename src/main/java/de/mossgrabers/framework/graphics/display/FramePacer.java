@@ -0,0 +1,205 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2023
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.graphics.display;
+
+import de.mossgrabers.framework.daw.IHost;
+
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+
+/**
+ * Paces the transmission of frames to a graphics display. Only the latest frame is transmitted:
+ * frames which are submitted while a previous one still waits for transmission replace it. The
+ * transmission of two frames is at least the frame period apart. If the transmission is slower
+ * than the frame period, the next transmission waits until the current one has finished.
+ *
+ * @author Jürgen Moßgraber
+ */
+public class FramePacer
+{
+    private final IHost                    host;
+    private final String                   name;
+    private final Runnable                 transmitter;
+    private final ScheduledExecutorService executor        = Executors.newSingleThreadScheduledExecutor ();
+    private final AtomicBoolean            isFramePending  = new AtomicBoolean (false);
+
+    private final AtomicLong               framesSubmitted = new AtomicLong ();
+    private final AtomicLong               framesSent      = new AtomicLong ();
+    private final AtomicLong               framesDropped   = new AtomicLong ();
+    private final AtomicLong               slowTransfers   = new AtomicLong ();
+
+    private volatile long                  framePeriod;
+    private volatile long                  lastTransmission;
+
+
+    /**
+     * Constructor.
+     *
+     * @param host The host
+     * @param name The name of the display, used for error messages
+     * @param framesPerSecond The maximum number of frames to transmit per second
+     * @param transmitter Transmits the latest frame to the device, called on the pacing thread
+     */
+    public FramePacer (final IHost host, final String name, final int framesPerSecond, final Runnable transmitter)
+    {
+        this.host = host;
+        this.name = name;
+        this.transmitter = transmitter;
+
+        this.setFramesPerSecond (framesPerSecond);
+        this.lastTransmission = System.nanoTime () - this.framePeriod;
+    }
+
+
+    /**
+     * Set the maximum number of frames to transmit per second.
+     *
+     * @param framesPerSecond The frames per second, must be larger than 0
+     */
+    public void setFramesPerSecond (final int framesPerSecond)
+    {
+        this.framePeriod = TimeUnit.SECONDS.toNanos (1) / Math.max (1, framesPerSecond);
+    }
+
+
+    /**
+     * Signal that a new frame is ready for transmission. If the previous frame was not yet
+     * transmitted, it is dropped.
+     */
+    public void submit ()
+    {
+        if (this.executor.isShutdown ())
+            return;
+
+        this.framesSubmitted.incrementAndGet ();
+
+        // There is already a transmission scheduled, which will pick up the latest frame
+        if (this.isFramePending.getAndSet (true))
+        {
+            this.framesDropped.incrementAndGet ();
+            return;
+        }
+
+        final long delay = Math.max (0, this.lastTransmission + this.framePeriod - System.nanoTime ());
+        try
+        {
+            this.executor.schedule (this::transmit, delay, TimeUnit.NANOSECONDS);
+        }
+        catch (final RuntimeException ex)
+        {
+            // Executor was shutdown in the meantime
+            this.isFramePending.set (false);
+        }
+    }
+
+
+    /**
+     * Stops the transmission of frames. Waits for a running transmission to finish.
+     */
+    public void shutdown ()
+    {
+        this.executor.shutdown ();
+        try
+        {
+            if (!this.executor.awaitTermination (5, TimeUnit.SECONDS))
+                this.host.error (this.name + " send executor did not end in 5 seconds.");
+        }
+        catch (final InterruptedException ex)
+        {
+            this.host.error (this.name + " send executor interrupted.", ex);
+            Thread.currentThread ().interrupt ();
+        }
+    }
+
+
+    /**
+     * Check if the frame pacer is shutdown.
+     *
+     * @return True if shutdown
+     */
+    public boolean isShutdown ()
+    {
+        return this.executor.isShutdown ();
+    }
+
+
+    /**
+     * Get the number of frames which were submitted for transmission.
+     *
+     * @return The number of frames
+     */
+    public long getFramesSubmitted ()
+    {
+        return this.framesSubmitted.get ();
+    }
+
+
+    /**
+     * Get the number of frames which were transmitted.
+     *
+     * @return The number of frames
+     */
+    public long getFramesSent ()
+    {
+        return this.framesSent.get ();
+    }
+
+
+    /**
+     * Get the number of frames which were replaced by a newer frame before they were transmitted.
+     *
+     * @return The number of frames
+     */
+    public long getFramesDropped ()
+    {
+        return this.framesDropped.get ();
+    }
+
+
+    /**
+     * Get the number of transmissions which took longer than the frame period.
+     *
+     * @return The number of transmissions
+     */
+    public long getSlowTransfers ()
+    {
+        return this.slowTransfers.get ();
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public String toString ()
+    {
+        return this.name + " - Frames submitted: " + this.getFramesSubmitted () + ", sent: " + this.getFramesSent () + ", dropped: " + this.getFramesDropped () + ", slow transfers: " + this.getSlowTransfers ();
+    }
+
+
+    private void transmit ()
+    {
+        // Clear the flag first, frames which arrive during the transmission schedule the next one
+        this.isFramePending.set (false);
+
+        final long start = System.nanoTime ();
+        this.lastTransmission = start;
+
+        try
+        {
+            this.transmitter.run ();
+            this.framesSent.incrementAndGet ();
+        }
+        catch (final RuntimeException ex)
+        {
+            this.host.error ("Could not send frame to " + this.name + ".", ex);
+        }
+
+        if (System.nanoTime () - start > this.framePeriod)
+            this.slowTransfers.incrementAndGet ();
+    }
+}
@@ -7,7 +7,9 @@ package de.mossgrabers.framework.graphics.display;
 import de.mossgrabers.framework.graphics.canvas.component.IComponent;
 
 import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.List;
+import java.util.Objects;
 
 
 /**
@@ -56,6 +58,48 @@ public class ModelInfo
     }
 
 
+    /**
+     * Compares the components of this model with the ones of a previous model column by column. If
+     * a component which draws into the columns to its right changed (before or now), all columns to
+     * its right are marked as changed as well.
+     *
+     * @param previous The model which was rendered before
+     * @param changedColumns Gets the bits set of all columns which differ from the previous model
+     * @return False if the display needs to be rendered completely since the number of columns or
+     *         the notification message differ, otherwise true
+     */
+    public boolean collectChangedColumns (final ModelInfo previous, final BitSet changedColumns)
+    {
+        changedColumns.clear ();
+
+        final List<IComponent> previousComponents = previous.components;
+        final int size = this.components.size ();
+        if (size == 0 || size != previousComponents.size () || !Objects.equals (this.notification, previous.notification))
+            return false;
+
+        for (int i = 0; i < size; i++)
+        {
+            final IComponent component = this.components.get (i);
+            final IComponent previousComponent = previousComponents.get (i);
+            if (Objects.equals (component, previousComponent))
+                continue;
+            if (isSpanningColumns (component) || isSpanningColumns (previousComponent))
+            {
+                changedColumns.set (i, size);
+                break;
+            }
+            changedColumns.set (i);
+        }
+        return true;
+    }
+
+
+    private static boolean isSpanningColumns (final IComponent component)
+    {
+        return component != null && component.isSpanningColumns ();
+    }
+
+
     /** {@inheritDoc} */
     @Override
     public int hashCode ()
@@ -0,0 +1,120 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2023
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.graphics.display;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+
+/**
+ * Counters about the rendering of a graphics display. Can be used to verify how much drawing is
+ * saved by only rendering the changed columns.
+ *
+ * @author Jürgen Moßgraber
+ */
+public class RenderStatistics
+{
+    private final AtomicLong framesRendered = new AtomicLong ();
+    private final AtomicLong fullRenders    = new AtomicLong ();
+    private final AtomicLong columnsRedrawn = new AtomicLong ();
+    private final AtomicLong framesSkipped  = new AtomicLong ();
+
+
+    /**
+     * Count a frame in which the whole display was rendered.
+     *
+     * @param numColumns The number of columns which were drawn
+     */
+    public void countFullRender (final int numColumns)
+    {
+        this.framesRendered.incrementAndGet ();
+        this.fullRenders.incrementAndGet ();
+        this.columnsRedrawn.addAndGet (numColumns);
+    }
+
+
+    /**
+     * Count a frame in which only some columns were rendered.
+     *
+     * @param numColumns The number of columns which were redrawn
+     */
+    public void countPartialRender (final int numColumns)
+    {
+        this.framesRendered.incrementAndGet ();
+        this.columnsRedrawn.addAndGet (numColumns);
+    }
+
+
+    /**
+     * Count a frame which did not need to be rendered since nothing has changed.
+     */
+    public void countSkippedFrame ()
+    {
+        this.framesSkipped.incrementAndGet ();
+    }
+
+
+    /**
+     * Get the number of rendered frames (full and partial).
+     *
+     * @return The number of frames
+     */
+    public long getFramesRendered ()
+    {
+        return this.framesRendered.get ();
+    }
+
+
+    /**
+     * Get the number of frames in which the whole display was rendered.
+     *
+     * @return The number of frames
+     */
+    public long getFullRenders ()
+    {
+        return this.fullRenders.get ();
+    }
+
+
+    /**
+     * Get the number of columns which were drawn.
+     *
+     * @return The number of columns
+     */
+    public long getColumnsRedrawn ()
+    {
+        return this.columnsRedrawn.get ();
+    }
+
+
+    /**
+     * Get the number of frames which were not rendered since there was no change.
+     *
+     * @return The number of frames
+     */
+    public long getFramesSkipped ()
+    {
+        return this.framesSkipped.get ();
+    }
+
+
+    /**
+     * Reset all counters.
+     */
+    public void reset ()
+    {
+        this.framesRendered.set (0);
+        this.fullRenders.set (0);
+        this.columnsRedrawn.set (0);
+        this.framesSkipped.set (0);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public String toString ()
+    {
+        return "Frames rendered: " + this.getFramesRendered () + " (full: " + this.getFullRenders () + "), columns redrawn: " + this.getColumnsRedrawn () + ", frames skipped: " + this.getFramesSkipped ();
+    }
+}
@@ -58,6 +58,8 @@ public class UserMode<S extends IControlSurface<C>, C extends Configuration> ext
         super ("User Controls", surface, model, isAbsolute, model.getUserParameterBank (), knobs, isAlternativeFunction);
 
         this.setParameterProvider (new BankParameterProvider (model.getUserParameterBank ()));
+
+        this.addObservedData (model.getUserParameterBank ());
     }
 
 
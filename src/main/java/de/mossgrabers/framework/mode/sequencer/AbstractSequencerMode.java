@@ -21,6 +21,7 @@ public abstract class AbstractSequencerMode<S extends IControlSurface<C>, C exte
     protected final int     clipRows;
     protected final int     clipCols;
     protected final boolean useDawColors;
+    private final INoteClip cursorClip;
 
     protected int           selectedResolutionIndex;
 
@@ -47,7 +48,7 @@ public abstract class AbstractSequencerMode<S extends IControlSurface<C>, C exte
 
         this.selectedResolutionIndex = 4;
 
-        this.getClip ();
+        this.cursorClip = this.model.getNoteClip (this.clipCols, this.clipRows);
     }
 
 
@@ -68,7 +69,7 @@ public abstract class AbstractSequencerMode<S extends IControlSurface<C>, C exte
      */
     public final INoteClip getClip ()
     {
-        return this.model.getNoteClip (this.clipCols, this.clipRows);
+        return this.cursorClip;
     }
 
 
@@ -0,0 +1,67 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2023
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.observer;
+
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+
+/**
+ * Counts the references to data of the DAW which is only observed on demand. The observers of the
+ * data are enabled as long as there is at least one subscription, e.g. from an active mode or view
+ * which displays the data, otherwise they are disabled.
+ *
+ * @author Jürgen Moßgraber
+ */
+public class ObserverSubscriptions
+{
+    private final Map<IObserverManagement, Integer> references = new IdentityHashMap<> ();
+
+
+    /**
+     * Register data which should only be observed on demand. If there is no subscription to the
+     * data yet, its observers are disabled.
+     *
+     * @param data The data
+     */
+    public void register (final IObserverManagement data)
+    {
+        if (this.references.putIfAbsent (data, Integer.valueOf (0)) == null)
+            data.enableObservers (false);
+    }
+
+
+    /**
+     * Subscribe to the data. Enables the observers of the data for the first subscription.
+     *
+     * @param data The data
+     */
+    public void subscribe (final IObserverManagement data)
+    {
+        final Integer count = this.references.get (data);
+        final int references = count == null ? 0 : count.intValue ();
+        this.references.put (data, Integer.valueOf (references + 1));
+        if (references == 0)
+            data.enableObservers (true);
+    }
+
+
+    /**
+     * Remove a subscription from the data. Disables the observers of the data when the last
+     * subscription is removed.
+     *
+     * @param data The data
+     */
+    public void unsubscribe (final IObserverManagement data)
+    {
+        final Integer count = this.references.get (data);
+        if (count == null || count.intValue () == 0)
+            return;
+        final int references = count.intValue () - 1;
+        this.references.put (data, Integer.valueOf (references));
+        if (references == 0)
+            data.enableObservers (false);
+    }
+}
@@ -17,20 +17,24 @@ import java.util.Map;
 
 
 /**
- * Base class for sending OSC messages to an OSC server.
+ * Base class for sending OSC messages to one or several OSC servers. Only messages to addresses
+ * which are subscribed by a server are sent to it, see
+ * {@link OpenSoundControlAddress#subscribe(int, String)}. The values are
+ * calculated only once for all servers but each server has its own cache of sent values, therefore
+ * a single server can receive a dump of all values without resending them to the others.
  *
  * @author Jürgen Moßgraber
  */
 public abstract class AbstractOpenSoundControlWriter implements IOpenSoundControlWriter
 {
-    protected final IHost                          host;
-    protected final IModel                         model;
-    protected final IOpenSoundControlConfiguration configuration;
+    protected final IHost                              host;
+    protected final IModel                             model;
+    protected final IOpenSoundControlConfiguration     configuration;
 
-    protected final IOpenSoundControlClient        oscClient;
-    protected final Map<String, Object>            oldValues = new HashMap<> ();
+    protected final OpenSoundControlAddress            rootAddress;
 
-    private final List<IOpenSoundControlMessage>   messages  = new ArrayList<> ();
+    private final Map<String, OpenSoundControlAddress> addresses = new HashMap<> ();
+    private final List<ClientState>                    clients   = new ArrayList<> ();
 
 
     /**
@@ -38,15 +42,59 @@ public abstract class AbstractOpenSoundControlWriter implements IOpenSoundContro
      *
      * @param host The host
      * @param model The model
-     * @param oscClient The OSC client to write to
+     * @param oscClients The OSC clients to write to
      * @param configuration The OSC configuration
      */
-    protected AbstractOpenSoundControlWriter (final IHost host, final IModel model, final IOpenSoundControlClient oscClient, final IOpenSoundControlConfiguration configuration)
+    protected AbstractOpenSoundControlWriter (final IHost host, final IModel model, final List<IOpenSoundControlClient> oscClients, final IOpenSoundControlConfiguration configuration)
     {
         this.host = host;
         this.model = model;
-        this.oscClient = oscClient;
         this.configuration = configuration;
+
+        for (final IOpenSoundControlClient oscClient: oscClients)
+        {
+            if (oscClient == null)
+                continue;
+            if (this.clients.size () == OpenSoundControlAddress.MAX_CLIENTS)
+            {
+                host.error ("Only " + OpenSoundControlAddress.MAX_CLIENTS + " OSC clients are supported.");
+                break;
+            }
+            this.clients.add (new ClientState (this.clients.size (), oscClient));
+        }
+        this.rootAddress = OpenSoundControlAddress.createRoot (this.clients.size ());
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void requestDump (final int clientIndex)
+    {
+        if (clientIndex >= 0 && clientIndex < this.clients.size ())
+            this.clients.get (clientIndex).isDumpRequested = true;
+    }
+
+
+    /**
+     * Stop sending to all clients.
+     */
+    public void shutdown ()
+    {
+        for (final ClientState client: this.clients)
+            client.oscClient.close ();
+    }
+
+
+    /**
+     * Start a flush. Clients for which a dump was requested, receive all values with this flush.
+     */
+    protected void startFlush ()
+    {
+        for (final ClientState client: this.clients)
+        {
+            client.isDumping = client.isDumpRequested;
+            client.isDumpRequested = false;
+        }
     }
 
 
@@ -67,28 +115,40 @@ public abstract class AbstractOpenSoundControlWriter implements IOpenSoundContro
      */
     public void flush (final String updateAddress)
     {
-        if (this.messages.isEmpty ())
-            return;
+        IOpenSoundControlMessage startMessage = null;
+        IOpenSoundControlMessage endMessage = null;
 
-        synchronized (this.messages)
+        for (final ClientState client: this.clients)
         {
-            try
+            final List<IOpenSoundControlMessage> messages = client.messages;
+            if (messages.isEmpty ())
+                continue;
+
+            synchronized (messages)
             {
-                if (updateAddress != null)
+                try
+                {
+                    if (updateAddress != null)
+                    {
+                        if (startMessage == null)
+                        {
+                            startMessage = this.host.createOSCMessage (updateAddress, Collections.singletonList (Integer.valueOf (1)));
+                            endMessage = this.host.createOSCMessage (updateAddress, Collections.singletonList (Integer.valueOf (0)));
+                        }
+                        messages.add (0, startMessage);
+                        messages.add (endMessage);
+                    }
+
+                    this.logMessages (messages);
+                    client.oscClient.sendBundle (messages);
+                }
+                catch (final IOException ex)
                 {
-                    this.messages.add (0, this.host.createOSCMessage (updateAddress, Collections.singletonList (Integer.valueOf (1))));
-                    this.messages.add (this.host.createOSCMessage (updateAddress, Collections.singletonList (Integer.valueOf (0))));
+                    this.model.getHost ().error ("Could not send UDP message.", ex);
                 }
 
-                this.logMessages (this.messages);
-                this.oscClient.sendBundle (this.messages);
+                messages.clear ();
             }
-            catch (final IOException ex)
-            {
-                this.model.getHost ().error ("Could not send UDP message.", ex);
-            }
-
-            this.messages.clear ();
         }
     }
 
@@ -119,14 +179,27 @@ public abstract class AbstractOpenSoundControlWriter implements IOpenSoundContro
     }
 
 
+    /** {@inheritDoc} */
+    @Override
+    public OpenSoundControlAddress getAddress (final String address)
+    {
+        return this.addresses.computeIfAbsent (address, this.rootAddress::resolve);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public OpenSoundControlAddress getRootAddress ()
+    {
+        return this.rootAddress;
+    }
+
+
     /** {@inheritDoc} */
     @Override
     public void sendOSCColor (final String address, final double red, final double green, final double blue, final boolean dump)
     {
-        final int r = (int) Math.round (red * 255.0);
-        final int g = (int) Math.round (green * 255.0);
-        final int b = (int) Math.round (blue * 255.0);
-        this.sendOSC (address, "rgb(" + r + "," + g + "," + b + ")", dump);
+        this.sendOSCColor (this.getAddress (address), red, green, blue, dump);
     }
 
 
@@ -134,7 +207,7 @@ public abstract class AbstractOpenSoundControlWriter implements IOpenSoundContro
     @Override
     public void sendOSC (final String address, final boolean value, final boolean dump)
     {
-        this.sendOSC (address, Boolean.valueOf (value), dump);
+        this.sendOSC (this.getAddress (address), value, dump);
     }
 
 
@@ -142,8 +215,7 @@ public abstract class AbstractOpenSoundControlWriter implements IOpenSoundContro
     @Override
     public void sendOSC (final String address, final double value, final boolean dump)
     {
-        // Using float here since Double seems to be always received as 0 in Max.
-        this.sendOSC (address, Float.valueOf ((float) value), dump);
+        this.sendOSC (this.getAddress (address), value, dump);
     }
 
 
@@ -151,7 +223,7 @@ public abstract class AbstractOpenSoundControlWriter implements IOpenSoundContro
     @Override
     public void sendOSC (final String address, final int value, final boolean dump)
     {
-        this.sendOSC (address, Integer.valueOf (value), dump);
+        this.sendOSC (this.getAddress (address), value, dump);
     }
 
 
@@ -159,7 +231,118 @@ public abstract class AbstractOpenSoundControlWriter implements IOpenSoundContro
     @Override
     public void sendOSC (final String address, final String value, final boolean dump)
     {
-        this.sendOSC (address, (Object) StringUtils.fixASCII (value), dump);
+        this.sendOSC (this.getAddress (address), value, dump);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void sendOSCColor (final OpenSoundControlAddress address, final double red, final double green, final double blue, final boolean dump)
+    {
+        if (!address.isSubscribed ())
+            return;
+        final int r = (int) Math.round (red * 255.0);
+        final int g = (int) Math.round (green * 255.0);
+        final int b = (int) Math.round (blue * 255.0);
+        IOpenSoundControlMessage message = null;
+        for (final ClientState client: this.clients)
+        {
+            if (!address.isSubscribed (client.index))
+                continue;
+            if (client.valueCache.updateColor (address, r, g, b) || client.isDump (dump))
+                message = this.addMessage (client, message, address, "rgb(" + r + "," + g + "," + b + ")");
+        }
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void sendOSC (final OpenSoundControlAddress address, final boolean value, final boolean dump)
+    {
+        if (!address.isSubscribed ())
+            return;
+        IOpenSoundControlMessage message = null;
+        for (final ClientState client: this.clients)
+        {
+            if (!address.isSubscribed (client.index))
+                continue;
+            if (client.valueCache.updateBoolean (address, value) || client.isDump (dump))
+                message = this.addMessage (client, message, address, Integer.valueOf (value ? 1 : 0));
+        }
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void sendOSC (final OpenSoundControlAddress address, final double value, final boolean dump)
+    {
+        if (!address.isSubscribed ())
+            return;
+        // Using float here since Double seems to be always received as 0 in Max.
+        final float floatValue = (float) value;
+        IOpenSoundControlMessage message = null;
+        for (final ClientState client: this.clients)
+        {
+            if (!address.isSubscribed (client.index))
+                continue;
+            if (client.valueCache.updateFloat (address, floatValue) || client.isDump (dump))
+                message = this.addMessage (client, message, address, Float.valueOf (floatValue));
+        }
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void sendOSC (final OpenSoundControlAddress address, final int value, final boolean dump)
+    {
+        if (!address.isSubscribed ())
+            return;
+        IOpenSoundControlMessage message = null;
+        for (final ClientState client: this.clients)
+        {
+            if (!address.isSubscribed (client.index))
+                continue;
+            if (client.valueCache.updateInteger (address, value) || client.isDump (dump))
+                message = this.addMessage (client, message, address, Integer.valueOf (value));
+        }
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void sendOSC (final OpenSoundControlAddress address, final String value, final boolean dump)
+    {
+        if (!address.isSubscribed ())
+            return;
+        IOpenSoundControlMessage message = null;
+        for (final ClientState client: this.clients)
+        {
+            if (!address.isSubscribed (client.index))
+                continue;
+            if (client.valueCache.updateString (address, value) || client.isDump (dump))
+                message = this.addMessage (client, message, address, StringUtils.fixASCII (value));
+        }
+    }
+
+
+    /**
+     * Add a message with a single value to the messages list of a client. The message will be sent
+     * when flush gets called.
+     *
+     * @param client The client
+     * @param message The message if it was already created for another client, otherwise null
+     * @param address The address of the OSC message
+     * @param value The value of the OSC message
+     * @return The message
+     */
+    private IOpenSoundControlMessage addMessage (final ClientState client, final IOpenSoundControlMessage message, final OpenSoundControlAddress address, final Object value)
+    {
+        final IOpenSoundControlMessage msg = message == null ? this.host.createOSCMessage (address.getAddress (), Collections.singletonList (value)) : message;
+        synchronized (client.messages)
+        {
+            client.messages.add (msg);
+        }
+        return msg;
     }
 
 
@@ -191,22 +374,36 @@ public abstract class AbstractOpenSoundControlWriter implements IOpenSoundContro
      */
     protected void sendOSC (final String cacheAddress, final String address, final Object testValue, final Object value, final boolean dump)
     {
-        if (!dump && compareValues (this.oldValues.get (cacheAddress), testValue))
+        final OpenSoundControlAddress oscAddress = this.getAddress (address);
+        if (!oscAddress.isSubscribed ())
             return;
-        this.oldValues.put (cacheAddress, testValue);
-
-        // Convert the value to a list in case it is not already one
-        final List<?> list;
-        if (value instanceof final List<?> l)
-            list = l;
-        else if (value instanceof final Boolean booleanValue)
-            list = Collections.singletonList (Integer.valueOf (booleanValue.booleanValue () ? 1 : 0));
-        else
-            list = Collections.singletonList (value);
-
-        synchronized (this.messages)
+
+        IOpenSoundControlMessage message = null;
+        for (final ClientState client: this.clients)
         {
-            this.messages.add (this.host.createOSCMessage (address, list));
+            if (!oscAddress.isSubscribed (client.index))
+                continue;
+            if (!client.isDump (dump) && compareValues (client.oldValues.get (cacheAddress), testValue))
+                continue;
+            client.oldValues.put (cacheAddress, testValue);
+
+            if (message == null)
+            {
+                // Convert the value to a list in case it is not already one
+                final List<?> list;
+                if (value instanceof final List<?> l)
+                    list = l;
+                else if (value instanceof final Boolean booleanValue)
+                    list = Collections.singletonList (Integer.valueOf (booleanValue.booleanValue () ? 1 : 0));
+                else
+                    list = Collections.singletonList (value);
+                message = this.host.createOSCMessage (address, list);
+            }
+
+            synchronized (client.messages)
+            {
+                client.messages.add (message);
+            }
         }
     }
 
@@ -218,7 +415,7 @@ public abstract class AbstractOpenSoundControlWriter implements IOpenSoundContro
      */
     protected boolean isConnected ()
     {
-        return this.oscClient != null;
+        return !this.clients.isEmpty ();
     }
 
 
@@ -297,4 +494,32 @@ public abstract class AbstractOpenSoundControlWriter implements IOpenSoundContro
     {
         return false;
     }
+
+
+    /**
+     * The connection and the cache of sent values of one client.
+     */
+    private static class ClientState
+    {
+        private final int                            index;
+        private final IOpenSoundControlClient        oscClient;
+        private final OpenSoundControlValueCache     valueCache = new OpenSoundControlValueCache ();
+        private final Map<String, Object>            oldValues  = new HashMap<> ();
+        private final List<IOpenSoundControlMessage> messages   = new ArrayList<> ();
+        private volatile boolean                     isDumpRequested;
+        private boolean                              isDumping;
+
+
+        ClientState (final int index, final IOpenSoundControlClient oscClient)
+        {
+            this.index = index;
+            this.oscClient = oscClient;
+        }
+
+
+        boolean isDump (final boolean dump)
+        {
+            return dump || this.isDumping;
+        }
+    }
 }
@@ -31,4 +31,10 @@ public interface IOpenSoundControlClient
      * @throws IOException Could not send the messages
      */
     void sendBundle (List<IOpenSoundControlMessage> messages) throws IOException;
+
+
+    /**
+     * Stop sending. Messages which are still waiting to be sent are dropped.
+     */
+    void close ();
 }
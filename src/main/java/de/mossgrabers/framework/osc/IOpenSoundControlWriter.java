@@ -19,6 +19,15 @@ public interface IOpenSoundControlWriter
     void flush (boolean dump);
 
 
+    /**
+     * Request to send all values to one client with the next flush. The other clients only receive
+     * the changed values.
+     *
+     * @param clientIndex The index of the client
+     */
+    void requestDump (int clientIndex);
+
+
     /**
      * Adds the message to the queue and calls flush.
      *
@@ -96,4 +105,84 @@ public interface IOpenSoundControlWriter
      * @param dump True to dump (ignore cache)
      */
     void sendOSC (String address, String value, boolean dump);
+
+
+    /**
+     * Get the pre-computed address object for an OSC address.
+     *
+     * @param address The OSC address, e.g. '/track/1/volume'
+     * @return The address object
+     */
+    OpenSoundControlAddress getAddress (String address);
+
+
+    /**
+     * Get the root of all pre-computed OSC addresses of this writer. Use it to create the address
+     * objects once and reuse them on each flush.
+     *
+     * @return The root address
+     */
+    OpenSoundControlAddress getRootAddress ();
+
+
+    /**
+     * Send an OSC message with a color value. Tests if the value(s) of given message is identical
+     * to that of the cache. If this is not the case or if dump is true, the message is added to the
+     * messages list.The message will be sent when flush gets called.
+     *
+     * @param address The address of the OSC message
+     * @param red The red component of the color [0-1]
+     * @param green The green component of the color [0-1]
+     * @param blue The blue component of the color [0-1]
+     * @param dump True to dump (ignore cache)
+     */
+    void sendOSCColor (OpenSoundControlAddress address, double red, double green, double blue, boolean dump);
+
+
+    /**
+     * Send an OSC message with a boolean value. Tests if the value(s) of given message is identical
+     * to that of the cache. If this is not the case or if dump is true, the message is added to the
+     * messages list.The message will be sent when flush gets called.
+     *
+     * @param address The address of the OSC message
+     * @param value The value to send
+     * @param dump True to dump (ignore cache)
+     */
+    void sendOSC (OpenSoundControlAddress address, boolean value, boolean dump);
+
+
+    /**
+     * Send an OSC message with a double value. Tests if the value(s) of given message is identical
+     * to that of the cache. If this is not the case or if dump is true, the message is added to the
+     * messages list.The message will be sent when flush gets called.
+     *
+     * @param address The address of the OSC message
+     * @param value The value to send
+     * @param dump True to dump (ignore cache)
+     */
+    void sendOSC (OpenSoundControlAddress address, double value, boolean dump);
+
+
+    /**
+     * Send an OSC message with an integer value. Tests if the value(s) of given message is
+     * identical to that of the cache. If this is not the case or if dump is true, the message is
+     * added to the messages list.The message will be sent when flush gets called.
+     *
+     * @param address The address of the OSC message
+     * @param value The value to send
+     * @param dump True to dump (ignore cache)
+     */
+    void sendOSC (OpenSoundControlAddress address, int value, boolean dump);
+
+
+    /**
+     * Send an OSC message with a string value. Tests if the value(s) of given message is identical
+     * to that of the cache. If this is not the case or if dump is true, the message is added to the
+     * messages list.The message will be sent when flush gets called.
+     *
+     * @param address The address of the OSC message
+     * @param value The value to send
+     * @param dump True to dump (ignore cache)
+     */
+    void sendOSC (OpenSoundControlAddress address, String value, boolean dump);
 }
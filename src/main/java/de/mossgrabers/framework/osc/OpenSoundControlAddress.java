@@ -0,0 +1,415 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2023
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.osc;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+
+/**
+ * A pre-computed OSC address. The addresses form a tree starting at a root address. The children of
+ * an address are created on first access and kept, therefore the addresses of a flush do not need
+ * to be concatenated again. Numbered children (e.g. the track number in /track/1/volume) are stored
+ * in an array, named children in a map with the (constant) name as the key. Each address has a
+ * unique index in its tree which can be used to store values of the address in arrays. Must only
+ * be called from the thread which flushes the OSC writer.
+ * <p>
+ * Clients can subscribe to address patterns of a tree, e.g. '/track/*&#47;volume', in which a star
+ * matches any segment. The subscriptions are kept per client. If a client has subscriptions, only
+ * the addresses which match one of its patterns or which are below a matching address are
+ * subscribed by the client. A client without any subscriptions subscribes all addresses. Addresses
+ * above subscribed ones are watched. The subtree of an address which is not watched by any client
+ * does not need to be calculated at all. Subscriptions can be changed from any thread.
+ *
+ * @author Jürgen Moßgraber
+ */
+public class OpenSoundControlAddress
+{
+    /** The maximum number of clients which can subscribe. */
+    public static final int                            MAX_CLIENTS      = 64;
+
+    private static final String                        WILDCARD         = "*";
+
+    private final Tree                                 tree;
+    private final String                               address;
+    private final int                                  index;
+    private final Map<String, OpenSoundControlAddress> namedChildren    = new HashMap<> ();
+    private OpenSoundControlAddress []                 numberedChildren = new OpenSoundControlAddress [0];
+
+    private int                                        stateGeneration  = -1;
+    private boolean                                    isWatched;
+    private long                                       subscribedClients;
+
+
+    /**
+     * Create the root of a new address tree.
+     *
+     * @param numClients The number of clients which receive the addresses of the tree, at most
+     *            MAX_CLIENTS
+     * @return The root address
+     */
+    public static OpenSoundControlAddress createRoot (final int numClients)
+    {
+        if (numClients > MAX_CLIENTS)
+            throw new IllegalArgumentException ("Not more than " + MAX_CLIENTS + " clients supported.");
+        return new OpenSoundControlAddress (new Tree (numClients), "");
+    }
+
+
+    /**
+     * Constructor.
+     *
+     * @param tree The tree to which the address belongs
+     * @param address The address
+     */
+    private OpenSoundControlAddress (final Tree tree, final String address)
+    {
+        this.tree = tree;
+        this.address = address;
+        this.index = tree.counter.getAndIncrement ();
+    }
+
+
+    /**
+     * Get the child address with the given name, e.g. 'volume' for '/track/1/volume'. An empty name
+     * creates the address of the parent with a closing slash.
+     *
+     * @param name The name of the child
+     * @return The child address
+     */
+    public OpenSoundControlAddress get (final String name)
+    {
+        OpenSoundControlAddress child = this.namedChildren.get (name);
+        if (child == null)
+        {
+            child = new OpenSoundControlAddress (this.tree, this.address + "/" + name);
+            this.namedChildren.put (name, child);
+        }
+        return child;
+    }
+
+
+    /**
+     * Get the child address with the given number, e.g. 1 for '/track/1'.
+     *
+     * @param number The number of the child, must not be negative
+     * @return The child address
+     */
+    public OpenSoundControlAddress get (final int number)
+    {
+        if (number >= this.numberedChildren.length)
+            this.numberedChildren = Arrays.copyOf (this.numberedChildren, Math.max (number + 1, 2 * this.numberedChildren.length));
+        OpenSoundControlAddress child = this.numberedChildren[number];
+        if (child == null)
+        {
+            child = new OpenSoundControlAddress (this.tree, this.address + "/" + number);
+            this.numberedChildren[number] = child;
+        }
+        return child;
+    }
+
+
+    /**
+     * Get the address in the tree below this address, e.g. '/track/1/volume' from the root.
+     * Segments which are numbers are resolved as numbered children.
+     *
+     * @param path The path, starting with a slash
+     * @return The address
+     */
+    public OpenSoundControlAddress resolve (final String path)
+    {
+        OpenSoundControlAddress current = this;
+        int start = path.startsWith ("/") ? 1 : 0;
+        final int length = path.length ();
+        while (start <= length)
+        {
+            int end = path.indexOf ('/', start);
+            if (end < 0)
+                end = length;
+            final String segment = path.substring (start, end);
+            current = isNumber (segment) ? current.get (Integer.parseInt (segment)) : current.get (segment);
+            start = end + 1;
+        }
+        return current;
+    }
+
+
+    /**
+     * Get the OSC address.
+     *
+     * @return The address, e.g. '/track/1/volume'
+     */
+    public String getAddress ()
+    {
+        return this.address;
+    }
+
+
+    /**
+     * Get the unique index of the address in its tree.
+     *
+     * @return The index
+     */
+    public int getIndex ()
+    {
+        return this.index;
+    }
+
+
+    /**
+     * Get the number of addresses which were created in the tree of this address.
+     *
+     * @return The number of addresses
+     */
+    public int getTreeSize ()
+    {
+        return this.tree.counter.get ();
+    }
+
+
+    /**
+     * Subscribe a client to all addresses of the tree which match the given pattern and the
+     * addresses below them.
+     *
+     * @param clientIndex The index of the client
+     * @param pattern The pattern, e.g. '/track/*&#47;volume'
+     */
+    public void subscribe (final int clientIndex, final String pattern)
+    {
+        final String [] segments = splitSegments (pattern);
+        synchronized (this.tree)
+        {
+            final String [][] subscriptions = this.tree.getSubscriptions (clientIndex);
+            if (subscriptions == null)
+                return;
+            for (final String [] subscription: subscriptions)
+            {
+                if (Arrays.equals (subscription, segments))
+                    return;
+            }
+            final String [][] newSubscriptions = Arrays.copyOf (subscriptions, subscriptions.length + 1);
+            newSubscriptions[newSubscriptions.length - 1] = segments;
+            this.tree.setSubscriptions (clientIndex, newSubscriptions);
+        }
+    }
+
+
+    /**
+     * Remove the subscription of the given pattern of a client from the tree.
+     *
+     * @param clientIndex The index of the client
+     * @param pattern The pattern which was used for subscribing
+     */
+    public void unsubscribe (final int clientIndex, final String pattern)
+    {
+        final String [] segments = splitSegments (pattern);
+        synchronized (this.tree)
+        {
+            final String [][] subscriptions = this.tree.getSubscriptions (clientIndex);
+            if (subscriptions == null)
+                return;
+            final List<String []> remaining = new ArrayList<> (Arrays.asList (subscriptions));
+            if (remaining.removeIf (subscription -> Arrays.equals (subscription, segments)))
+                this.tree.setSubscriptions (clientIndex, remaining.toArray (new String [remaining.size ()][]));
+        }
+    }
+
+
+    /**
+     * Remove all subscriptions of a client from the tree, which subscribes all addresses for the
+     * client again.
+     *
+     * @param clientIndex The index of the client
+     */
+    public void unsubscribeAll (final int clientIndex)
+    {
+        synchronized (this.tree)
+        {
+            if (this.tree.getSubscriptions (clientIndex) != null)
+                this.tree.setSubscriptions (clientIndex, new String [0][]);
+        }
+    }
+
+
+    /**
+     * Get the number of clients which receive the addresses of the tree.
+     *
+     * @return The number of clients
+     */
+    public int getNumClients ()
+    {
+        return this.tree.subscriptions.length;
+    }
+
+
+    /**
+     * Test if messages should be sent to this address to at least one client.
+     *
+     * @return True if subscribed by at least one client
+     */
+    public boolean isSubscribed ()
+    {
+        this.updateState ();
+        return this.subscribedClients != 0;
+    }
+
+
+    /**
+     * Test if messages should be sent to this address to the given client. This is the case if the
+     * client has no subscriptions or if one of its patterns matches this address or one of its
+     * parents.
+     *
+     * @param clientIndex The index of the client
+     * @return True if subscribed by the client
+     */
+    public boolean isSubscribed (final int clientIndex)
+    {
+        this.updateState ();
+        return (this.subscribedClients & 1L << clientIndex) != 0;
+    }
+
+
+    /**
+     * Test if this address or one of the addresses below it is subscribed by at least one client.
+     * If not, the values of the whole subtree do not need to be calculated.
+     *
+     * @return True if watched
+     */
+    public boolean isWatched ()
+    {
+        this.updateState ();
+        return this.isWatched;
+    }
+
+
+    /**
+     * Match the address against the subscriptions if they changed since the last test.
+     */
+    private void updateState ()
+    {
+        final int generation = this.tree.generation;
+        if (this.stateGeneration == generation)
+            return;
+        this.stateGeneration = generation;
+
+        final String [][][] clientSubscriptions = this.tree.subscriptions;
+        boolean watched = false;
+        long subscribed = 0;
+        String [] segments = null;
+        for (int clientIndex = 0; clientIndex < clientSubscriptions.length; clientIndex++)
+        {
+            final String [][] subscriptions = clientSubscriptions[clientIndex];
+            if (subscriptions.length == 0)
+            {
+                watched = true;
+                subscribed |= 1L << clientIndex;
+                continue;
+            }
+
+            if (segments == null)
+                segments = splitSegments (this.address);
+            for (final String [] pattern: subscriptions)
+            {
+                if (matches (pattern, segments))
+                {
+                    watched = true;
+                    if (segments.length >= pattern.length)
+                    {
+                        subscribed |= 1L << clientIndex;
+                        break;
+                    }
+                }
+            }
+        }
+        this.isWatched = watched;
+        this.subscribedClients = subscribed;
+    }
+
+
+    /**
+     * Test if the segments of a pattern and an address are identical (or the pattern segment is a
+     * star) up to the length of the shorter one.
+     *
+     * @param pattern The segments of the pattern
+     * @param segments The segments of the address
+     * @return True if they match
+     */
+    private static boolean matches (final String [] pattern, final String [] segments)
+    {
+        final int length = Math.min (pattern.length, segments.length);
+        for (int i = 0; i < length; i++)
+        {
+            if (!WILDCARD.equals (pattern[i]) && !pattern[i].equals (segments[i]))
+                return false;
+        }
+        return true;
+    }
+
+
+    private static String [] splitSegments (final String path)
+    {
+        final String trimmed = path.startsWith ("/") ? path.substring (1) : path;
+        return trimmed.isEmpty () ? new String [0] : trimmed.split ("/");
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public String toString ()
+    {
+        return this.address;
+    }
+
+
+    private static boolean isNumber (final String segment)
+    {
+        final int length = segment.length ();
+        if (length == 0 || length > 9 || length > 1 && segment.charAt (0) == '0')
+            return false;
+        for (int i = 0; i < length; i++)
+        {
+            final char c = segment.charAt (i);
+            if (c < '0' || c > '9')
+                return false;
+        }
+        return true;
+    }
+
+
+    /**
+     * The state which is shared by all addresses of a tree.
+     */
+    private static class Tree
+    {
+        private final AtomicInteger    counter = new AtomicInteger ();
+        private volatile String [][][] subscriptions;
+        private volatile int           generation;
+
+
+        Tree (final int numClients)
+        {
+            this.subscriptions = new String [numClients][0][];
+        }
+
+
+        String [][] getSubscriptions (final int clientIndex)
+        {
+            return clientIndex >= 0 && clientIndex < this.subscriptions.length ? this.subscriptions[clientIndex] : null;
+        }
+
+
+        void setSubscriptions (final int clientIndex, final String [][] clientSubscriptions)
+        {
+            final String [][][] newSubscriptions = this.subscriptions.clone ();
+            newSubscriptions[clientIndex] = clientSubscriptions;
+            this.subscriptions = newSubscriptions;
+            this.generation++;
+        }
+    }
+}
@@ -0,0 +1,107 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2023
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.osc;
+
+/**
+ * Calculates the number of bytes of encoded OSC messages and bundles as defined by the OSC 1.0
+ * specification. Texts are assumed to be encoded as UTF-8.
+ *
+ * @author Jürgen Moßgraber
+ */
+public class OpenSoundControlSize
+{
+    /** The size of the bundle header: #bundle and the time tag. */
+    public static final int BUNDLE_HEADER_SIZE  = 16;
+    /** The size of the length field which precedes each element of a bundle. */
+    public static final int BUNDLE_ELEMENT_SIZE = 4;
+
+
+    /**
+     * Constructor, private due to help class.
+     */
+    private OpenSoundControlSize ()
+    {
+        // Intentionally empty
+    }
+
+
+    /**
+     * Get the size of a message when it is added to a bundle, including the length field.
+     *
+     * @param message The message
+     * @return The number of bytes
+     */
+    public static int getBundleElementSize (final IOpenSoundControlMessage message)
+    {
+        return BUNDLE_ELEMENT_SIZE + getMessageSize (message.getAddress (), message.getValues ());
+    }
+
+
+    /**
+     * Get the size of an encoded message.
+     *
+     * @param address The address of the message
+     * @param values The values of the message
+     * @return The number of bytes
+     */
+    public static int getMessageSize (final String address, final Object [] values)
+    {
+        // Address and the type tag string: comma, 1 tag per value and the terminating 0
+        int size = getStringSize (address) + pad (values.length + 2);
+        for (final Object value: values)
+            size += getValueSize (value);
+        return size;
+    }
+
+
+    /**
+     * Get the size of an encoded value. Boolean and null values are only encoded in the type tag.
+     *
+     * @param value The value
+     * @return The number of bytes
+     */
+    public static int getValueSize (final Object value)
+    {
+        if (value == null || value instanceof Boolean)
+            return 0;
+        if (value instanceof Integer || value instanceof Float || value instanceof Character)
+            return 4;
+        if (value instanceof final String text)
+            return getStringSize (text);
+        if (value instanceof final byte [] blob)
+            return 4 + pad (blob.length);
+        // Long, double, time tags and unknown types
+        return 8;
+    }
+
+
+    /**
+     * Get the size of an encoded text including the terminating 0 and padding.
+     *
+     * @param text The text
+     * @return The number of bytes
+     */
+    public static int getStringSize (final String text)
+    {
+        int length = 0;
+        for (int i = 0; i < text.length (); i++)
+        {
+            final char c = text.charAt (i);
+            if (c < 0x80)
+                length++;
+            else if (c < 0x800)
+                length += 2;
+            else
+                length += 3;
+        }
+        return pad (length + 1);
+    }
+
+
+    private static int pad (final int size)
+    {
+        return size + 3 & ~3;
+    }
+}
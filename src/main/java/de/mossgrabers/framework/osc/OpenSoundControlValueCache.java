@@ -0,0 +1,136 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2023
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.osc;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+
+/**
+ * Caches the last sent value of each OSC address of an address tree. The values are stored in
+ * typed arrays indexed by the index of the address, therefore testing for a changed value neither
+ * needs to hash the address nor to box the value.
+ *
+ * @author Jürgen Moßgraber
+ */
+public class OpenSoundControlValueCache
+{
+    private static final byte TYPE_NONE    = 0;
+    private static final byte TYPE_INTEGER = 1;
+    private static final byte TYPE_FLOAT   = 2;
+    private static final byte TYPE_BOOLEAN = 3;
+    private static final byte TYPE_STRING  = 4;
+    private static final byte TYPE_COLOR   = 5;
+
+    private byte []           types        = new byte [256];
+    private long []           numbers      = new long [256];
+    private String []         strings      = new String [256];
+
+
+    /**
+     * Store an integer value.
+     *
+     * @param address The address
+     * @param value The value
+     * @return True if the value is different from the stored one
+     */
+    public boolean updateInteger (final OpenSoundControlAddress address, final int value)
+    {
+        return this.updateNumber (address.getIndex (), TYPE_INTEGER, value);
+    }
+
+
+    /**
+     * Store a float value.
+     *
+     * @param address The address
+     * @param value The value
+     * @return True if the value is different from the stored one
+     */
+    public boolean updateFloat (final OpenSoundControlAddress address, final float value)
+    {
+        return this.updateNumber (address.getIndex (), TYPE_FLOAT, Float.floatToIntBits (value));
+    }
+
+
+    /**
+     * Store a boolean value.
+     *
+     * @param address The address
+     * @param value The value
+     * @return True if the value is different from the stored one
+     */
+    public boolean updateBoolean (final OpenSoundControlAddress address, final boolean value)
+    {
+        return this.updateNumber (address.getIndex (), TYPE_BOOLEAN, value ? 1 : 0);
+    }
+
+
+    /**
+     * Store a color value.
+     *
+     * @param address The address
+     * @param red The red component 0-255
+     * @param green The green component 0-255
+     * @param blue The blue component 0-255
+     * @return True if the value is different from the stored one
+     */
+    public boolean updateColor (final OpenSoundControlAddress address, final int red, final int green, final int blue)
+    {
+        return this.updateNumber (address.getIndex (), TYPE_COLOR, (long) red << 32 | (long) green << 16 | blue);
+    }
+
+
+    /**
+     * Store a text value.
+     *
+     * @param address The address
+     * @param value The value, might be null
+     * @return True if the value is different from the stored one
+     */
+    public boolean updateString (final OpenSoundControlAddress address, final String value)
+    {
+        final int index = address.getIndex ();
+        this.ensureCapacity (index);
+        if (this.types[index] == TYPE_STRING && Objects.equals (this.strings[index], value))
+            return false;
+        this.types[index] = TYPE_STRING;
+        this.strings[index] = value;
+        return true;
+    }
+
+
+    /**
+     * Forget all values.
+     */
+    public void clear ()
+    {
+        Arrays.fill (this.types, TYPE_NONE);
+        Arrays.fill (this.strings, null);
+    }
+
+
+    private boolean updateNumber (final int index, final byte type, final long value)
+    {
+        this.ensureCapacity (index);
+        if (this.types[index] == type && this.numbers[index] == value)
+            return false;
+        this.types[index] = type;
+        this.numbers[index] = value;
+        this.strings[index] = null;
+        return true;
+    }
+
+
+    private void ensureCapacity (final int index)
+    {
+        if (index < this.types.length)
+            return;
+        final int size = Math.max (index + 1, 2 * this.types.length);
+        this.types = Arrays.copyOf (this.types, size);
+        this.numbers = Arrays.copyOf (this.numbers, size);
+        this.strings = Arrays.copyOf (this.strings, size);
+    }
+}
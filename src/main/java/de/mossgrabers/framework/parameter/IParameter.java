@@ -6,6 +6,7 @@ package de.mossgrabers.framework.parameter;
 
 import de.mossgrabers.framework.controller.valuechanger.IValueChanger;
 import de.mossgrabers.framework.daw.data.IItem;
+import de.mossgrabers.framework.observer.IValueObserver;
 
 
 /**
@@ -128,4 +129,17 @@ public interface IParameter extends IItem
      * @param enable True in case visual indications should be shown
      */
     void setIndication (boolean enable);
+
+
+    /**
+     * Add an observer for the value of the parameter. Must be called during initialization.
+     *
+     * @param observer The observer to notify about a new value
+     * @return True if the observer was added, false if the parameter does not report changes of its
+     *         value, in that case the value needs to be polled
+     */
+    default boolean addValueObserver (final IValueObserver<Integer> observer)
+    {
+        return false;
+    }
 }
\ No newline at end of file
@@ -182,6 +182,14 @@ public class ResetParameter implements IParameter
     }
 
 
+    /** {@inheritDoc} */
+    @Override
+    public boolean addValueObserver (final IValueObserver<Integer> observer)
+    {
+        return this.parameter.addValueObserver (observer);
+    }
+
+
     /** {@inheritDoc} */
     @Override
     public void enableObservers (final boolean enable)
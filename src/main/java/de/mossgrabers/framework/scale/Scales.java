@@ -4,6 +4,7 @@
 
 package de.mossgrabers.framework.scale;
 
+import de.mossgrabers.framework.controller.color.ColorManager;
 import de.mossgrabers.framework.controller.valuechanger.IValueChanger;
 import de.mossgrabers.framework.scale.ScaleGrid.Orientation;
 
@@ -118,6 +119,11 @@ public class Scales
     private final Map<Scale, ChordGrid> chordGrids               = new EnumMap<> (Scale.class);
     private final IValueChanger         valueChanger;
 
+    private int                         offColorHandle;
+    private int                         octaveColorHandle;
+    private int                         noteColorHandle;
+    private int                         outOfScaleColorHandle;
+
 
     /**
      * Constructor.
@@ -701,6 +707,59 @@ public class Scales
     }
 
 
+    /**
+     * Look up the handles of the scale colors in the given color manager. Must be called before
+     * {@link #getColorHandle(int[], int)} is used.
+     *
+     * @param colorManager The color manager
+     */
+    public void setColorManager (final ColorManager colorManager)
+    {
+        this.offColorHandle = colorManager.getColorHandle (Scales.SCALE_COLOR_OFF);
+        this.octaveColorHandle = colorManager.getColorHandle (Scales.SCALE_COLOR_OCTAVE);
+        this.noteColorHandle = colorManager.getColorHandle (Scales.SCALE_COLOR_NOTE);
+        this.outOfScaleColorHandle = colorManager.getColorHandle (Scales.SCALE_COLOR_OUT_OF_SCALE);
+    }
+
+
+    /**
+     * Get the handle of the color for the given note respecting the note map. Same as
+     * {@link #getColor(int[], int)} but without the need to look up the color ID, which is faster
+     * when drawing the pad grid.
+     *
+     * @param noteMap The note map
+     * @param note A note
+     * @return The handle of the color in the color manager
+     */
+    public int getColorHandle (final int [] noteMap, final int note)
+    {
+        if (note == -1)
+            return this.offColorHandle;
+        final int midiNote = noteMap[note];
+        if (midiNote == -1)
+            return this.offColorHandle;
+        final int noteInOctave = this.toNoteInOctave (midiNote);
+        if (noteInOctave == 0)
+            return this.octaveColorHandle;
+        if (!this.isChromatic ())
+            return this.noteColorHandle;
+        return this.isInScale (noteInOctave) ? this.noteColorHandle : this.outOfScaleColorHandle;
+    }
+
+
+    /**
+     * Test if the given color handle is the one of the base note of the scale.
+     *
+     * @param colorHandle The handle of the color, retrieved with
+     *            {@link #getColorHandle(int[], int)}
+     * @return True if it is the octave color
+     */
+    public boolean isOctaveColorHandle (final int colorHandle)
+    {
+        return colorHandle == this.octaveColorHandle;
+    }
+
+
     /**
      * Convert the MIDI note (0-127) to the note in an octave (0-11). Respect the currently active
      * base note.
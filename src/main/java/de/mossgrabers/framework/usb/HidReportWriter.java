@@ -0,0 +1,158 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2023
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.usb;
+
+import de.mossgrabers.framework.daw.IHost;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+
+/**
+ * Sends output reports to a HID device from a separate thread, therefore the calling thread never
+ * blocks. Each report has a slot which stores only the latest data: if new data is submitted before
+ * the previous data of the slot was sent, the previous data is dropped. The slots are sent in the
+ * order in which they were added. The buffers of the slots are allocated once and reused.
+ *
+ * @author Jürgen Moßgraber
+ */
+public class HidReportWriter
+{
+    private final IHost           host;
+    private final IHidDevice      hidDevice;
+    private final ExecutorService executor        = Executors.newSingleThreadExecutor ();
+    private final List<Slot>      slots           = new ArrayList<> ();
+    private final AtomicBoolean   isSendScheduled = new AtomicBoolean (false);
+    private final Runnable        sendTask        = this::sendSlots;
+
+
+    /**
+     * Constructor.
+     *
+     * @param host The host
+     * @param hidDevice The HID device to send to
+     */
+    public HidReportWriter (final IHost host, final IHidDevice hidDevice)
+    {
+        this.host = host;
+        this.hidDevice = hidDevice;
+    }
+
+
+    /**
+     * Add a slot for an output report. Must be called before any data is submitted.
+     *
+     * @param reportID The ID of the report
+     * @param size The size of the report in bytes
+     * @return The index of the slot
+     */
+    public int addSlot (final byte reportID, final int size)
+    {
+        this.slots.add (new Slot (reportID, size));
+        return this.slots.size () - 1;
+    }
+
+
+    /**
+     * Submit new data for a slot. The data is copied, the remaining bytes of the report are set to
+     * 0.
+     *
+     * @param slotIndex The index of the slot
+     * @param data The data to send
+     * @param length The number of bytes to copy from the data
+     */
+    public void submit (final int slotIndex, final byte [] data, final int length)
+    {
+        if (this.executor.isShutdown ())
+            return;
+
+        final Slot slot = this.slots.get (slotIndex);
+        synchronized (slot)
+        {
+            final int size = Math.min (length, slot.pending.length);
+            System.arraycopy (data, 0, slot.pending, 0, size);
+            Arrays.fill (slot.pending, size, slot.pending.length, (byte) 0);
+            slot.isDirty = true;
+        }
+
+        if (this.isSendScheduled.getAndSet (true))
+            return;
+        try
+        {
+            this.executor.execute (this.sendTask);
+        }
+        catch (final RejectedExecutionException ex)
+        {
+            // Executor was shutdown in the meantime
+            this.isSendScheduled.set (false);
+        }
+    }
+
+
+    /**
+     * Stops sending. Waits until all submitted data is sent.
+     */
+    public void shutdown ()
+    {
+        this.executor.shutdown ();
+        try
+        {
+            if (!this.executor.awaitTermination (5, TimeUnit.SECONDS))
+                this.host.error ("HID writer did not end in 5 seconds.");
+        }
+        catch (final InterruptedException ex)
+        {
+            this.host.error ("HID writer interrupted.", ex);
+            Thread.currentThread ().interrupt ();
+        }
+    }
+
+
+    /**
+     * Send the latest data of all slots with new data. Called on the writer thread.
+     */
+    private void sendSlots ()
+    {
+        this.isSendScheduled.set (false);
+
+        for (final Slot slot: this.slots)
+        {
+            synchronized (slot)
+            {
+                if (!slot.isDirty)
+                    continue;
+                slot.isDirty = false;
+                System.arraycopy (slot.pending, 0, slot.sending, 0, slot.sending.length);
+            }
+            this.hidDevice.sendOutputReport (slot.reportID, slot.sending, slot.sending.length);
+        }
+    }
+
+
+    /**
+     * The latest data of an output report.
+     */
+    private static class Slot
+    {
+        private final byte    reportID;
+        private final byte [] pending;
+        private final byte [] sending;
+        private boolean       isDirty;
+
+
+        Slot (final byte reportID, final int size)
+        {
+            this.reportID = reportID;
+            this.pending = new byte [size];
+            this.sending = new byte [size];
+        }
+    }
+}
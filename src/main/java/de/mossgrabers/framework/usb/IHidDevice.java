@@ -36,6 +36,18 @@ public interface IHidDevice
     int sendOutputReport (byte reportID, IMemoryBlock memoryBlock);
 
 
+    /**
+     * Sends an output report to the device. Same as the method above but sends the data directly
+     * from the given array.
+     *
+     * @param reportID The report (= function/method) number
+     * @param data The data to send
+     * @param length The number of bytes to send from the data
+     * @return The number of bytes scheduled for transmission or -1 if the call failed
+     */
+    int sendOutputReport (byte reportID, byte [] data, int length);
+
+
     /**
      * This method sends a feature report to the device. See the USB HID specification for more
      * information. This method may or may not block. The method returning is no guarantee that the
@@ -39,6 +39,10 @@ public abstract class AbstractPlayView<S extends IControlSurface<C>, C extends C
 
     private int                blockNotes   = 0;
 
+    private final int          playColorHandle;
+    private final int          recordColorHandle;
+    private final int          offColorHandle;
+
 
     /**
      * Constructor.
@@ -67,6 +71,10 @@ public abstract class AbstractPlayView<S extends IControlSurface<C>, C extends C
 
         this.useTrackColor = useTrackColor;
 
+        this.playColorHandle = this.colorManager.getColorHandle (COLOR_PLAY);
+        this.recordColorHandle = this.colorManager.getColorHandle (COLOR_RECORD);
+        this.offColorHandle = this.colorManager.getColorHandle (COLOR_OFF);
+
         this.defaultVelocity = new int [128];
         for (int i = 0; i < 128; i++)
             this.defaultVelocity[i] = i;
@@ -144,17 +152,17 @@ public abstract class AbstractPlayView<S extends IControlSurface<C>, C extends C
      * @param isRecording Is recording enabled?
      * @param track The track to use the color for octaves
      * @param note The note of the pad
-     * @return The ID of the color
+     * @return The color index
      */
-    protected String getGridColor (final boolean isKeyboardEnabled, final boolean isRecording, final ITrack track, final int note)
+    protected int getGridColor (final boolean isKeyboardEnabled, final boolean isRecording, final ITrack track, final int note)
     {
         if (isKeyboardEnabled)
         {
             if (this.keyManager.isKeyPressed (note))
-                return isRecording ? AbstractPlayView.COLOR_RECORD : AbstractPlayView.COLOR_PLAY;
-            return this.getPadColor (note, this.useTrackColor ? track : null);
+                return this.colorManager.getColorIndexByHandle (isRecording ? this.recordColorHandle : this.playColorHandle);
+            return this.getPadColorIndex (note, this.useTrackColor ? track : null);
         }
-        return AbstractPlayView.COLOR_OFF;
+        return this.colorManager.getColorIndexByHandle (this.offColorHandle);
     }
 
 
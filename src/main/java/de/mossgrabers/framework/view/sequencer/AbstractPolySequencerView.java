@@ -10,7 +10,6 @@ import de.mossgrabers.framework.controller.IControlSurface;
 import de.mossgrabers.framework.controller.grid.IPadGrid;
 import de.mossgrabers.framework.controller.hardware.IHwButton;
 import de.mossgrabers.framework.daw.IModel;
-import de.mossgrabers.framework.daw.clip.DefaultStepInfo;
 import de.mossgrabers.framework.daw.clip.INoteClip;
 import de.mossgrabers.framework.daw.clip.IStepInfo;
 import de.mossgrabers.framework.daw.clip.NotePosition;
@@ -49,6 +48,10 @@ public abstract class AbstractPolySequencerView<S extends IControlSurface<C>, C
     protected int                         numRows;
     protected long                        lastPressedNoteTime = 0;
 
+    private final int                     playColorHandle;
+    private final int                     recordColorHandle;
+    private final int                     offColorHandle;
+
 
     /**
      * Constructor.
@@ -80,6 +83,10 @@ public abstract class AbstractPolySequencerView<S extends IControlSurface<C>, C
 
         this.sequencerSteps = numSequencerRows * numColumns;
 
+        this.playColorHandle = this.colorManager.getColorHandle (AbstractPlayView.COLOR_PLAY);
+        this.recordColorHandle = this.colorManager.getColorHandle (AbstractPlayView.COLOR_RECORD);
+        this.offColorHandle = this.colorManager.getColorHandle (AbstractPlayView.COLOR_OFF);
+
         this.numColumns = numColumns;
         this.numRows = numRows;
         this.numSequencerRows = numSequencerRows;
@@ -398,7 +405,7 @@ public abstract class AbstractPolySequencerView<S extends IControlSurface<C>, C
             final boolean hilite = col == hiStep;
             final int x = col % this.numColumns;
             final int y = col / this.numColumns;
-            padGrid.lightEx (x, y, isActive ? this.getStepColor (stepInfo, hilite, col, editNotes) : AbstractSequencerView.COLOR_NO_CONTENT);
+            padGrid.lightEx (x, y, isActive ? this.getStepColor (stepInfo, hilite, col, editNotes) : this.getColorIndex (this.noContentColorHandle));
         }
 
         // Paint the play part
@@ -431,26 +438,7 @@ public abstract class AbstractPolySequencerView<S extends IControlSurface<C>, C
      */
     protected IStepInfo getStep (final INoteClip clip, final int col)
     {
-        final DefaultStepInfo result = new DefaultStepInfo ();
-
-        boolean isMuted = true;
-
-        final NotePosition notePosition = new NotePosition (this.configuration.getMidiEditChannel (), col, 0);
-        for (int row = 0; row < 128; row++)
-        {
-            notePosition.setNote (row);
-            final IStepInfo stepInfo = clip.getStep (notePosition);
-            final StepState r = stepInfo.getState ();
-            if (r == StepState.START)
-                result.setState (StepState.START);
-            else if (r == StepState.CONTINUE && result.getState () != StepState.START)
-                result.setState (StepState.CONTINUE);
-
-            if ((r == StepState.START || r == StepState.CONTINUE) && !stepInfo.isMuted ())
-                isMuted = false;
-        }
-        result.setMuted (isMuted);
-        return result;
+        return clip.getStepSummary (this.configuration.getMidiEditChannel (), col);
     }
 
 
@@ -461,9 +449,9 @@ public abstract class AbstractPolySequencerView<S extends IControlSurface<C>, C
      * @param hilite True if note should be highlighted
      * @param step The step
      * @param editNotes The currently edited notes
-     * @return The color identifier
+     * @return The color index
      */
-    protected String getStepColor (final IStepInfo stepInfo, final boolean hilite, final int step, final List<NotePosition> editNotes)
+    protected int getStepColor (final IStepInfo stepInfo, final boolean hilite, final int step, final List<NotePosition> editNotes)
     {
         final int channel = this.configuration.getMidiEditChannel ();
 
@@ -472,27 +460,27 @@ public abstract class AbstractPolySequencerView<S extends IControlSurface<C>, C
             // Note starts
             case START:
                 if (hilite)
-                    return COLOR_STEP_HILITE_CONTENT;
+                    return this.getColorIndex (this.stepHiliteContentColorHandle);
                 if (isChordEdit (channel, step, editNotes))
-                    return COLOR_STEP_SELECTED;
+                    return this.getColorIndex (this.stepSelectedColorHandle);
                 if (stepInfo.isMuted ())
-                    return COLOR_STEP_MUTED;
-                return COLOR_CONTENT;
+                    return this.getColorIndex (this.stepMutedColorHandle);
+                return this.getColorIndex (this.contentColorHandle);
 
             // Note continues
             case CONTINUE:
                 if (hilite)
-                    return COLOR_STEP_HILITE_CONTENT;
+                    return this.getColorIndex (this.stepHiliteContentColorHandle);
                 if (isChordEdit (channel, step, editNotes))
-                    return COLOR_STEP_SELECTED;
+                    return this.getColorIndex (this.stepSelectedColorHandle);
                 if (stepInfo.isMuted ())
-                    return COLOR_STEP_MUTED_CONT;
-                return COLOR_CONTENT_CONT;
+                    return this.getColorIndex (this.stepMutedContColorHandle);
+                return this.getColorIndex (this.contentContColorHandle);
 
             // Empty
             case OFF:
             default:
-                return hilite ? AbstractSequencerView.COLOR_STEP_HILITE_NO_CONTENT : AbstractSequencerView.COLOR_NO_CONTENT;
+                return this.getColorIndex (hilite ? this.stepHiliteNoContentColorHandle : this.noContentColorHandle);
         }
     }
 
@@ -504,17 +492,17 @@ public abstract class AbstractPolySequencerView<S extends IControlSurface<C>, C
      * @param isRecording Is recording enabled?
      * @param track The track to use the color for octaves
      * @param note The note of the pad
-     * @return The ID of the color
+     * @return The color index
      */
-    protected String getGridColor (final boolean isKeyboardEnabled, final boolean isRecording, final ITrack track, final int note)
+    protected int getGridColor (final boolean isKeyboardEnabled, final boolean isRecording, final ITrack track, final int note)
     {
         if (isKeyboardEnabled)
         {
             if (this.keyManager.isKeyPressed (note))
-                return isRecording ? AbstractPlayView.COLOR_RECORD : AbstractPlayView.COLOR_PLAY;
-            return this.getPadColor (note, this.useDawColors ? track : null);
+                return this.getColorIndex (isRecording ? this.recordColorHandle : this.playColorHandle);
+            return this.getPadColorIndex (note, this.useDawColors ? track : null);
         }
-        return AbstractPlayView.COLOR_OFF;
+        return this.getColorIndex (this.offColorHandle);
     }
 
 
@@ -11,7 +11,6 @@ import de.mossgrabers.framework.controller.grid.IPadGrid;
 import de.mossgrabers.framework.daw.IModel;
 import de.mossgrabers.framework.daw.clip.INoteClip;
 import de.mossgrabers.framework.daw.clip.NotePosition;
-import de.mossgrabers.framework.daw.clip.StepState;
 import de.mossgrabers.framework.daw.constants.Resolution;
 import de.mossgrabers.framework.daw.data.ITrack;
 import de.mossgrabers.framework.scale.Scales;
@@ -149,15 +148,15 @@ public abstract class AbstractRaindropsView<S extends IControlSurface<C>, C exte
 
             for (int y = 0; y < this.numDisplayRows; y++)
             {
-                String colorID = y == 0 ? this.getPadColor (x, cursorTrack) : AbstractSequencerView.COLOR_NO_CONTENT;
+                int color = y == 0 ? this.getPadColorIndex (x, cursorTrack) : this.getColorIndex (this.noContentColorHandle);
                 if (isOn)
                 {
                     if (y == distance)
-                        colorID = AbstractSequencerView.COLOR_CONTENT;
+                        color = this.getColorIndex (this.contentColorHandle);
                     if (left <= distance && y == left || left > distance && y == sum - left)
-                        colorID = AbstractSequencerView.COLOR_STEP_HILITE_NO_CONTENT;
+                        color = this.getColorIndex (this.stepHiliteNoContentColorHandle);
                 }
-                padGrid.lightEx (x, this.numDisplayRows - 1 - y, colorID);
+                padGrid.lightEx (x, this.numDisplayRows - 1 - y, color);
             }
         }
     }
@@ -244,24 +243,13 @@ public abstract class AbstractRaindropsView<S extends IControlSurface<C>, C exte
     {
         if (row < 0)
             return -1;
-        int step;
         final INoteClip clip = this.getClip ();
-        final NotePosition notePosition = new NotePosition (this.configuration.getMidiEditChannel (), 0, row);
-        for (step = 0; step < length; step++)
-        {
-            notePosition.setStep (step);
-            if (clip.getStep (notePosition).getState () != StepState.OFF)
-                break;
-        }
-        if (step >= length)
+        final int channel = this.configuration.getMidiEditChannel ();
+        final int step = clip.getNextStepWithData (channel, row, 0, length);
+        if (step < 0 || step + 1 >= length)
             return -1;
-        for (int step2 = step + 1; step2 < length; step2++)
-        {
-            notePosition.setStep (step2);
-            if (clip.getStep (notePosition).getState () != StepState.OFF)
-                return step2 - step;
-        }
-        return -1;
+        final int step2 = clip.getNextStepWithData (channel, row, step + 1, length);
+        return step2 > step ? step2 - step : -1;
     }
 
 
@@ -269,21 +257,8 @@ public abstract class AbstractRaindropsView<S extends IControlSurface<C>, C exte
     {
         if (row < 0 || start < 0 || start >= length)
             return -1;
-        int step = start;
-        int counter = 0;
-        final INoteClip clip = this.getClip ();
-        final NotePosition notePosition = new NotePosition (this.configuration.getMidiEditChannel (), 0, row);
-        do
-        {
-            notePosition.setStep (step);
-            if (clip.getStep (notePosition).getState () != StepState.OFF)
-                return counter;
-            step++;
-            counter++;
-            if (step >= length)
-                step = 0;
-        } while (step != start);
-        return -1;
+        final int step = this.getClip ().getNextStepWithData (this.configuration.getMidiEditChannel (), row, start, length);
+        return step < 0 ? -1 : (step - start + length) % length;
     }
 
 
@@ -292,21 +267,8 @@ public abstract class AbstractRaindropsView<S extends IControlSurface<C>, C exte
         if (row < 0 || start < 0 || start >= length)
             return -1;
         final int s = start == 0 ? length - 1 : start - 1;
-        int step = s;
-        int counter = 0;
-        final INoteClip clip = this.getClip ();
-        final NotePosition notePosition = new NotePosition (this.configuration.getMidiEditChannel (), 0, row);
-        do
-        {
-            notePosition.setStep (step);
-            if (clip.getStep (notePosition).getState () != StepState.OFF)
-                return counter;
-            step--;
-            counter++;
-            if (step < 0)
-                step = length - 1;
-        } while (step != s);
-        return -1;
+        final int step = this.getClip ().getPreviousStepWithData (this.configuration.getMidiEditChannel (), row, s, length);
+        return step < 0 ? -1 : (s - step + length) % length;
     }
 
 
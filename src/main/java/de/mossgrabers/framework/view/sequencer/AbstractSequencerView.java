@@ -79,12 +79,23 @@ public abstract class AbstractSequencerView<S extends IControlSurface<C>, C exte
     protected final int           clipRows;
     protected final int           clipCols;
     protected final boolean       useDawColors;
+    private final INoteClip       cursorClip;
 
     protected int                 numSequencerRows;
     protected final Configuration configuration;
     protected boolean             isNoteEdited                 = false;
     private boolean               isSequencerActive;
 
+    protected final int           noContentColorHandle;
+    protected final int           noContent4ColorHandle;
+    protected final int           contentColorHandle;
+    protected final int           contentContColorHandle;
+    protected final int           stepHiliteNoContentColorHandle;
+    protected final int           stepHiliteContentColorHandle;
+    protected final int           stepMutedColorHandle;
+    protected final int           stepMutedContColorHandle;
+    protected final int           stepSelectedColorHandle;
+
 
     /**
      * Constructor.
@@ -124,7 +135,19 @@ public abstract class AbstractSequencerView<S extends IControlSurface<C>, C exte
 
         this.configuration = this.surface.getConfiguration ();
 
-        this.getClip ();
+        this.cursorClip = this.model.getNoteClip (this.clipCols, this.clipRows);
+
+        // Look up the handles of the step colors once, to not look up the color IDs of all pads
+        // on each redraw
+        this.noContentColorHandle = this.colorManager.getColorHandle (COLOR_NO_CONTENT);
+        this.noContent4ColorHandle = this.colorManager.getColorHandle (COLOR_NO_CONTENT_4);
+        this.contentColorHandle = this.colorManager.getColorHandle (COLOR_CONTENT);
+        this.contentContColorHandle = this.colorManager.getColorHandle (COLOR_CONTENT_CONT);
+        this.stepHiliteNoContentColorHandle = this.colorManager.getColorHandle (COLOR_STEP_HILITE_NO_CONTENT);
+        this.stepHiliteContentColorHandle = this.colorManager.getColorHandle (COLOR_STEP_HILITE_CONTENT);
+        this.stepMutedColorHandle = this.colorManager.getColorHandle (COLOR_STEP_MUTED);
+        this.stepMutedContColorHandle = this.colorManager.getColorHandle (COLOR_STEP_MUTED_CONT);
+        this.stepSelectedColorHandle = this.colorManager.getColorHandle (COLOR_STEP_SELECTED);
     }
 
 
@@ -188,7 +211,7 @@ public abstract class AbstractSequencerView<S extends IControlSurface<C>, C exte
      */
     public final INoteClip getClip ()
     {
-        return this.model.getNoteClip (this.clipCols, this.clipRows);
+        return this.cursorClip;
     }
 
 
@@ -450,12 +473,12 @@ public abstract class AbstractSequencerView<S extends IControlSurface<C>, C exte
      * @param pad The pad
      * @param note The note of the step
      * @param editNotes The currently edited notes
-     * @return The color
+     * @return The color index
      */
-    protected String getStepColor (final IStepInfo stepInfo, final boolean highlight, final int channel, final int step, final int pad, final int note, final List<NotePosition> editNotes)
+    protected int getStepColor (final IStepInfo stepInfo, final boolean highlight, final int channel, final int step, final int pad, final int note, final List<NotePosition> editNotes)
     {
         if (stepInfo == null || stepInfo.getState () == StepState.OFF)
-            return this.getPadColor (pad, this.useDawColors ? this.model.getCursorTrack () : null);
+            return this.getPadColorIndex (pad, this.useDawColors ? this.model.getCursorTrack () : null);
 
         return this.getStepColor (stepInfo, highlight, Optional.empty (), channel, step, note, editNotes);
     }
@@ -471,35 +494,51 @@ public abstract class AbstractSequencerView<S extends IControlSurface<C>, C exte
      * @param rowColor The color to use for content notes
      * @param note The note of the step
      * @param editNotes The currently edited notes
-     * @return The color
+     * @return The color index
      */
-    protected String getStepColor (final IStepInfo stepInfo, final boolean highlight, final Optional<ColorEx> rowColor, final int channel, final int step, final int note, final List<NotePosition> editNotes)
+    protected int getStepColor (final IStepInfo stepInfo, final boolean highlight, final Optional<ColorEx> rowColor, final int channel, final int step, final int note, final List<NotePosition> editNotes)
     {
         final StepState state = stepInfo == null ? StepState.OFF : stepInfo.getState ();
         switch (state)
         {
             case START:
                 if (highlight)
-                    return COLOR_STEP_HILITE_CONTENT;
+                    return this.getColorIndex (this.stepHiliteContentColorHandle);
                 if (isEdit (channel, step, note, editNotes))
-                    return COLOR_STEP_SELECTED;
+                    return this.getColorIndex (this.stepSelectedColorHandle);
                 if (stepInfo != null && stepInfo.isMuted ())
-                    return COLOR_STEP_MUTED;
-                return rowColor.isPresent () && this.useDawColors ? DAWColor.getColorID (rowColor.get ()) : COLOR_CONTENT;
+                    return this.getColorIndex (this.stepMutedColorHandle);
+                if (rowColor.isPresent () && this.useDawColors)
+                    return this.colorManager.getColorIndex (DAWColor.getColorID (rowColor.get ()));
+                return this.getColorIndex (this.contentColorHandle);
 
             case CONTINUE:
                 if (highlight)
-                    return COLOR_STEP_HILITE_CONTENT;
+                    return this.getColorIndex (this.stepHiliteContentColorHandle);
                 if (isEdit (channel, step, note, editNotes))
-                    return COLOR_STEP_SELECTED;
+                    return this.getColorIndex (this.stepSelectedColorHandle);
                 if (stepInfo != null && stepInfo.isMuted ())
-                    return COLOR_STEP_MUTED_CONT;
-                return rowColor.isPresent () && this.useDawColors ? DAWColor.getColorID (ColorEx.darker (rowColor.get ())) : COLOR_CONTENT_CONT;
+                    return this.getColorIndex (this.stepMutedContColorHandle);
+                if (rowColor.isPresent () && this.useDawColors)
+                    return this.colorManager.getColorIndex (DAWColor.getColorID (ColorEx.darker (rowColor.get ())));
+                return this.getColorIndex (this.contentContColorHandle);
 
             default:
                 if (highlight)
-                    return COLOR_STEP_HILITE_NO_CONTENT;
-                return step / 4 % 2 == 1 ? COLOR_NO_CONTENT_4 : COLOR_NO_CONTENT;
+                    return this.getColorIndex (this.stepHiliteNoContentColorHandle);
+                return this.getColorIndex (step / 4 % 2 == 1 ? this.noContent4ColorHandle : this.noContentColorHandle);
         }
     }
+
+
+    /**
+     * Get the color index which is registered with the key of the given handle.
+     *
+     * @param colorHandle The handle of the color
+     * @return The color index
+     */
+    protected int getColorIndex (final int colorHandle)
+    {
+        return this.colorManager.getColorIndexByHandle (colorHandle);
+    }
 }
\ No newline at end of file